@@ -0,0 +1,38 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the dash manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DashManifestBenchmark {
+
+    private byte[] dashManifest;
+    private StreamExtractor extractor;
+
+    @Setup
+    public void setUp() throws Exception {
+        dashManifest = Fixtures.bytes(Fixtures.DASH_MANIFEST);
+        extractor = new StreamExtractor(null, null, ExtractorLog.NONE);
+    }
+
+    @Benchmark
+    public ItagArray<YtFile> parseDashManifest() throws IOException {
+        ItagArray<YtFile> ytFiles = new ItagArray<>();
+        extractor.addDashFiles(DashManifestParser.parse(new ByteArrayInputStream(dashManifest)), ytFiles);
+        return ytFiles;
+    }
+}
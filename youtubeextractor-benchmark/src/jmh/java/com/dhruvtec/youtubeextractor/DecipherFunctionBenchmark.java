@@ -0,0 +1,59 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction of the deciphering functions from the player js, their compilation and
+ * deciphering a typical set of signatures with the compiled program.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecipherFunctionBenchmark {
+
+    private String playerJs;
+    private SignatureDecipherer decipherer;
+    private String[] functions;
+    private DecipherProgram program;
+    private ItagArray<String> encSignatures;
+
+    @Setup
+    public void setUp() throws Exception {
+        playerJs = Fixtures.joinedLines(Fixtures.PLAYER_JS);
+        decipherer = new SignatureDecipherer(null, null, null, ExtractorLog.NONE);
+        functions = decipherer.extractDecipherFunctions(playerJs);
+        program = DecipherCompiler.compile(functions[0], functions[1]);
+        encSignatures = new ItagArray<>();
+        int[] itags = {5, 17, 18, 22, 36, 43, 133, 134, 135, 136, 137, 140, 160, 171, 242, 243, 249, 251};
+        for (int itag : itags) {
+            StringBuilder sig = new StringBuilder();
+            for (int i = 0; i < 81; i++) {
+                sig.append((char) ('A' + (itag * 31 + i * 7) % 26));
+            }
+            encSignatures.put(itag, sig.toString());
+        }
+    }
+
+    @Benchmark
+    public String[] extractDecipherFunctions() {
+        return decipherer.extractDecipherFunctions(playerJs);
+    }
+
+    @Benchmark
+    public DecipherProgram compileDecipherProgram() {
+        return DecipherCompiler.compile(functions[0], functions[1]);
+    }
+
+    @Benchmark
+    public String decipherSignatures() {
+        return program.decipher(encSignatures);
+    }
+}
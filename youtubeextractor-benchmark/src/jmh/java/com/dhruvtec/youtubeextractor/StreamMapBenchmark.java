@@ -0,0 +1,66 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of get_video_info and of the stream maps found on the watch page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamMapBenchmark {
+
+    private String videoInfo;
+    private byte[] watchPage;
+    private WatchPageScanner.Result scannedWatchPage;
+    private StreamExtractor extractor;
+
+    @Setup
+    public void setUp() throws Exception {
+        videoInfo = Fixtures.lines(Fixtures.VIDEO_INFO).get(0);
+        watchPage = Fixtures.bytes(Fixtures.WATCH_PAGE);
+        scannedWatchPage = WatchPageScanner.scan(new ByteArrayInputStream(watchPage), true);
+        extractor = new StreamExtractor(null, null, ExtractorLog.NONE);
+    }
+
+    @Benchmark
+    public VideoInfo parseVideoInfo() {
+        return StreamExtractor.parseVideoInfo("dQw4w9WgXcQ", videoInfo);
+    }
+
+    /**
+     * The stream loop for a video without ciphered signatures, including the pass
+     * over get_video_info.
+     */
+    @Benchmark
+    public ItagArray<YtFile> parseVideoInfoStreams() {
+        return extractor.parseStreams(StreamExtractor.parseVideoInfo("dQw4w9WgXcQ", videoInfo));
+    }
+
+    /**
+     * Finding the player config fields in the raw watch page.
+     */
+    @Benchmark
+    public WatchPageScanner.Result scanWatchPage() throws IOException {
+        return WatchPageScanner.scan(new ByteArrayInputStream(watchPage), true);
+    }
+
+    /**
+     * The stream loop for a video with ciphered signatures taken from the watch page.
+     */
+    @Benchmark
+    public ItagArray<YtFile> parseWatchPageStreams() {
+        return extractor.parseWatchPageStreams(scannedWatchPage.streamMap, scannedWatchPage.adaptiveFmts,
+                new ItagArray<String>());
+    }
+}
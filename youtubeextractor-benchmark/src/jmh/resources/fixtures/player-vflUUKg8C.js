@@ -0,0 +1,30 @@
+var _yt_player={};(function(g){var window=this;function ecj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fb4(c,{k:"v"})}Ncp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dtg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dke(c,{k:"v"})}function gh5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Moe(c,{k:"v"})}Bvz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ync=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rj0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pci=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ffa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.alf(c,{k:"v"})}Ls0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Or7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C0p(c,{k:"v"})}var Ncl={T5f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ytw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var h7g={Nx8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dnr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dmh(c,{k:"v"})}R45=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xsn={Bqv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};W3c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Yb5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ghe(c,{k:"v"})}U2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function huo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gp0(c,{k:"v"})}function yoe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E5d(c,{k:"v"})}jn3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Umw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S$d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rih(c,{k:"v"})}function D0k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wvo(c,{k:"v"})}Mkk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H5n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var U1p={pu1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lja(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Acc(c,{k:"v"})}var U6c={B7z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zg2={Fpf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a0n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fb4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qtk(c,{k:"v"})}Kb3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x3a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oey(c,{k:"v"})}var v7c={s1r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function N8n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yfv(c,{k:"v"})}d6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ncx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xl9(c,{k:"v"})}Jni=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Eno={uwr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Brd={exw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function G7h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E88(c,{k:"v"})}Cxe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lse=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j5j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var R8i={Ew0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pbs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.meb(c,{k:"v"})}var o7v={Avu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Q79={C3t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ytk={Yqo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sdj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ws3(c,{k:"v"})}function Nk8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sll(c,{k:"v"})}function Sjk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.phc(c,{k:"v"})}Ki2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tcu={wjx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function k8t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hbz(c,{k:"v"})}function Xj3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uja(c,{k:"v"})}function I6v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ps4(c,{k:"v"})}W$j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h4c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zo2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pm7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var I2f={Gzm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};M6d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bxy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function t29(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fn2(c,{k:"v"})}A2s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lfj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nt4(c,{k:"v"})}Hve=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Or0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l93(c,{k:"v"})}var Wim={lys:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ctt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yaj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qs0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wr5={ex4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function q4h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x6b(c,{k:"v"})}kdj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};drx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var He6={mlg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var k8u={utr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Sxg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hsx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kgn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j6o(c,{k:"v"})}var Y97={I9h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ehi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xi2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tbh={oij:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tin={if1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yhe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gc6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function qce(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tag(c,{k:"v"})}Mnm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Vrw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wk6(c,{k:"v"})}function Np6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Keg(c,{k:"v"})}Wa7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W8a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ugn(c,{k:"v"})}var T4x={Sl2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var glw={y1n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ahu={h3h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fxs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hys=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function As1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.me4(c,{k:"v"})}xla=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hfh={jzz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gke=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zho(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B5r(c,{k:"v"})}function Xrz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w4z(c,{k:"v"})}Grj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F5o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};de5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ruj={tge:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var H53={ms5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};q8v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wc1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var y23={ccl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xtk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var y5h={K59:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};K44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};q5y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bci(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xwb(c,{k:"v"})}function Ovy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g1w(c,{k:"v"})}function Qpp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ptf(c,{k:"v"})}var eth={vkb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};c31=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S4b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g5g={Snv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zvk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ntx(c,{k:"v"})}m5e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function t$z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zof(c,{k:"v"})}var Lgv={re7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nwe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pt6(c,{k:"v"})}B8u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function G39(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lb7(c,{k:"v"})}function K5n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q3r(c,{k:"v"})}var I1d={Hmx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pjt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B0u(c,{k:"v"})}en0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mpz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var pt3={F91:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cmk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zr9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lc5(c,{k:"v"})}function dfu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mte(c,{k:"v"})}Axf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var V6h={H7q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fph(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xuv(c,{k:"v"})}Vyp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nr2={Aqd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xhu={I14:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rjx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mcd={Spq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};txh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zqt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};k2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function f54(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V0v(c,{k:"v"})}var gkq={Gew:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U9u={Dbd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var l2i={azm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var u$f={hkp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xi0={Yu2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Viq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Axl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b9o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kdz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function xkh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a71(c,{k:"v"})}function D5h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.onm(c,{k:"v"})}Yrs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nns=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Yjb={sqp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};px3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uzn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ty1(c,{k:"v"})}qeg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p4w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nyt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zxi(c,{k:"v"})}var Jcl={qk6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var v3i={fu7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qhu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ci5(c,{k:"v"})}var rx1={sqq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bku={V5j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q2d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c4q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fc2={w95:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hjh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wfn(c,{k:"v"})}var lk6={r$n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a7l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aep(c,{k:"v"})}Rgv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lgu={jbf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T43=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var dsu={Zde:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Myf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xzf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zsj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ht5(c,{k:"v"})}var Vti={wgx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F2y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bxl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v3o={Pj5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};P7f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Z4t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jit(c,{k:"v"})}H1s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c6g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q$q(a,b,c){var d=a.split("."
+);c=c||{};for(var e in d)c[e]=d[e]+b;return g.wqf(c,{k:"v"})}bh3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Atu={L32:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qvl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nlf(c,{k:"v"})}Mqg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hak={P43:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Q5t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nxz(c,{k:"v"})}function fii(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.amh(c,{k:"v"})}var Smb={n4j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B8m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Bbh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kj2(c,{k:"v"})}Eb2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zdv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ag1(c,{k:"v"})}var F9s={c5z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};L5o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ku9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.er0(c,{k:"v"})}h5w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Um4={w2o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lv3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.isy(c,{k:"v"})}Rx4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vf4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fg0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dbw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Gce={v1h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function h9o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fqv(c,{k:"v"})}var Xc9={rj6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function gd2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z3h(c,{k:"v"})}function Yg9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.khn(c,{k:"v"})}function ks2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W65(c,{k:"v"})}function gjx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vih(c,{k:"v"})}C0a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kfr={x0x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pj7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aoi(c,{k:"v"})}var A03={Hxb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xa7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xk1={dzc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Pjd={O7s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};R9t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r7j={Sz2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I2w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zzm(c,{k:"v"})}var fc8={vyi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Isn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function b8q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pt1(c,{k:"v"})}hdx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wh2={t$a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};p$8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q$i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ty7(c,{k:"v"})}var gu7={Lmx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var j10={ffd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var i4n={Cex:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var z97={Xzq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function O12(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S50(c,{k:"v"})}function j6i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F3i(c,{k:"v"})}function Sn3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Eck(c,{k:"v"})}var xh0={hhx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c7j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hxt(c,{k:"v"})}function ts5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bjj(c,{k:"v"})}function Adt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.snl(c,{k:"v"})}function Fah(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jwe(c,{k:"v"})}function A4t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K2v(c,{k:"v"})}var Eii={G32:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};juf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zv8={c2r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kbt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function N8d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K7m(c,{k:"v"})}function Gbh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q8l(c,{k:"v"})}function rnp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T2f(c,{k:"v"})}function Muz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lc5(c,{k:"v"})}function bv1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l0b(c,{k:"v"})}var uyq={fhg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};sjl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Akd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var dty={guj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uqy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mp5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G6y(c,{k:"v"})}rdu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function b0o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.br9(c,{k:"v"})}Rgp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A2f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O6n(c,{k:"v"})}function jx8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kp8(c,{k:"v"})}var J2c={a3s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function kad(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Erq(c,{k:"v"})}ywn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var V8e={tfz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function i9r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bn6(c,{k:"v"})}uvq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uvn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dvb(c,{k:"v"})}var ia4={aal:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var S5z={Ife:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q2h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xah={Dxm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};obr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nto=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fna(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mzh(c,{k:"v"})}var K65={k9m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};K$l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ko7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Urm(c,{k:"v"})}function R93(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a1d(c,{k:"v"})}var u10={rh7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};x7c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};A82=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function f$b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vo1(c,{k:"v"})}var pmk={vte:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function gb4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bbv(c,{k:"v"})}function pg4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pvd(c,{k:"v"})}var Hpe={X2g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lhf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sei=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};O1e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yzg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N0o(c,{k:"v"})}function Ya3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y31(c,{k:"v"})}var Ngv={Pb3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lmg={gae:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};m$i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E2l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var t16={Pwt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ijj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function a7j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dp6(c,{k:"v"})}var Jd1={wmm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mev={m43:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v$v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g3c={Foa:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var So3={Nnp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Xvy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nzl(c,{k:"v"})}var axa={ewb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function js2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mxc(c,{k:"v"})}function mms(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.loq(c,{k:"v"})}v9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qgb={Riy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hvn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xk7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};imm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bpc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jup(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dri(c,{k:"v"})}function L5n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uf4(c,{k:"v"})}Nek=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var H3l={ux7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T54=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var m2p={znt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};y$k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wfs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var c36={Nv1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B0x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bl2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fs6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G8f(c,{k:"v"})}var ogh={exc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vmv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mi8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wzz={La4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wjz={oon:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H93(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U3v(c,{k:"v"})}var um1={X0n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jbx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Va5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bz8={tub:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cij(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v$z(c,{k:"v"})}var nze={Iym:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v$2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R9l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var eys={nos:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e3d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Azk={hi8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vey=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T4k={M$t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var G3r={maj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zp7={v$5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Kcf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s3w(c,{k:"v"})}Ttz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N13=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cpk={r8s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function en5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A9h(c,{k:"v"})}var eg6={Xu0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qn6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S3y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var aqh={Tiu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var D53={ef9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T2i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bgl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sh8(c,{k:"v"})}var kea={Rrj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lnc={R8n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};d7g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ady=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function pmf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b0b(c,{k:"v"})}function vme(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ogk(c,{k:"v"})}var c06={guu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mn8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var gwu={laz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ayn={Doe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function rxc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t5g(c,{k:"v"})}function Y$k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qgu(c,{k:"v"})}function Syi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vlu(c,{k:"v"})}Q4e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Oo6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wht={p1p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dix=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ncp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uc7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y0s(c,{k:"v"})}ovv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qpo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cae=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jni(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fl9(c,{k:"v"})}np6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ump=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function K2m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r4f(c,{k:"v"})}var xzy={k42:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function N1j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y4b(c,{k:"v"})}var Bft={M8j:function(a){return a
++1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lqy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J4e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var maa={Gx5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Azx={y5t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Le0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.chy(c,{k:"v"})}function km1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qw6(c,{k:"v"})}function Oxd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Py1(c,{k:"v"})}p4c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Djq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fyz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tf7(c,{k:"v"})}function Bk1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qt6(c,{k:"v"})}Qyt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kwj={rnz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ak5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.age(c,{k:"v"})}A70=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xli={m5l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function h2n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lmd(c,{k:"v"})}function Zmq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A2g(c,{k:"v"})}kfs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vbp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rac(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gn7(c,{k:"v"})}var y7r={F4v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var vxv={upx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ydw={vga:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Szi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Spx={C46:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function mau(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bxc(c,{k:"v"})}function Vu2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o5z(c,{k:"v"})}function Yfw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B4g(c,{k:"v"})}smj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fft={k2h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ipp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tbk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qi8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O5f(c,{k:"v"})}function voe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pvy(c,{k:"v"})}Vy9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sfh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fvm(c,{k:"v"})}var h$x={iuy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function atd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L8m(c,{k:"v"})}var Bux={Zi7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Log(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.za8(c,{k:"v"})}ujs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var sjc={Mut:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Shr={T$4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function n5s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tyd(c,{k:"v"})}function vjn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xl5(c,{k:"v"})}var tkb={Jzv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ewz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ze7(c,{k:"v"})}sm9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ydt={Dki:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Esj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nnm(c,{k:"v"})}function axg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rjy(c,{k:"v"})}Bkd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dh6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pv1(c,{k:"v"})}Ozp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tly(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xf3(c,{k:"v"})}Pyr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hfh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};K$4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};P1t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T8l={zbz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I75(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e78(c,{k:"v"})}function Yhn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qhl(c,{k:"v"})}Sla=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var i$n={Pkf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wcf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ik1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hs8={Ci5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hw8={Gng:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cpc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mjt(c,{k:"v"})}ni9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N1e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kz3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fq1(c,{k:"v"})}function j8n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.erm(c,{k:"v"})}function K6k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aju(c,{k:"v"})}Byb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ih9={Aev:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xvr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yoy={ghl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hws(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jrg(c,{k:"v"})}var kuy={lw8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function z4i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qa6(c,{k:"v"})}Qij=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Uxp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w36={sr1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Tot={Oft:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uff=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dfs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J5a(c,{k:"v"})}var B6i={E56:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function R8h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zam(c,{k:"v"})}Va1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var V7c={M2k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function W7o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lex(c,{k:"v"})}Gwd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hvp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sqn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};t6c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N3v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ulz={wag:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mf7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Faj={Xqo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xtx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bl8(c,{k:"v"})}function g22(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kiw(c,{k:"v"})}awm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z0v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ckm(c,{k:"v"})}var Qrh={A59:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Riu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wz6(c,{k:"v"})}Vyi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w6a={Xpd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v1a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f1p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rhq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Tg6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nlm(c,{k:"v"})}Ljo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mj1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bmf(c,{k:"v"})}y07=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ed6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xrw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dlc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Erg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Blq(c,{k:"v"})}var xvt={hga:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xiv={xx7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};prn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pmm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ivt={U4m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jci(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m09(c,{k:"v"})}function W9w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x2h(c,{k:"v"})}e40=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ris(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c$d(c,{k:"v"})}function Smz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F86(c,{k:"v"})}var k26={y9y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var rnl={akn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a63=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};osr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ips(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cjr(c,{k:"v"})}rdp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wxu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.f9q(c,{k:"v"})}Asu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rlq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b8g(c,{k:"v"})}function Syq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O9n(c,{k:"v"})}var our={nzj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U1x={j4f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dll(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m$5(c,{k:"v"})}function lsb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tkl(c,{k:"v"})}Rme=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pzg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U7i(c,{k:"v"})}Zag=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};aci=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Oaa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yg8(c,{k:"v"})}function vfm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i42(c,{k:"v"})}var tv4={jpd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var r8h={bcg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};g60=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Byj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wso(c,{k:"v"})}Ryh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};swe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fcj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l1j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gr5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qxq(c,{k:"v"})}Tea=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function C4e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h$1(c,{k:"v"})}function rjf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uil(c,{k:"v"})}var wu5={B40:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ovi={Zpy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var F88={oyf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};A7o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nbx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J4i(c,{k:"v"})}var dwx={Xis:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J0p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nod(c,{k:"v"})}hjy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sge=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jfp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var l4i={V7t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uv2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dcl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};B39=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};o1k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};inz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V9e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pzy={kdx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mrg={gex:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var sk8={gen:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wtm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f$c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fta={wsz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var uzw={igv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var V6g={Gjb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var y4c={skj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ffo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.njk(c,{k:"v"})}function G77(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xv2(c,{k:"v"})}function vsx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N1c(c,{k:"v"})}var Xyp={nej:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fga(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jt9(c,{k:"v"})}Zf5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ske=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function el3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q4q(c,{k:"v"})}Cih=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sz0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nux={f06:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rcd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gsy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k$z(c,{k:"v"})}var oy3={Qfw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function P83(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gfl(c,{k:"v"})}z
+1m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};M5n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c8j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cyd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zx1(c,{k:"v"})}ndn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lfj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T20=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};df1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A44(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w$y(c,{k:"v"})}var Jme={Uju:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Uua={j3j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function uh0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q7a(c,{k:"v"})}var i2g={cnm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Iky(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nwn(c,{k:"v"})}R$a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var t6h={S53:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ww8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var l31={Mk8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function s1s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sgf(c,{k:"v"})}var gfb={N0g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var W8g={O26:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cs0={no3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hm4={hw3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pza=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qqt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Aca(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bjx(c,{k:"v"})}Huv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zmz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Oyl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ogi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ghz(c,{k:"v"})}Oq9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var b1a={Ojb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ify={bi3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xwl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pyq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jbg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lfe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fb0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ayu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var alc={hvw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function N8a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k7q(c,{k:"v"})}function mb8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b76(c,{k:"v"})}nxh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fir(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r4m(c,{k:"v"})}var w9s={D51:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zmq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lmr(c,{k:"v"})}var gtk={Yn5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var C1r={ugy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kwx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var c6q={L0s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};P7w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};u1l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xxj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sav(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n3u(c,{k:"v"})}Jey=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jre=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};umm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r0h={h2k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lyp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Y$a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dsi(c,{k:"v"})}var zc8={Hcv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e4g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wwz={f9u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dzt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S35(c,{k:"v"})}function hxg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bod(c,{k:"v"})}igu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mx8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.adq(c,{k:"v"})}chd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nyr={Ski:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hiu={j02:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H7p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K45(c,{k:"v"})}function u4o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fqs(c,{k:"v"})}w9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fdn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.an3(c,{k:"v"})}var m5g={vn7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ut3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};iox=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zme={r1k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kgj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dlr={b47:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qh9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var z61={Gvd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xgd={msm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Mr7={M57:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rdp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c$r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ozz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zgo(c,{k:"v"})}Sr5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ssa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gl6(c,{k:"v"})}N4t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ekl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v3j(c,{k:"v"})}function Q41(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vbl(c,{k:"v"})}var eka={Mw4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fp4={hcb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function so7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gkj(c,{k:"v"})}function gtv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C5w(c,{k:"v"})}function q5q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wtv(c,{k:"v"})}X4h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Aoj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function V1x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nfm(c,{k:"v"})}function ygr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O82(c,{k:"v"})}Hlq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Art(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mc7(c,{k:"v"})}Nh1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function a5j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dj7(c,{k:"v"})}N9k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sa3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cns(c,{k:"v"})}hd5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y69=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Um1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ewp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var gqt={Mtl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rui=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jmt={tft:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};O38=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};D00=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X0f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wit(c,{k:"v"})}L6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ziz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qa3(c,{k:"v"})}function H3d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fdr(c,{k:"v"})}var Pgv={Mgs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Svd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h6d(c,{k:"v"})}Hj9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rjt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ota(c,{k:"v"})}var Nmh={eaj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var png={Eb6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dht(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.z4l(c,{k:"v"})}Iq2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var blj={Vpk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};S8m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g5x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zg3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dhy={atc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Q2c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wi3(c,{k:"v"})}function Dra(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kw6(c,{k:"v"})}var Gnw={T7y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ljw={P$v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yir=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P4y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.El6(c,{k:"v"})}var Hqi={Suw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zec=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g54=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ly0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ve2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wxb(c,{k:"v"})}ug2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};q52=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var k17={Zmf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ogn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A$8={evl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U75={mn4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w9i={Ze2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yef=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fod=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sqy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Twe(c,{k:"v"})}function kse(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I$p(c,{k:"v"})}var N6t={zd8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};h4q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qmv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uvd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p5e(c,{k:"v"})}function Kcw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e0f(c,{k:"v"})}Eir=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gow(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B4t(c,{k:"v"})}var obd={bm8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function yb9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Edy(c,{k:"v"})}Si1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Chx={wmv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dpo={fao:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function W8c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zap(c,{k:"v"})}edi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wps={iz4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qee={q8n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vwo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ctx(c,{k:"v"})}var sp7={ru8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dw0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i7o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ujc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p23(c,{k:"v"})}b5c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ny5={byy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ony=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tc8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wwb(c,{k:"v"})}Wvq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N11={Ydg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Us8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function y3p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iar(c,{k:"v"})}rfp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zcr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xrq(c,{k:"v"})}function Zah(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t$u(c,{k:"v"})}var l23={b2a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w49={n0d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fr9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xrq={Fio:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jdo={hcl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Cuc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jod(c,{k:"v"})}function qqb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rw8(c,{k:"v"})}var Mpw={ge6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Gep(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nux(c,{k:"v"})}R0e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uxv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ax4(c,{k:"v"})}function sbk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xcs(c,{k:"v"})}var Lbg={Mnu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var X6w={nyc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jyf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eo6(c,{k:"v"})}function O90(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ih7(c,{k:"
+v"})}function M47(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rms(c,{k:"v"})}function vpx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o3u(c,{k:"v"})}hp2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J6e={x4o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ip0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Riq(c,{k:"v"})}var vuh={f00:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function j$5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oml(c,{k:"v"})}function akh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aq9(c,{k:"v"})}var Egi={c1b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ei6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vgc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ew2(c,{k:"v"})}function O21(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s4i(c,{k:"v"})}var U6f={jax:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dyu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cl6(c,{k:"v"})}rgo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H76=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wlj={cn1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kug=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r52(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oks(c,{k:"v"})}qgo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J6k={bc8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ma5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};K12=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hh2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function irh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wfo(c,{k:"v"})}var uk6={vr3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Geu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c1g(c,{k:"v"})}function Y7u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m9c(c,{k:"v"})}var Oap={iyo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};q4j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Una={Be5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var nlc={Aqy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pw4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hlt(c,{k:"v"})}var s55={Yzw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sgo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hs0(c,{k:"v"})}function up1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hl3(c,{k:"v"})}var Qhw={X45:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rpb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Y0d={Juq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Az2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bzq(c,{k:"v"})}var r5o={vct:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function o$k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Inh(c,{k:"v"})}function Nvi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M8b(c,{k:"v"})}function byf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xvw(c,{k:"v"})}var Jed={Hnx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function k8z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tos(c,{k:"v"})}function xv0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n9p(c,{k:"v"})}function cb7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g6z(c,{k:"v"})}var cks={tbo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Spc={rhy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function irf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ee6(c,{k:"v"})}W0b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lzm={Mtu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vbt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};P$4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A9r={Es8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function yb5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uzx(c,{k:"v"})}Tg2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var o2x={E$g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vjf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jz4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fq0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S$0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.arn(c,{k:"v"})}Y58=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T46={Jfg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var eyi={Wak:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hkm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Chc(c,{k:"v"})}var Fk7={Fi9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ash={Bsr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Nxk={js7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zx7={Mq4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vik=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lj4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eat(c,{k:"v"})}mg8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};w9o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Btx={Nzq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pme(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ljg(c,{k:"v"})}Kgi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xr4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nka(c,{k:"v"})}function nfj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jk4(c,{k:"v"})}var ued={i62:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Eut={Ghp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yy4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fnk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Orj(c,{k:"v"})}var J25={Sqh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bwl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bx3(c,{k:"v"})}w1n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lam=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ltv={gxq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};arc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sqr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Odb(c,{k:"v"})}function E35(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l48(c,{k:"v"})}function cxb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Njl(c,{k:"v"})}var if0={hd2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dug={Irm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vbv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ruk(c,{k:"v"})}function Lx7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.az0(c,{k:"v"})}function Qde(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m6j(c,{k:"v"})}var fl2={crm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ala=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v3f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function flf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lub(c,{k:"v"})}Yan=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Upt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ysl={riu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mrm={lsq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qf5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wxw(c,{k:"v"})}var H2k={cyj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};n1w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};G9r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dqc={h7l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dux=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gwa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pgl={wtk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function lb2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z31(c,{k:"v"})}var Epq={Uxv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ztc={o6g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lbk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gkt(c,{k:"v"})}var S7m={Kii:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ydf={tjw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function k3a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qjm(c,{k:"v"})}var ttf={lpn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Upj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kwg={E9z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ey3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uiz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xus(c,{k:"v"})}var U1z={Iew:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vbo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v6a={Nze:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var i5m={cnt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vyl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R4c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var R7g={Dfw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gza={kui:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function y3a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fz1(c,{k:"v"})}var t1q={Vh2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function X4v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ixh(c,{k:"v"})}B8y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tqm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sch=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mxq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bvs(c,{k:"v"})}var b8r={lsw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Cut=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var c8z={plf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ij5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Brw(c,{k:"v"})}Sp7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xcj={Mgy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ufv={Ot1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lqf={Bhm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};t68=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var En1={rlr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};czl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nb0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mug(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oob(c,{k:"v"})}var oes={U30:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v8y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uw2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Sky={qzc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kf5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hxt={su2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bjk={Nw1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wbs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Iiy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nhs={lkz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wn0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mru(c,{k:"v"})}Ogu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z53(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s2k(c,{k:"v"})}function lzs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a8v(c,{k:"v"})}var Plg={y00:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Obo={i6f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U0b={upk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Efx={by9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mk3={xpl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Tmu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ise(c,{k:"v"})}function n$3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dp2(c,{k:"v"})}function Yl3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ghv(c,{k:"v"})}function kp3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uea(c,{k:"v"})}function R07(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Eye(c,{k:"v"})}var q8h={T8b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uds=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T62=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qhk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p4n={qgv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e35=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var S2v={Y2q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mci=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x$x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tst(c,{k:"v"})}k$t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zij=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var obn={Ltj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qx6={V7z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var kwj={L6u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var y5k={H4l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yae=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var jrh={Pmw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ka7={omx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zgv={Ger:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var I8f={Zd2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ppq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T3l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vme=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};W43=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Oem=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ln5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L1h(c,{k:"v"})}var Cm3={aq0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Flv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ptq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function J6t(a,b,
+c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O2h(c,{k:"v"})}var l5a={u64:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function le1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rtg(c,{k:"v"})}function Cv8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lmg(c,{k:"v"})}var nt6={tu7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rtn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xzk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kku(c,{k:"v"})}function E0r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oq4(c,{k:"v"})}function txj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tvw(c,{k:"v"})}function u2t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B$z(c,{k:"v"})}function azd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Awi(c,{k:"v"})}var Xrb={Tmn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qsx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bu1(c,{k:"v"})}var u99={Vmn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Crg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E4c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Myd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x2s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h4i(c,{k:"v"})}var eu0={jjt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Jf2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pu8(c,{k:"v"})}function q97(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sbi(c,{k:"v"})}eux=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Do3={xvm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tqq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A1z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z5d(c,{k:"v"})}function b$1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c6u(c,{k:"v"})}var Fsv={Oee:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jh8={k6f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Dme={X1r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vjv={elv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};X1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yba=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ou8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dmw(c,{k:"v"})}T$j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gb8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var uon={mtk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ron=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Chy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C2z={mny:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hfl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.knh(c,{k:"v"})}function Vwu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Amn(c,{k:"v"})}Z6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dba(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y0z(c,{k:"v"})}function gwx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.te1(c,{k:"v"})}function Pto(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sfy(c,{k:"v"})}bru=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ai7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ji4(c,{k:"v"})}var dns={x0k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function l7j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vlx(c,{k:"v"})}var hkb={Fnt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xqu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ecj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};M7k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var of0={eh4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};iat=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Q8x={Ng4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Kmi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o6i(c,{k:"v"})}jof=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ngp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oql(c,{k:"v"})}var tv3={Q77:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bxj={Lcy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yml(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ajc(c,{k:"v"})}var pkz={ua4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wmz={Cn3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I2h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vr6(c,{k:"v"})}var vlq={v59:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gv7={qex:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function b8i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.go3(c,{k:"v"})}var h9s={iwt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jf6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rob={mw7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};j$7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var o7k={xkg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ooj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zsy={H04:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ita={eq9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ned=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kpz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mpw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zhj={n2j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wua=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function g4o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q2t(c,{k:"v"})}function I3j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.evr(c,{k:"v"})}var cyq={h31:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T5s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q51(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Adg(c,{k:"v"})}var rrq={O6v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qwf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fo1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qrg(c,{k:"v"})}var T59={M$y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qyc={Mgg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hpx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L0z(c,{k:"v"})}cw2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vgs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ab3(c,{k:"v"})}var qww={wpr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};du3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X9u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vzw(c,{k:"v"})}function l5f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vw8(c,{k:"v"})}out=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fly=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Z2x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hmt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G9s(c,{k:"v"})}Ilz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tzq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};iyg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var o2c={p9j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function rb5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oop(c,{k:"v"})}function Cnj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.asp(c,{k:"v"})}function N42(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A99(c,{k:"v"})}function m0l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hzy(c,{k:"v"})}function Txq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bxx(c,{k:"v"})}var wei={up8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function g64(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iug(c,{k:"v"})}var T9o={Drd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var C51={ekb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jdw={Eje:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var erq={Ub5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wiz={n2t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Rtv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o$6(c,{k:"v"})}var j8u={adw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Xee(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H0k(c,{k:"v"})}pll=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gzy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mow={Pfv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};g7q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xgk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ytb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z$x(c,{k:"v"})}function lm5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l8n(c,{k:"v"})}Kl2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cbc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iht(c,{k:"v"})}function gwl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L7k(c,{k:"v"})}function Fmj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nv3(c,{k:"v"})}Jy2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xjp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function d4g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hfu(c,{k:"v"})}var K$8={Hz8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sui(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cms(c,{k:"v"})}Bz1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var gu9={Eyt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ysd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hcm(c,{k:"v"})}var t$8={lud:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mw8={d16:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};l6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lou=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ynh={sap:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vly=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jpq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pr0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sa0(c,{k:"v"})}var yrm={X5q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ozc={S2i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};oeh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Iuk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ssq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ghz(c,{k:"v"})}var mf9={Fmi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};c44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ylf={Wep:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function x2j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cc6(c,{k:"v"})}function mnu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c$a(c,{k:"v"})}function vql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w3m(c,{k:"v"})}dzy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lmv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q2b(c,{k:"v"})}ep7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var udh={Re0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bku=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kdy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X$h(c,{k:"v"})}function Wc8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eb4(c,{k:"v"})}function Pys(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ry2(c,{k:"v"})}function p5q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w34(c,{k:"v"})}j38=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uly(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qkx(c,{k:"v"})}function Btj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c30(c,{k:"v"})}function Ioz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iwn(c,{k:"v"})}U22=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qzi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tmm={Ux3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};W0x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Eg8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P2t(c,{k:"v"})}var X0d={mnv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ky7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nyl={r$j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kmj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vi5={u7c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yef=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fuw={tex:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u24=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Z9k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N0k={J94:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rph=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ciy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var bx2={L$l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};b5w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function itz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jhm(c,{k:"v"})}var usf={xqm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hb5={ukd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Stq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V3f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nab(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tym(c,{k:"v"})}yyc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Z61(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Avi(c,{k:"v"})}Uq9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cfu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ghb(c,{k:"v"})}Zgp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kpf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eaa(c,{k:"v"})}function vej(a,b,c){var d=a.split(".");c=c||{};for(
+var e in d)c[e]=d[e]+b;return g.L3v(c,{k:"v"})}function ghd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tim(c,{k:"v"})}Tfa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fyu={O7m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Esd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.afl(c,{k:"v"})}function qj8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kmh(c,{k:"v"})}eml=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gsn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bqw(c,{k:"v"})}Haq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var W2a={Vfu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xeq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Z4x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vmo={Lkc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function A33(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uz3(c,{k:"v"})}function D2j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jy0(c,{k:"v"})}function Ojz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xa1(c,{k:"v"})}Qlj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z4j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zkt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M51(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bk5(c,{k:"v"})}var dwg={eu4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jp7={Fn0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tkv={Nhi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vxi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cx0={pnu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var u4r={Jvv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var iuo={Tpp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ebu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ggy(c,{k:"v"})}var Nuf={Mre:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Xmr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tjx(c,{k:"v"})}d4p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N49={jru:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u8m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dm7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};y1a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bb0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fx3(c,{k:"v"})}function j2y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jk2(c,{k:"v"})}gr3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Liu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bhd(c,{k:"v"})}var J4x={juy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var O1u={zlu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Wcs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u$c(c,{k:"v"})}di5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hkp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ave=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Azj={Jfn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hqo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Po4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cco(c,{k:"v"})}function ji6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uuy(c,{k:"v"})}Qzb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T09={ecm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var no5={awf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var x6k={znj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Osr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ps2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b26(c,{k:"v"})}function nlh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cyg(c,{k:"v"})}nmt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};doq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nlv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n5y(c,{k:"v"})}var Dzk={F49:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ype(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nga(c,{k:"v"})}var Nda={rat:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};U$k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function m1x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pbt(c,{k:"v"})}htj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ob4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function p39(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rrb(c,{k:"v"})}var Eej={nez:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bc5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function a$c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qer(c,{k:"v"})}Zrb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cac(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K19(c,{k:"v"})}function sxf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mx3(c,{k:"v"})}var Ikx={Qx9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var uw0={lzx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wsj={R58:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bfq={ivw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function C8k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cv6(c,{k:"v"})}function Ojv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iki(c,{k:"v"})}function Ynz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.f0h(c,{k:"v"})}Ic7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jko=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ux9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w0g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o3j(c,{k:"v"})}var Wma={Y6g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function etp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wzt(c,{k:"v"})}Igm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nle(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eq2(c,{k:"v"})}Bwz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nt1={N4c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c5u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wbq(c,{k:"v"})}var Zy8={Xg1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nw5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.byc(c,{k:"v"})}Wf4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ug3={yvp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ecu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Aga(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rib(c,{k:"v"})}var Ce6={l3r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var y8d={qh7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Csk={csv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rje=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yly=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R5o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function iib(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C5x(c,{k:"v"})}Bb7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ecr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fqw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ez6(c,{k:"v"})}var ihb={kfl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C8x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yl0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jti=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gah=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ziu={m44:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gly=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var i6j={We4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function e$k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p0x(c,{k:"v"})}function q0d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W1c(c,{k:"v"})}var Xzb={mxz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var oi4={N60:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wkp={M7s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xjc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pvt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iut(c,{k:"v"})}var E65={y9i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};f5v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rrs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function upm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wtm(c,{k:"v"})}function H0r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q1m(c,{k:"v"})}function Yis(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jun(c,{k:"v"})}L7l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yvl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Er3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};eqh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};D9r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var d15={Mg4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function uhi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lhx(c,{k:"v"})}var dce={rg9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ig1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vrs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};M$r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Juo={kyn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bkf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function p0o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p3k(c,{k:"v"})}var org={apt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function My2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nog(c,{k:"v"})}A22=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wrn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R51(c,{k:"v"})}var Hvu={b56:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Cnx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};znn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tso={y4b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kpe={Cby:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xyb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F12(c,{k:"v"})}f1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q4k={ko7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zmc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yxd(c,{k:"v"})}fkf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hq2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jsj(c,{k:"v"})}var rlo={Atk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ofd={Kls:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bkp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var grl={Ih3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xlj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ilp(c,{k:"v"})}var ukr={Gb6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dzi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ipx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lhp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kce(c,{k:"v"})}var ias={D75:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var z98={Uz7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Y$z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wq7(c,{k:"v"})}k65=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xth=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xbu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xj2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jbo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T3x={n3i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dpj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w3y={P1e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};w69=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vmt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b6n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zv3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z7h={W6c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};J$6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T2r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yrz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function im0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Km0(c,{k:"v"})}j19=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ekc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var k5h={f3v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function x4q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K99(c,{k:"v"})}var Vvu={Hj7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Zpo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gt5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uzd(c,{k:"v"})}function tqg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j9o(c,{k:"v"})}var op3={jg8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Az0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var k4e={Xud:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bj0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ebv(c,{k:"v"})}var htp={F5z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};z1p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Muy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Vaj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I15(c,{k:"v"})}Yjd=function(a,b){if(!a)return null;for(var c=0;c
+<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sxw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tvg={cfc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mkz={Fgr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};N7e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mqk={P6g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var osc={zvk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Z2w={Gts:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};z0p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Djj={cfd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hjg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cij(c,{k:"v"})}var svu={Lp4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h9t={Tn4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xkz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zqy={l53:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zu2={iu1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var W$l={akq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fvj={cip:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Frm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};axv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E6m={njv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function V6r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hz7(c,{k:"v"})}function Nm1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xc3(c,{k:"v"})}L9s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function b0e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E03(c,{k:"v"})}M$o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pco=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hoc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Bde(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zr8(c,{k:"v"})}var I0b={Gtd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ln8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q9s(c,{k:"v"})}var py9={Uvl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ma1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fvp(c,{k:"v"})}var bgi={Vqk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qq0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k1n(c,{k:"v"})}var xgs={t89:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ejh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ape(c,{k:"v"})}Yrl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var X83={Gh4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var rfw={lym:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qbf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H8m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};y1g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var m4e={Vo5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pxm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kwb={Qxv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var au3={fig:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Jhi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E59(c,{k:"v"})}Uvh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function I1s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cgd(c,{k:"v"})}Qiq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ae7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};t0b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fi7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qvu={hln:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fod(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rt9(c,{k:"v"})}f98=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zct=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function die(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gag(c,{k:"v"})}c4x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};L9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kgb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R6p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aa7(c,{k:"v"})}var Km5={Jpd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nym=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T0q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P5a(c,{k:"v"})}Sil=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xy={Lo:function(a){a.reverse()},VG:function(a,b){a.splice(0,b)},ip:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c}};var cop={Vce:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var inr={h$a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tha=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jjh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hr2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wmp={F5r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qa1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dkd(c,{k:"v"})}d37=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sjs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rl1(c,{k:"v"})}E7e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function o2m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sr4(c,{k:"v"})}rk4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p5y={o96:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jhr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gr7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kgp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W97(c,{k:"v"})}O57=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var S90={Kva:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lgt={U1q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rmz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Emp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wp8={v5o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jbe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cn3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J2i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cqa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L0h(c,{k:"v"})}function P2n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nhf(c,{k:"v"})}var Y8p={c4r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qa5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gor(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a1w(c,{k:"v"})}function W29(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Skb(c,{k:"v"})}function O$b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lko(c,{k:"v"})}Ulm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};d2o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Unx={jek:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var akx={c8l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Agf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ag1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.okr(c,{k:"v"})}T97=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var M8n={C1l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Y2r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uqn(c,{k:"v"})}function Zbm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fhi(c,{k:"v"})}function o8h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J4z(c,{k:"v"})}function Lid(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hl8(c,{k:"v"})}function Zip(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.d68(c,{k:"v"})}var p89={fv7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fni=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};U8f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rvb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cab(c,{k:"v"})}function Sbb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fuk(c,{k:"v"})}function Zff(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sm4(c,{k:"v"})}function g28(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pxd(c,{k:"v"})}var Vbj={wuy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Y6s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ij8={Es5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xej={ls6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cuy={Ec6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bcd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ovf={x7r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zyh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p0j(c,{k:"v"})}Gou=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function k$y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uc9(c,{k:"v"})}var O4d={Anp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function N93(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nwb(c,{k:"v"})}X7l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dhz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q7h(c,{k:"v"})}function Oql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J45(c,{k:"v"})}var p7m={ym7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zrp={jej:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Nsk={H$t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function kbp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aix(c,{k:"v"})}H1n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cys=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wxs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.clz(c,{k:"v"})}var Ils={mbf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var t0r={s67:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bog={xp9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hlr={vi3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Sdv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.csd(c,{k:"v"})}spn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hqu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Thz(c,{k:"v"})}var Zjg={fg3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Uh8={dmp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Om5={niz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function oc0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cef(c,{k:"v"})}N65=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};G09=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lnb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ah9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yv4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O5q(c,{k:"v"})}Mh0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ywi={det:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Zh7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};soo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bi0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mkk(c,{k:"v"})}M6j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v0e={fqc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Usi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H80(c,{k:"v"})}var Xvp={Bc7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hi1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xbc(c,{k:"v"})}function d7n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xyz(c,{k:"v"})}fby=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Vng(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lnq(c,{k:"v"})}var G9l={B$g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function F19(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pjn(c,{k:"v"})}function qsc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hpt(c,{k:"v"})}a72=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E97=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pxh={dgx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Sbd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gxe(c,{k:"v"})}var s$l={b2q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function kz0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X$y(c,{k:"v"})}function Qs9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P3f(c,{k:"v"})}var sj8={Yxy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kpj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X6t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kml(c,{k:"v"})}var glo={sj1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jd0={Nb9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zh3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P2l(c,{k:"v"})}var t9o={Hou:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mxp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hi9(c,{k:"v"})}function saw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ahj(c,{k:"v"})}var K1v={b9j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ww8={Rj1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var f9y={Kyw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ena=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rjm={Z7u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Whq={mrz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pt6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rcb(c,{k:"v"})}var k4o={aa6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zye=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mvb={dey:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nrf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Al7={m20:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dxo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F22=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Uz0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jf5(a,b,c){var d=a.split(".");c=c||{};for(var e
+ in d)c[e]=d[e]+b;return g.U4y(c,{k:"v"})}k$e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H8q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ofi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zg3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kgf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var o1p={Gui:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};I$w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function e8s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tqd(c,{k:"v"})}var kud={jzs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var g1r={sdp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rqg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q6k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lea(c,{k:"v"})}Of5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mq7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function F2o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W1o(c,{k:"v"})}var Iph={Gl8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function u0b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vo2(c,{k:"v"})}var b58={Rh3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dz5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pz7(c,{k:"v"})}var Way={Ijf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var klo={Owu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fzx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.av8(c,{k:"v"})}var gqz={Kje:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xle={Kiu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dc9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function N8s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y8b(c,{k:"v"})}var icv={Zco:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};I1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mv6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};C86=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var lp8={z2y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ilb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ee3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function j$1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G5j(c,{k:"v"})}iu7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Haz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Srb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kcb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ilv={l7z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zmi={wsl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Oi8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V$r(c,{k:"v"})}var om8={Kgv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qfu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l8v(c,{k:"v"})}var Elv={ykk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Loo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gg9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};P57=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nu5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mth(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R6e(c,{k:"v"})}var h44={kdm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Tvp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rcf(c,{k:"v"})}var nzt={fus:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uum=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};n04=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function B2u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cbr(c,{k:"v"})}function jgs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xfc(c,{k:"v"})}var l3y={N7h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};H49=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function xip(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G79(c,{k:"v"})}function wzk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iv9(c,{k:"v"})}var Z10={du6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function W28(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Crt(c,{k:"v"})}var i5v={Gvr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v1x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ith=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var acc={jtx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Loe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pih(c,{k:"v"})}var uen={auv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hn1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s77={Nyy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var T5j={C2s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jai(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e7n(c,{k:"v"})}function l8g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vim(c,{k:"v"})}var imj={Pat:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dya={f7p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fkn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ik4={z7f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};llw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};x9r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kcu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jf6(c,{k:"v"})}function Q3y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q9p(c,{k:"v"})}var zd9={l2h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var le3={Rnm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tnl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function K$n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V0k(c,{k:"v"})}U1u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jjp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kux(c,{k:"v"})}nu9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};U35=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var b$v={qq5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uhl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l2e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var M37={Fhn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ui9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zgi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yxz(c,{k:"v"})}function Ud9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mlc(c,{k:"v"})}q95=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nx6={wlp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zdc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mbr(c,{k:"v"})}pyf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ewk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j$k={ftm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var P6m={dma:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Efn={R5f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hjz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kh3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mfh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lch=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v72=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Km1={yvn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ql3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wsl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jz7={iva:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function uij(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ibm(c,{k:"v"})}function xwy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yea(c,{k:"v"})}function n$w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i5b(c,{k:"v"})}var o3h={jrm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};w9u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};inb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ed1={hxk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var J5r={dkd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uf1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function is7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uqk(c,{k:"v"})}Rao=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hbx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yte=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q4g={iq3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hc9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V09=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wf5={c8a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zx2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gjb(c,{k:"v"})}var gvd={Dfm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pd3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dsx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zzl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Blw={I7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};avm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z2q={jfw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cdr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vbe={Yhd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function F3h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qcb(c,{k:"v"})}function qp8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X9e(c,{k:"v"})}Kra=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lcq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N6c(c,{k:"v"})}var t5z={Y75:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pem(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.D2h(c,{k:"v"})}function y9s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g0y(c,{k:"v"})}var jn5={sd5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rpo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function V6s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L$h(c,{k:"v"})}Tqk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};d63=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dkb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oqg(c,{k:"v"})}var Ifp={x$6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function X2j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hf2(c,{k:"v"})}U86=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e8z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w76(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vo2(c,{k:"v"})}function x2a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ild(c,{k:"v"})}var q8c={A4u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};flm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zff={Rrk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var B96={j3z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q4d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hqf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var c59={Ppl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};R99=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X3z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lsc(c,{k:"v"})}function Asy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y8p(c,{k:"v"})}N1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e2a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jkw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Iia=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z86=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qz4={j72:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nef(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ten(c,{k:"v"})}function hpw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qkn(c,{k:"v"})}gon=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pcq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vbk={xrt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qhg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Buc(c,{k:"v"})}var Ssr={b$0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q88={Oc8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uaz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function f2r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A7g(c,{k:"v"})}var ulz={Oyq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var N8p={Sz9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Gyt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function qud(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hhi(c,{k:"v"})}Rld=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ycw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rdo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M89(c,{k:"v"})}n0u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lqu={xdy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dbt={Zit:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dsy(c,{k:"v"})}Rr9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bqk={atu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var x52={v8b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};om6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Yxq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zzy(c,{k:"v"})}Ol0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if
+(a[c]===b){a.splice(c,1);break}}return a};var Ovw={oda:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};R1k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var l21={E4t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wue=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rgf={x6q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hyd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};L7z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mw2={Yar:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};k1e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hqo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wy8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Okx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Guq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bqt={Pxs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vjm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var I5f={Wnp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pk5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kbm(c,{k:"v"})}function J8y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rke(c,{k:"v"})}wa8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};You=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ota=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z24(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gs6(c,{k:"v"})}function rqq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q1d(c,{k:"v"})}var n8x={Se4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};n29=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mhj={I36:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function q8y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z$1(c,{k:"v"})}function H6j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wdt(c,{k:"v"})}function u4i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Egr(c,{k:"v"})}function yoc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zf8(c,{k:"v"})}function yql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rin(c,{k:"v"})}Po2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ygj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function k$n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l76(c,{k:"v"})}T$9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hal=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S7y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b69=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jfs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mxy(c,{k:"v"})}var Jsu={Ppf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wd4={r09:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mut=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mb3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rvy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sc1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function eaz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xtf(c,{k:"v"})}var a28={ugz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lr4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jm1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jy8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var M3a={Ho8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J7h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E75(c,{k:"v"})}exb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e$3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fi1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sw3(c,{k:"v"})}O79=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function f9a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W$x(c,{k:"v"})}function e3x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v6u(c,{k:"v"})}var h35={Dsf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};i5s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R9j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rfz(c,{k:"v"})}Brl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Le2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ig9={wsx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cu1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kji(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x5a(c,{k:"v"})}function bde(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ozo(c,{k:"v"})}v0r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ir4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l6k(c,{k:"v"})}var Nur={adf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};P7l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i0e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};edw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xal=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Bfc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vxo(c,{k:"v"})}Y2d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};De1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Eqf={G$t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var uso={Zj7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function L9n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mqr(c,{k:"v"})}function Xh0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uf6(c,{k:"v"})}Emt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xec=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var X9z={ole:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function snx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cq7(c,{k:"v"})}var pvj={A7d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};r81=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Joq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tlu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zoy(c,{k:"v"})}var i8d={vvd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Crd={zx2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wfx={zkn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uac=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ftb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};X6y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s2y={dlk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zxo={urf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function afi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l2u(c,{k:"v"})}function Kwd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ak0(c,{k:"v"})}Sdf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ulw={Zq2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nvc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Csc(c,{k:"v"})}var Fg2={Tmi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Txb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zsn={tan:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lha(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rwi(c,{k:"v"})}n1c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tgo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pvl(c,{k:"v"})}wwp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function xye(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cd0(c,{k:"v"})}var K$a={Pbz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jde={Iy2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cp4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gri(c,{k:"v"})}var txo={baz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ykv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wae=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var izl={sg3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ldl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function otv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gea(c,{k:"v"})}c$c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a89=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jhf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rv3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v$9(c,{k:"v"})}I2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V1t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p0l={Zaj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function w7l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eq3(c,{k:"v"})}function bia(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Chf(c,{k:"v"})}var ko9={alm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function kgk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ew7(c,{k:"v"})}var H$5={Uax:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bgh={G1n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var v99={fu3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ekg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dvp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yj6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L4l(c,{k:"v"})}rvt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var U4k={adl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ns8={ioi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jdq={frr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rni=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x$m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sai(c,{k:"v"})}Vai=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tjo={ii2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function igp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xmc(c,{k:"v"})}function Wi6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.f0v(c,{k:"v"})}Aqz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yo2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lg8={oie:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ae4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tyc(c,{k:"v"})}k7n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V8r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kfm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dxz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jx0(c,{k:"v"})}function z3c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yoz(c,{k:"v"})}f$6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tsq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tc2(c,{k:"v"})}var zmt={Mmo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wat={Pyk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};iky=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jqn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y0i(c,{k:"v"})}var Vv9={Sur:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function g66(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V5g(c,{k:"v"})}var Ajp={Utf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kyq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var pis={Dlx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function x8p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.opq(c,{k:"v"})}var cpe={fx7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bxr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x3y(c,{k:"v"})}function v3z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lrv(c,{k:"v"})}function xp1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rzy(c,{k:"v"})}M6y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rif=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Iav=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vlz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mju(c,{k:"v"})}x$y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pa3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Thr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lyh(c,{k:"v"})}sdq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};k0h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};K0o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rbb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ih5(c,{k:"v"})}function wkj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hfx(c,{k:"v"})}Cf9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qrl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var R5d={h5m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kb7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C32={i$1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u0m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dcw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xu7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var u3m={h1b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var o$h={Xnz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var kcm={hmy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wj7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xzl(c,{k:"v"})}bl5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xwn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var S2o={Sm7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};las=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gwc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ezf(c,{k:"v"})}var J3c={Gly:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yh6=func
+tion(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ga5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J9l={Tf5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var O1q={Iqz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function u2q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ijn(c,{k:"v"})}var njj={k6b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jw9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tll(c,{k:"v"})}wzd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pdy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ph8={drz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Frg={pa5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o9t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var aeo={Xyl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var d6s={Qzo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function U4x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yeu(c,{k:"v"})}var Y4c={xuq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zle(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xf1(c,{k:"v"})}var ree={Kvv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var b$f={Kyn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var C95={wld:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function aib(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qk1(c,{k:"v"})}Qae=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qfj={tem:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var W1z={D83:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var K74={nek:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Eof={Zli:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var yb3={v$7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function E80(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wpn(c,{k:"v"})}var R$t={mhf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var yvt={mb6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ohj={ckh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wbw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fyr(c,{k:"v"})}K3s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A93={ztt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function W15(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L2t(c,{k:"v"})}var f0m={yw1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uo4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mcy(c,{k:"v"})}K1l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};O$w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ndx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var whk={Hk3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var n1t={pfu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H9v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nzw(c,{k:"v"})}function A1p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tvq(c,{k:"v"})}function sot(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tqe(c,{k:"v"})}function thz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kpp(c,{k:"v"})}function qr2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sor(c,{k:"v"})}qb7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dv6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ai4(c,{k:"v"})}n$8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};W$2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ut7={wms:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Y0x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v4i(c,{k:"v"})}icp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bty={ejo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bjw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n3v(c,{k:"v"})}var w7z={mvv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ea9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bfn(c,{k:"v"})}var qx9={tmq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};feo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nsl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m0k(c,{k:"v"})}var Vic={pmt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lq0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q20(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gz8(c,{k:"v"})}c9u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ldj={Cse:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mct=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ixd={kk9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function r1z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vl2(c,{k:"v"})}function Ukm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mi7(c,{k:"v"})}Noa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kgn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mq0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.D2e(c,{k:"v"})}function h13(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xa2(c,{k:"v"})}function j4w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wup(c,{k:"v"})}dlr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lo9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bnr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s3e={Zbf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kki=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U0q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q83(c,{k:"v"})}g45=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ylq={dyx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o82=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};elj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q6j={p5p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C$e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fdh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Sw9={Ade:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var d5s={Sco:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wgq={Swl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vh5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fyq={po9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kbx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lyu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rqy(c,{k:"v"})}mma=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var bt6={H56:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xy6={Rwe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};um2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Onk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l25=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w$j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b0f(c,{k:"v"})}var w8f={jib:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kkj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cju={uzo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dj0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yev=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q9v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gmn(c,{k:"v"})}function o8c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cr8(c,{k:"v"})}function oke(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pfl(c,{k:"v"})}var gle={xs6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hx8={j18:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fzt={agh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function q98(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dyt(c,{k:"v"})}var Wia={cyl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};G52=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};u7u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zth=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qlh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nj1(c,{k:"v"})}var lem={lbt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};csk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hs5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N2j={W0r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hgk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gmh(c,{k:"v"})}bdo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ska=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Izm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ocu(c,{k:"v"})}function rp7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p9a(c,{k:"v"})}Jk0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z81(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pol(c,{k:"v"})}function n6y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rnn(c,{k:"v"})}function Af6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vh8(c,{k:"v"})}z3g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xga={emj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ykm={ojg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function l3e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H4u(c,{k:"v"})}Wbz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var c1x={Lka:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I7g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Prp(c,{k:"v"})}Ni3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ghw={L08:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Itw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q5l(c,{k:"v"})}var bjz={yxz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wkw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var G$k={vuo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Q1a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W2t(c,{k:"v"})}function Lb2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r4j(c,{k:"v"})}var A1t={e2z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ja9={Y3t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fq9={w$s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e6m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Dps=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U88(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gys(c,{k:"v"})}function Ibq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sua(c,{k:"v"})}k6z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ckz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};s9d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qw7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qcv={Et8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};N4q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};paj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ncw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xwn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jqm={C8s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kd6={W4b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};H4k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wn1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var stq={icz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qv1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Yih(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uw1(c,{k:"v"})}Xll=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ns2={Ybq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Isu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var go8={oua:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fis=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sda=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T4p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fk1(c,{k:"v"})}I8p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ru9={ukl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tkw={iug:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Gu5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vd7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fq2={Dtr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wxn={wjt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hsh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function t$3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mqs(c,{k:"v"})}var Mnc={vo5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bom={h7n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Yem={p7l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c64(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G8l(c,{k:"v"})}var Jew={Yl4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mas=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var eul={h2t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qnu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uo4(c,{k:"v"})}Y6d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var R4m={sry:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var V42={Vyk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zet=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M$q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y1q(c,{k:"v"})}vdb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var M9v={Eob:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ovk={gf8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q7s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var V67={t3x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Jx5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v$w(c,{k:"v"})}i7h=fu
+nction(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};C38=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Im2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.f3a(c,{k:"v"})}function W7t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qvg(c,{k:"v"})}Yn1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Unb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var B8h={Xfp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function F8f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rva(c,{k:"v"})}var b$k={g23:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xuj={J11:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var oxf={Ou6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};b3a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h$p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ii4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p1c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ig6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var dit={n3n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v75=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cfn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sw6(c,{k:"v"})}function z$p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nwp(c,{k:"v"})}dav=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Os2={Qpf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yyp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yhg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rci={Gp4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I0y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aav(c,{k:"v"})}sl7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T0e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cg3(c,{k:"v"})}function unv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.It0(c,{k:"v"})}var cxh={cm9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var i5n={aqj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var n1i={Ggq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rr3={h7o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ynb={K0c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zqa={Kll:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Wr6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dru(c,{k:"v"})}function whp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xv8(c,{k:"v"})}function Di5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h3r(c,{k:"v"})}function b19(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jhg(c,{k:"v"})}function rcm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tn6(c,{k:"v"})}var e65={n94:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vw6={zs4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Taa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};O0b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wqk={cqe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var kof={Ncw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wre={bd5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Trg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xp9={Ped:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ttg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ojj(c,{k:"v"})}I3b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yq0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ftj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Snl={Agg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ndc={mty:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gyn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z2k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vpz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xm0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Eub=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v$a={b3n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fmc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gn8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y$c(c,{k:"v"})}Eey=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zqu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tr0(c,{k:"v"})}function Fhk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Je4(c,{k:"v"})}function Dqt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p0d(c,{k:"v"})}jot=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fza=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lrf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C4l={ybn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Awu={goi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function f3t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U9b(c,{k:"v"})}Rir=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ggh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function B8z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ws8(c,{k:"v"})}q49=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Dyd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dqb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Go2(c,{k:"v"})}Jfh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kif=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zim=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r61={r2c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ho7={Aur:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jak(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ekm(c,{k:"v"})}function Fja(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wva(c,{k:"v"})}var Wna={dbb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yps=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};haa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hza={bfy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vjp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Yvt={If9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qyp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cdb(c,{k:"v"})}var L6r={Rop:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function gp2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fg7(c,{k:"v"})}uf9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j$t={jbm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zae(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xnu(c,{k:"v"})}r00=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kqs={Lrz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jdg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pbi={T8f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jio(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G2s(c,{k:"v"})}var jzj={c7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var e5q={Sui:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ywm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sfk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ng9(c,{k:"v"})}function Jvg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jh0(c,{k:"v"})}Olu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zhc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};q10=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p7j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vlm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pq8={Txa:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B1u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function j20(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oty(c,{k:"v"})}bgf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Unt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ugi={Dlz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a6z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ayw(c,{k:"v"})}function Yzj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ire(c,{k:"v"})}function N20(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I26(c,{k:"v"})}var rs4={Dfk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Onx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ac0(c,{k:"v"})}function g6t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G$4(c,{k:"v"})}jip=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};t0y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Klb={zrs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Q5m={I9f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dpa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vs6={Gle:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};r08=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xbw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kxt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mrf(c,{k:"v"})}lpb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V71=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T6y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Smg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M29(c,{k:"v"})}function Ndf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.frc(c,{k:"v"})}var hpg={W5g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cgy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jwd(c,{k:"v"})}qgs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xah=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v7k={Thb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function k97(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R27(c,{k:"v"})}var Ei3={Mdo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};b96=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var myq={E5h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fvo={c20:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gal=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U9x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yw3(c,{k:"v"})}Gca=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xin(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zlk(c,{k:"v"})}var hzc={Yyy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dqz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cwe={Bhp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xjf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a4a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P7q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yks(c,{k:"v"})}Sh8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};s6e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g1e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gxe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y4x(c,{k:"v"})}function T9y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ssz(c,{k:"v"})}pov=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var aub={hr5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xj5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function p9v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ie2(c,{k:"v"})}var vgi={ox5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function vxq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jyc(c,{k:"v"})}Z3k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ys1={Wxr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var D3j={cwe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hxy={Zq4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qdn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};o7b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};et6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var k$l={vqz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zj2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l97(c,{k:"v"})}var Bqi={a2y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};j4e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jz4={Aiw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var n71={U64:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Abq={H7z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function old(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Svx(c,{k:"v"})}function qaw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yb7(c,{k:"v"})}function Mj4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m$0(c,{k:"v"})}u21=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pu0={Cd4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};D5v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y7q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zi3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function llj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Egg(c,{k:"v"})}Dx5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kds=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r9z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cxl(c,{k:"v"})}Ban=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l09=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zr5={ed1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function e23(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wbn(c,{k:"v"})}var fzm={Ccv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function csm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nl0
+(c,{k:"v"})}function lqr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y$o(c,{k:"v"})}var Z2k={Kr2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ioc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kw9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ugo(c,{k:"v"})}oi3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fkh={yow:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function t$1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.di1(c,{k:"v"})}var Czv={k3k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var twn={L5q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Oxb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ca6(c,{k:"v"})}function Bta(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A5x(c,{k:"v"})}var bkc={Iag:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var kck={Xtp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rq8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kwm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kpw={wdh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uov=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var z69={Z9s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nmp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mks(c,{k:"v"})}zk1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function K8o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hir(c,{k:"v"})}fkd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nid(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hjp(c,{k:"v"})}E3t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ayl={Mrf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Cvg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function eog(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Exo(c,{k:"v"})}var i1r={Euj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Gzq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ygj(c,{k:"v"})}N1h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lk8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mkg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ewo(c,{k:"v"})}function wau(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.grn(c,{k:"v"})}var igg={tpd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var C53={Oiq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ixq={ijf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var pqu={S8h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vat={X84:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kmn={pk9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function gwd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kv3(c,{k:"v"})}Qs1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gw7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xu1={T4i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lb6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lkx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tnu(c,{k:"v"})}fzk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ilw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uzk(c,{k:"v"})}var t2l={J0m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qla=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rfs={Maa:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};P0z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zaq={vdx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function le4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.scb(c,{k:"v"})}Ned=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nli=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Loy={b7j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qcu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R0d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};n7w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bf2={Bjo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};nm0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f1t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rsh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ey7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x40(c,{k:"v"})}var Snq={Msl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cr1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vg6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J2b(c,{k:"v"})}F$m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ks9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};re5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xvm={Gyq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ws8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xoy(c,{k:"v"})}var i09={Kcr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lm7={Bre:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var avo={Gvu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var rlf={ubc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o48=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var F0g={so3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hqr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yf8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W2w(c,{k:"v"})}q03=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tf7={dj2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Skh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S39(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ybs(c,{k:"v"})}x01=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p2r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z42(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qnb(c,{k:"v"})}var Eh9={ill:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function E$r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xfb(c,{k:"v"})}var C66={Bvn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vcy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rk6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S64(c,{k:"v"})}buu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function h3d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q91(c,{k:"v"})}var We8={z2b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nld(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wez(c,{k:"v"})}function Ka4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ml6(c,{k:"v"})}function f$8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jj0(c,{k:"v"})}function Xno(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Df3(c,{k:"v"})}var a81={tqk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function skb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n8p(c,{k:"v"})}var fpu={sw0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nv8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ro9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Grp(c,{k:"v"})}var Sje={D8h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Gay={Oyr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rhv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pqj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function m2c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h4d(c,{k:"v"})}j0t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};G8c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j7k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xst={Hub:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function b3j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H6v(c,{k:"v"})}function fe0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ia1(c,{k:"v"})}var Rhy={hk4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ia9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c7i(c,{k:"v"})}ph3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qrr={nuy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};asj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mbf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var al9={r$2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tdp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wsp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yui(c,{k:"v"})}var Stc={wwo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bq6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wf8(c,{k:"v"})}function Yxr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rbp(c,{k:"v"})}Sr6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T$2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tz0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cyz={Z37:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lei(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xt5(c,{k:"v"})}Qli=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hyl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Aze=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wyj={V4z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function D52(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nlx(c,{k:"v"})}var Bat={hpq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};d7q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M7m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wfj(c,{k:"v"})}zab=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P3z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jet(c,{k:"v"})}Qoc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hbn={uj8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};c81=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vis=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lov(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ob5(c,{k:"v"})}function Bgq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jzi(c,{k:"v"})}var K8c={Pxz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var af4={Qxp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var a20={Ag7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};v4j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Yt5={uoe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Euz={gad:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fmk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Afl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cjv(c,{k:"v"})}Vem=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cmt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uls(c,{k:"v"})}function tr2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s9a(c,{k:"v"})}function F1b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C80(c,{k:"v"})}var Xou={ea4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ee4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oc9(c,{k:"v"})}wf4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ymq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ce9(c,{k:"v"})}function Gaw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ugu(c,{k:"v"})}Cqr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var F4a={dsa:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zat={uth:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bp8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jlf(c,{k:"v"})}bny=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var x89={zrb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};I8a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Svf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tnn(c,{k:"v"})}var v0i={mdm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dtq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b66(c,{k:"v"})}var c69={chf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Uso={ffm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ggv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dvk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hhz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cs3(c,{k:"v"})}var Rkj={buo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ea4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Erx(c,{k:"v"})}s4d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wes={Upr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Y5y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function u$y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.axo(c,{k:"v"})}iye=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x59(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Can(c,{k:"v"})}Hzd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zzp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U7f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P1r(c,{k:"v"})}var N8h={anc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kdp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bqv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.km3(c,{k:"v"})}function K3x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ohl(c,{k:"v"})}function cd8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bci(c,{k:"v"})}function Dw5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.suq(c,{k:"v"})}function Oic(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.us9(c,{k:"v"})}ssv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b9h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var svz={zkk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rxj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S0y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ait={I1b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};
+s2j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x6x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bex(c,{k:"v"})}var Rae={Cof:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zgu={Bdw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kdx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};npu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yqx={ngu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ddu={U3h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vf7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vtz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Q93=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ddl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p44(c,{k:"v"})}var f8q={pag:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var B5p={nmj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var M4n={Yin:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zsq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cl9(c,{k:"v"})}z3y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Epk={o8v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rlb={Kgq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ae1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nmo(c,{k:"v"})}function l7r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sin(c,{k:"v"})}Fe7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ufv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rvi(c,{k:"v"})}d2u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ohb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.azs(c,{k:"v"})}function njl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X1j(c,{k:"v"})}function F23(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dnn(c,{k:"v"})}function A6c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zzt(c,{k:"v"})}function n9x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dpy(c,{k:"v"})}function vuk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.isf(c,{k:"v"})}function c4t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Udi(c,{k:"v"})}rb1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D0i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x$a(c,{k:"v"})}Bka=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gwz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yq0(c,{k:"v"})}var s$2={ru5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ng7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n$5(c,{k:"v"})}Ire=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vuu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A1s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nii(c,{k:"v"})}Lqy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qgv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ns9(c,{k:"v"})}var oqb={ael:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bki(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m7t(c,{k:"v"})}function tlk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vz3(c,{k:"v"})}S5e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};in2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Q8s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Sem={Sqx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function D$8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rzb(c,{k:"v"})}var u61={R2r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yym(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R8p(c,{k:"v"})}d8d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zia=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var u26={Arv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hzu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lq4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function y72(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v70(c,{k:"v"})}isd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function qug(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jlq(c,{k:"v"})}qe6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zmm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H08(c,{k:"v"})}function b6o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u4c(c,{k:"v"})}function Cbp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Amc(c,{k:"v"})}trj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cvd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nra(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L1e(c,{k:"v"})}function E55(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.irv(c,{k:"v"})}var Jrh={nxy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hat=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wy5={t6a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Foq={Rbv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};O9c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nqr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jco(c,{k:"v"})}var w7i={v7r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};b3m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var K23={B3x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hte(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G1r(c,{k:"v"})}var R7k={ma6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Uiu={Y7z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Zrg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xok(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bbx(c,{k:"v"})}yrk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hng(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yzl(c,{k:"v"})}var nfx={f7f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Gjs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xjy(c,{k:"v"})}function v$t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A9b(c,{k:"v"})}var jpi={Djo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function h26(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lbj(c,{k:"v"})}function o4d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c1u(c,{k:"v"})}function Z82(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.d9r(c,{k:"v"})}var Cuq={e20:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var um7={e88:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};c2n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var eu5={Md9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};x6y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q96={C0n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jb4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zgl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hbv(c,{k:"v"})}var J8g={j$8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var yg6={Xib:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Faz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lio=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Joo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qt3(c,{k:"v"})}var puc={A5u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};N07=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S2a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gkn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cu2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f74=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rqc={tx6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function get(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.et4(c,{k:"v"})}Pgj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var uz8={Mec:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C22=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};trw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function E$s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bo1(c,{k:"v"})}function Btb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e1n(c,{k:"v"})}var Nu4={n56:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hw5={x2k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tj2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jnc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xtk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yxe={Jwq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function L1y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tsy(c,{k:"v"})}function Tqy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lhw(c,{k:"v"})}Kw8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vak={ke6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};z$9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wtr={Q4y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dq9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vii={Izs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pmb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zj1(c,{k:"v"})}Owb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var m0y={C3h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bea(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iuz(c,{k:"v"})}var rlc={iii:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function or8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cen(c,{k:"v"})}var B9o={A5w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bg4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};trz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var knp={Xwe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zx1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tiy(c,{k:"v"})}h9y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e$w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wkl={qft:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bn9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ual(c,{k:"v"})}function vve(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Unr(c,{k:"v"})}Rq9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};at4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xry={Ufx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wfh={q37:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lun=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lus={p25:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bg6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.md7(c,{k:"v"})}function Gdd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g84(c,{k:"v"})}ftn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var eqo={B48:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Oga={F9e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gcz={O7u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var iv3={d09:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function aj1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lmp(c,{k:"v"})}Uex=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cdl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mdl(c,{k:"v"})}function Bvv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sbu(c,{k:"v"})}iks=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jbz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};equ=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function n7j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rcc(c,{k:"v"})}oil=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ibg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nq8={tno:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mol=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hnk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pqv(c,{k:"v"})}Asv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N21=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function G11(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mrl(c,{k:"v"})}var Uwp={B34:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var pr9={Oxl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var owz={Xfv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yzx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wyk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A0t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gr4(c,{k:"v"})}xop=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Crz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function J0i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W$9(c,{k:"v"})}var Vpj={smy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ljt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};P30=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ns0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jv6(c,{k:"v"})}function p$b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Agz(c,{k:"v"})}function js4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lp8(c,{k:"v"})}e0g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z6m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function b5n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.d4k(c,{k:"v"})}var Xag={E9b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};iyr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hsz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ymt(c,{k:"v"})}function Czl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.urj(c,{k:"v"})}function Oky(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ssw(c,{k:"v"})}nmg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z$q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ays(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N02(c,{k:"v"})}b0
+9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hcg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var X$b={hzp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var moo={rrn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Q04={Qnr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gsc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};de1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sfb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dtk(c,{k:"v"})}function cj7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J00(c,{k:"v"})}z8c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function q6v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t9q(c,{k:"v"})}dnu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fgn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y4g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function igt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bit(c,{k:"v"})}Qak=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dtu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i5e(c,{k:"v"})}var Mn1={E6x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var s1m={Mep:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fc5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ksk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dep=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A1l={ye0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wvk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ul5(c,{k:"v"})}var eai={Oxs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ze3={H7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ms6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gv1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var x6s={jl2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function f3j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yzi(c,{k:"v"})}function xzx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bqy(c,{k:"v"})}Ebc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};oay=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Y62={a00:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};drg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E0k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yki=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l9j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uj7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rfc={U9r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zho(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xgh(c,{k:"v"})}function wbu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mu2(c,{k:"v"})}k7i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Sx5={Jc3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bi8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.beb(c,{k:"v"})}var gsv={pte:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wgq={s49:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Nob={F9b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o39=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Q2q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v9u={w5x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tb8={Wrl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Va0={M1d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function M81(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aye(c,{k:"v"})}var yv0={Dpo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rx2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};C0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var L9d={iwo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Grm={Ezk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zsr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t35(c,{k:"v"})}lua=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jql=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tit=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zgu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F$y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cdp={Wno:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nvs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wlo(c,{k:"v"})}u8i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var bi1={zlf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};g5s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f03=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function plz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yn4(c,{k:"v"})}function azo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iwc(c,{k:"v"})}var hok={Gct:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};wal=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ldg={nxo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ffd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lv1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vyr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gxw(c,{k:"v"})}function ta2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.asw(c,{k:"v"})}var nio={fy3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Y8e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Usp={Cah:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wwm={Rgf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F10=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function l40(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eib(c,{k:"v"})}var k9f={Su4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Aed={ehz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};y41=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function m5h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eiy(c,{k:"v"})}function Hs6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x0o(c,{k:"v"})}ffs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bp3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kjp(c,{k:"v"})}var enj={q1w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function O6y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yni(c,{k:"v"})}W8q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R50=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rby(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zwk(c,{k:"v"})}function zsl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B2o(c,{k:"v"})}xej=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wop=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wy4={Aq7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function s1k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.krs(c,{k:"v"})}hbt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uy8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vhj(c,{k:"v"})}function d0i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W20(c,{k:"v"})}var Sb2={Lnq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rie=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yxa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function F39(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sas(c,{k:"v"})}function F$3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ixh(c,{k:"v"})}var sd3={bno:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hif={s29:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jpm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cjd(c,{k:"v"})}var Sru={ez5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U2a={zm0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qi7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ijb={d7s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function riy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nn1(c,{k:"v"})}function R$y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b6k(c,{k:"v"})}S8z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vqs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function mjq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nxf(c,{k:"v"})}nxd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vsz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h4w(c,{k:"v"})}dn7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};drp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gve=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ogr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var uw6={dmc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};agz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h52=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mcj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dgz(c,{k:"v"})}H9n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};x7y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ix=function(a){a=a.split("");Xy.VG(a,3);Xy.ip(a,44);Xy.Lo(a,45);Xy.ip(a,59);Xy.VG(a,2);Xy.Lo(a,1);return a.join("")};var y2w={L7m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};k0e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mqw={P8e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bu2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xpp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yzj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cev={Ir1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xma=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dl4={Wy1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zoq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uex(c,{k:"v"})}Tdk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var t1g={pa8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ma8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K4i(c,{k:"v"})}function a3o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jk4(c,{k:"v"})}E3h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function i46(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yma(c,{k:"v"})}da2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jrj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Q42=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T1w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xzz(c,{k:"v"})}function Asc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pms(c,{k:"v"})}function bbx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jks(c,{k:"v"})}function Ryx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m3m(c,{k:"v"})}lif=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Na3={bxs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Whv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fhf(c,{k:"v"})}function vcg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cez(c,{k:"v"})}j0a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w9n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qq3(c,{k:"v"})}M39=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gsz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E$f(c,{k:"v"})}yp6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nf5={Si0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};j7j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lk5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zcj={b8z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fty=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var b9v={rnj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hzm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Udm(c,{k:"v"})}function u0n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fdd(c,{k:"v"})}Ld7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var at8={cl7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ovr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ev8(c,{k:"v"})}function Mld(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nod(c,{k:"v"})}To2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ib6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yfi(c,{k:"v"})}function R17(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ewt(c,{k:"v"})}Sq3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fcw={R9n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vpa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N15(c,{k:"v"})}var M26={sig:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hti={E0w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wgz={Z51:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var g65={Ezi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var In0={p18:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qwb={Dzl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function l11(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B26(c,{k:"v"})}function Gam(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Czf(c,{k:"v"})}function J8a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dsp(c,{k:"v"})}var K8g={iuv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};E3j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b9m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bes(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h2g(c,{k:"v"})}var Xyv={E9m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var iwz={wf8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fht=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pxc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tl7={w3d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w
+:"q"}}}};Pbj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ujv={Oae:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zc5={rkb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pwj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m0n(c,{k:"v"})}O9b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};iql=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xp4={Ysb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u5f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qx0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var y85={Ynx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qxo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P19(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I0w(c,{k:"v"})}var Gmr={Gms:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ow9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bk0(c,{k:"v"})}n1z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b34=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gsp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pqt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p1v(c,{k:"v"})}function cwb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wtu(c,{k:"v"})}var xcl={Irz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uad=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wmc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lur=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};be0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jgt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nvo(c,{k:"v"})}function i3q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xoo(c,{k:"v"})}Nvm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rkz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wl3(c,{k:"v"})}function j91(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ryl(c,{k:"v"})}whd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function m9w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wsv(c,{k:"v"})}q1c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function f4t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wwu(c,{k:"v"})}function o3c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.El8(c,{k:"v"})}A3m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ifu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ex1(c,{k:"v"})}function Wk1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qgl(c,{k:"v"})}function b6q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hh6(c,{k:"v"})}P2z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Bpb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ypv(c,{k:"v"})}function B5d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tvc(c,{k:"v"})}U8j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zgl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wnr(c,{k:"v"})}var X79={Hct:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var fsj={djx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pzt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qi4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var leh={Tvs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vsq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nxo={Yfc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};k44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jh3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Miy(c,{k:"v"})}ve2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bjf={Vd6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Njk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function eu2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n31(c,{k:"v"})}var hbw={i$6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fa2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Psw(c,{k:"v"})}Vfx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dal(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aiy(c,{k:"v"})}function Hp9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F9c(c,{k:"v"})}var Vtw={dku:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Czd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xnr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e8j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p9i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wug=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g8t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var I9k={c9m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h0o={Aap:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rf4={pya:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fqg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xd4(c,{k:"v"})}function Dh1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xb8(c,{k:"v"})}var ugl={n3a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fhf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};x04=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function B5f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p22(c,{k:"v"})}function Zh6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G0j(c,{k:"v"})}function pwz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.giz(c,{k:"v"})}y28=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var n3g={m87:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var sck={Uin:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Tsy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ett(c,{k:"v"})}yl5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rhe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z30(c,{k:"v"})}Rtl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Goh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mz8(c,{k:"v"})}n0q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function y8y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L64(c,{k:"v"})}ny9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Io5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Roz(c,{k:"v"})}function Sfw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Klj(c,{k:"v"})}Thk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qdy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cki={Gkr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hmb={f8h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lzd={Ev2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U7q={K4s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Cdu={kig:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hr8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N8g={a1e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ou0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gk3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xw2(c,{k:"v"})}V0g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var f$n={Hdz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function kdh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fe1(c,{k:"v"})}function wmk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hyo(c,{k:"v"})}var Sm0={hpe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hvr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mdp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ekw(c,{k:"v"})}var x7v={Gov:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function p9h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j4r(c,{k:"v"})}function uvg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cre(c,{k:"v"})}function Slu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jeq(c,{k:"v"})}var Alg={Tlm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ch8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gn9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ynd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mpa(c,{k:"v"})}var Z4z={Hvc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Y83={irc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vlg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wf0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nn4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sih(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Eos(c,{k:"v"})}function Tlt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ikk(c,{k:"v"})}var rg7={Yod:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function plp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.But(c,{k:"v"})}g8g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s9r={jbk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var pxa={St2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Sfh={Q61:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a$s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N8e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Oit={ufd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lye={Qeb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function uyu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nrl(c,{k:"v"})}var Llc={Olp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};L1l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Iyf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kqf(c,{k:"v"})}function O8m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mbo(c,{k:"v"})}tir=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bl6={Vmr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mt7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Exg={V7y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nqc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G1x(c,{k:"v"})}lsp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ni9={vvb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nvb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kwk(c,{k:"v"})}function J7x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mr4(c,{k:"v"})}ap1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ug4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function h97(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mac(c,{k:"v"})}function Zvr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i96(c,{k:"v"})}var nrs={Vzy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var B12={L8q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ag3={Sb1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ffb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vz4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w01(c,{k:"v"})}function ave(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I61(c,{k:"v"})}var Rgy={Fsq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uln=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rub={Pv0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T$o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tql=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S8k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};civ=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T51(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vly(c,{k:"v"})}var t6e={O0p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function s$p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W09(c,{k:"v"})}Qym=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ufb={Xfj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Kyv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fna(c,{k:"v"})}P6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var y4d={nyu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dm1={nqt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};nqz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Iej={mox:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Af4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Td2(c,{k:"v"})}var rw3={D1l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};iyp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var M55={q5x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rsp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wm2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V3q(c,{k:"v"})}var bp4={y30:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};sbq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tfe={u4n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ndd={Ycc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function rc0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xzw(c,{k:"v"})}jps=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zv1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xpv(c,{k:"v"})}function mi0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bca(c,{k:"v"})}function cq3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.edp(c,{k:"v"})}var Lx0={ef6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ff9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bet={Ut4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};f60=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D0z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qy9(c,{k:"v"})}var Tbx={Tix:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mxb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Her(c,{k:"v"})}var Soo={all:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var sbu={r4p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Blj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nf8={t5t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var pn9={Lfq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};V6v=function(a,b){if(!a
+)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tia(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sgb(c,{k:"v"})}var Vko={Y64:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};V00=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nfn={xe6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ajw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Au8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fwn(c,{k:"v"})}var H8x={Okh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Muv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rek=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hhy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ngo={t8f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Tcd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m8e(c,{k:"v"})}var ilt={kgx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vpd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uj4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.msf(c,{k:"v"})}szf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pwx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cmd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C8f={Qgd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var V0x={N9t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function uu3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vtu(c,{k:"v"})}th9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};d0t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gyy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W7i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kqi(c,{k:"v"})}function hz8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j06(c,{k:"v"})}function jf5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pyy(c,{k:"v"})}var b7m={Or5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var iw5={ii9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dmk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jbc(c,{k:"v"})}var Jv5={Zm9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hjw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Tcv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R6b(c,{k:"v"})}j7z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lqa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Awt(c,{k:"v"})}function q2z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Svc(c,{k:"v"})}bqf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zqn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vw1(c,{k:"v"})}function o69(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F76(c,{k:"v"})}Cyw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qd0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pii(c,{k:"v"})}var bfg={yar:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lr2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var bnv={hq7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jks=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z$d={xot:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jpw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var d$v={Uoi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function z5a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z9q(c,{k:"v"})}function W7z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O70(c,{k:"v"})}function vyj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X8l(c,{k:"v"})}function k7k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T8a(c,{k:"v"})}function jpx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nc1(c,{k:"v"})}var Gv1={It1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};A56=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jo4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rru(c,{k:"v"})}var Evj={fow:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var f4u={G5r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Drf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Res(c,{k:"v"})}function yk1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cuh(c,{k:"v"})}Ph5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uew(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X1t(c,{k:"v"})}function Nz2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H1p(c,{k:"v"})}adn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cfu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rji(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hr8(c,{k:"v"})}var ntk={Ey0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function K7q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bdf(c,{k:"v"})}function Gcr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.anm(c,{k:"v"})}function Jae(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vpx(c,{k:"v"})}Hzz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bwp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vzi={Fid:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vnz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sj7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w02(c,{k:"v"})}function Rj6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xck(c,{k:"v"})}var wun={Jpb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dvu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jif(c,{k:"v"})}yl0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var P6r={sza:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Nb4={vfg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};e34=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rrt={vng:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function r8l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hp7(c,{k:"v"})}var v$4={r22:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yuc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uqn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oto(c,{k:"v"})}B84=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A$l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jar(c,{k:"v"})}function d5z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Spt(c,{k:"v"})}wnx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ddh={hvq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var osq={peq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Eil(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wx3(c,{k:"v"})}vzq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};U5t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Px3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j8x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xw5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gg0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zcj(c,{k:"v"})}Hqh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nt2={atb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qz2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ogq(c,{k:"v"})}F5p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var u$v={c7n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};sxz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Myg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rbc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wg2(c,{k:"v"})}function y3r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I1l(c,{k:"v"})}function uug(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zjh(c,{k:"v"})}function X12(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zpw(c,{k:"v"})}function Y15(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pxw(c,{k:"v"})}M0c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};I8n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wgm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function d3t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k5t(c,{k:"v"})}var o1z={Rou:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var X$0={Cer:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bma={Qd3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ox1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b6l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U4q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tej(c,{k:"v"})}function W7y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bgf(c,{k:"v"})}Rim=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qku(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kyf(c,{k:"v"})}function L58(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kjv(c,{k:"v"})}tzu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rur={seh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Z8v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fny(c,{k:"v"})}m6b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sn2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g8r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ikb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pur=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};k8n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ezs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.D4c(c,{k:"v"})}a04=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dyj={Vxa:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function P4e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O0l(c,{k:"v"})}function Fjc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s87(c,{k:"v"})}var z9d={Qtg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Koc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oky(c,{k:"v"})}Pvz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lfz={cuo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function byq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y$c(c,{k:"v"})}U5a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qh2={Rdh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vx9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ijz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function epz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uiv(c,{k:"v"})}var zai={lh1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wb9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r6a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jom(c,{k:"v"})}x8o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nfa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zuf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qyn(c,{k:"v"})}Twh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ipm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};O4a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ff5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};A62=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qya=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zo9={p2y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h93={Wz3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q1d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};u3o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};olq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};W5q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r8c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lt2(c,{k:"v"})}nh8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vsk={Ed3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lxt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z40(c,{k:"v"})}ggd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cxs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j63={jky:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ns6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vrb(c,{k:"v"})}function La6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qy7(c,{k:"v"})}function V0a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Byl(c,{k:"v"})}function P0e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n7i(c,{k:"v"})}function Y94(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.c22(c,{k:"v"})}Cx3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ll2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.efd(c,{k:"v"})}var Wpw={hi9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};llc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kom(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rpd(c,{k:"v"})}function noq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ryb(c,{k:"v"})}var Tby={Kqo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};azw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Izu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Gvp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Edc(c,{k:"v"})}var qq7={Jvs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gh7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wtj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function C0t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ixv(c,{k:"v"})}var E91={J72:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};blc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var e4c={fu9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ani(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I47(c,{k:"v"})}function k75(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.meq(c,{k:"v"})}var Ztx={Z0l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h4z={tth:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pml=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.
+splice(c,1);break}}return a};var abu={fcl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tvf={jbj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uaf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rez={r75:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qed=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Dub=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R$2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qrk(c,{k:"v"})}ozd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Imm={a$x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fjp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ta1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mjo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};V8v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xcg={K15:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Eib=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ich(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jj9(c,{k:"v"})}function wip(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oj2(c,{k:"v"})}var r$m={W4v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ixu={Zhe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function n2f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y3v(c,{k:"v"})}Dth=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Z3p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wf7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var U2p={W13:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wqt={mtm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var vt3={H5k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function yx4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hvz(c,{k:"v"})}var to7={Rck:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kdo={r8b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var is4={L0d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ae0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ais={kzy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Sii(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xqj(c,{k:"v"})}function o0o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dfr(c,{k:"v"})}function Odg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dpg(c,{k:"v"})}function h3l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lzt(c,{k:"v"})}function q5v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A$a(c,{k:"v"})}Oe7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ctk={k$8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yu0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R04(c,{k:"v"})}Zfw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xkt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cmj={M$b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Td1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ptt={j26:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qds={lph:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fjd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V12(c,{k:"v"})}function Zro(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nmt(c,{k:"v"})}R$z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nlw={l64:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mp6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Eor=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};o1t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Eqb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pow=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ipi={ugb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u85=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jtv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nkx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Gc5={X7e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var pwb={wot:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qe4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hv5(c,{k:"v"})}function hz1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zol(c,{k:"v"})}function Oir(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Apb(c,{k:"v"})}var Bh0={ie8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function T1p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uia(c,{k:"v"})}a31=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function du9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qy6(c,{k:"v"})}Q02=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};n1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fs0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ugd(c,{k:"v"})}var Mj5={G76:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Inc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p97={h06:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hw0={Mcw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qyv={Wky:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hca=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a9h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};m3n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hob(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iod(c,{k:"v"})}function M27(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gqw(c,{k:"v"})}M9n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Eqc={By7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function A2x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e9v(c,{k:"v"})}gf1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ntp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function O2n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ljb(c,{k:"v"})}function iw7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w1v(c,{k:"v"})}function np4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T44(c,{k:"v"})}var bmg={y59:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lk0={gxs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rja={gjq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ixs={vub:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function vsc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gc9(c,{k:"v"})}var K5z={O3p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Eit=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};msp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ouk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function K$0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ur0(c,{k:"v"})}j65=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Myk={jvj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uzd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ios(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cxy(c,{k:"v"})}var Cgl={xfx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vcq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g7k(c,{k:"v"})}var Gav={e0z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var T8h={lni:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jsr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};m0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};u9s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kq9={jq8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function p3p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xco(c,{k:"v"})}var h8c={Sjy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ohq={Yhp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Aay={fbq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yf6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Khg(c,{k:"v"})}var yjt={U50:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qns=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rfm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};avf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h2a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x0a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Krd(c,{k:"v"})}var y3g={s63:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ebm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ij3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yd3(c,{k:"v"})}var bon={Cqq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var L72={aop:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Toz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function k12(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.woe(c,{k:"v"})}Jcw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cfb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ygk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function sbd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r2s(c,{k:"v"})}var z3t={Jy7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Gq7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e3a(c,{k:"v"})}function pzg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bd3(c,{k:"v"})}ae2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};tmm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function e2g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.K1d(c,{k:"v"})}rbk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};L12=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q7t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q$0(c,{k:"v"})}var vxk={o$g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rbn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var adt={Nly:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wny={Th4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dnt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fjm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y9w(c,{k:"v"})}function Nj4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dfq(c,{k:"v"})}function prm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yh4(c,{k:"v"})}var y2c={x9g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ou3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mih(c,{k:"v"})}var hyi={vbz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};L9m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var n82={ags:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Oux={Fao:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pqi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function idv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bly(c,{k:"v"})}function fu1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e0e(c,{k:"v"})}Dm9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};foa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wm7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tyd(c,{k:"v"})}var R9z={Eim:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function h53(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Op0(c,{k:"v"})}eii=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ib0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nf7(c,{k:"v"})}zsh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Aqh={S1p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mue=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function pjo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y$e(c,{k:"v"})}Uol=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Oz3={Mp3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};M$u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N0q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function B6h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.het(c,{k:"v"})}var ooc={Bqb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hbu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vuw={Mdy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function k47(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Edk(c,{k:"v"})}function bry(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h0l(c,{k:"v"})}zzb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var te8={Nuw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var L$5={Y$m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w5u={Wwe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Pjq={U2r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Rnz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dan(c,{k:"v"})}Bjw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var skn={nba:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xzp={c6j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};i63=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E77={mfk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o1w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var iae={N2b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var i84={qe1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};k51=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kuw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xfc={Ght:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xqi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dan=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j7o={amr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Orm={Dvn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function B$j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jbh(c,{k:"v"})}var Tzo={h11:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J4t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.apn(c,{k:"v"})}qxr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};b8s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice
+(c,1);break}}return a};vg5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hwa={ub0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T0g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kvx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y9d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D2t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pwr(c,{k:"v"})}function St5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zlv(c,{k:"v"})}Rmx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vku(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l32(c,{k:"v"})}J8l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cr8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w86(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a4h(c,{k:"v"})}var ilo={xvs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xlc={Cu2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mfg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rm2(c,{k:"v"})}var Z9o={btv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function j2q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ugf(c,{k:"v"})}function a9w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H$3(c,{k:"v"})}cgw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nmy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D1e={i67:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uoa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ghp={U$4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mi3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gvz(c,{k:"v"})}function Yon(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H58(c,{k:"v"})}function Rwj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gx9(c,{k:"v"})}function Gz6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pg8(c,{k:"v"})}function qp3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zpd(c,{k:"v"})}var Kaa={Ep5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ntr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u3q(c,{k:"v"})}var trh={c2z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var k1i={yvs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};t2w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zqp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v6n(c,{k:"v"})}Hvd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wo5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E7t={ntc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Snd={Cg3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ygm={uba:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Iny=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T6u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jvc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function izu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.puv(c,{k:"v"})}qdm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fes={Bvc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Twu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var em0={tqx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hkg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J$p(c,{k:"v"})}Mfj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Czg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jkj(c,{k:"v"})}Ipb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qaq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xxu(c,{k:"v"})}i0n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F58=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i50=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hlp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.z$y(c,{k:"v"})}j1b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var B3b={Uev:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lcd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M4k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hyl(c,{k:"v"})}function Jmp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Woe(c,{k:"v"})}Yjh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Acd={Jij:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var P32={Vrl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dus={N9u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I82(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yk9(c,{k:"v"})}function dzm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jk7(c,{k:"v"})}var Vbf={dsq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ax6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lui(c,{k:"v"})}function r50(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a$0(c,{k:"v"})}function b1q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cjq(c,{k:"v"})}var vlx={Dn2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Sq4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Car={Au4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xd1={fj6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Dj8={tjz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Yi6={Yjz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};eyq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P71(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cvy(c,{k:"v"})}ame=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E$x={Oej:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hmh={lqi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xpx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rrf(c,{k:"v"})}var Ybf={Kf9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Jb7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ea6(c,{k:"v"})}Rz5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dgd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B9x(c,{k:"v"})}Sjs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var efc={Kad:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jxb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var jws={K4k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ool(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cfa(c,{k:"v"})}var l4x={N4r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rvo={M1u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};V2t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qqk={dsf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hwn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yxf(c,{k:"v"})}function mp3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xo2(c,{k:"v"})}function Yz2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y8h(c,{k:"v"})}function ya7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uv5(c,{k:"v"})}var Z3t={Mcx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nz7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nc6={dnv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ksc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vb9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wpu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hfd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S7x(c,{k:"v"})}var e8q={A16:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Quo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function K0h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gnd(c,{k:"v"})}S8a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Aqj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vs8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k$7(c,{k:"v"})}function E9g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tje(c,{k:"v"})}Zs4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tya(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.slp(c,{k:"v"})}g49=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bf3={l5v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zrw={Zjl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var B67={P38:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Evs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var pra={hin:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var av1={l3v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var enq={yp7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hjr={Hss:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function p1w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ahe(c,{k:"v"})}var A9z={d3b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vq7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i2t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cl5={e80:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kst=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var egi={Oen:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var a58={l95:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zdz={Aeu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};tw6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w1u={Tsf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};bk9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ek7={T8y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cur=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gk8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cpf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qok(c,{k:"v"})}function I93(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fkn(c,{k:"v"})}function bn1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y71(c,{k:"v"})}var i24={Iyi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ivl={Ej7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ja6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r2f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l8o(c,{k:"v"})}function rwx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Epv(c,{k:"v"})}var lmi={Z25:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xcd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};w4n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Oik(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jw2(c,{k:"v"})}function btk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yqc(c,{k:"v"})}var jvv={vs0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uo2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A49(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iex(c,{k:"v"})}var Asz={P3o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yvy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mat(c,{k:"v"})}function r6q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V15(c,{k:"v"})}function s8v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w83(c,{k:"v"})}Cba=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nqu={Lrk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};c50=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fid=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hp6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};opw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jec=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nn3={rmu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bi2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fk6(c,{k:"v"})}var euy={x1x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lsw={Fvv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vup=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Gxs={e9o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vxj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zd3(c,{k:"v"})}var X76={kez:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gel={ftx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tsu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zi4={Dmb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function X9j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tdm(c,{k:"v"})}Ufk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Slm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jcx={Tkw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function u$d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tbs(c,{k:"v"})}ipj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nto={q6x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mn1={Sl3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fps=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xkf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ocf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function N7d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J87(c,{k:"v"})}Ly0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kgc={Gje:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var muz={Jng:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jo1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var te4={fan:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kfh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bhp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};prq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Feq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function T53(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wjw(c,{k:"v"})}function P3j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.oey(c,{k:"v"})}function nhz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bm5(c,{k:"v"})}function Gef(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pdu(c,{k:"v"})}function S2b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m$y(c,{k:"v"})}nd1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mrz={Mzz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};funct
+ion pip(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b5g(c,{k:"v"})}var u7a={erd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function mpl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ntn(c,{k:"v"})}Zzv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};S87=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function va5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lj7(c,{k:"v"})}function u8j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rx9(c,{k:"v"})}function uhn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nh0(c,{k:"v"})}var nt7={kp1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jn9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p8b={cqp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var t00={Zr7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zo5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var og3={vwk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ezc={hqw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a6g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hrq(c,{k:"v"})}function x2l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tny(c,{k:"v"})}e08=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var bmy={ef7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zbv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vz6(c,{k:"v"})}var y6q={Xo5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rbm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R01(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bao(c,{k:"v"})}var ff0={Pij:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jo7={y4r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Sg2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vny(c,{k:"v"})}function o8x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qdu(c,{k:"v"})}O2b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T$f={Axc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zqb={pr7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jrm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S0l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z5v(c,{k:"v"})}Kvh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ny1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f4w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Gaa={h0e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Cnr={t3s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ulo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function k1r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U65(c,{k:"v"})}f2a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Tsv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cze(c,{k:"v"})}var pcr={X$t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fsl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Opu(c,{k:"v"})}function Xj8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k84(c,{k:"v"})}function z59(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hnd(c,{k:"v"})}Auy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jie={H3c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hre(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ua5(c,{k:"v"})}hh0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pfg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ztl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U78(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p54(c,{k:"v"})}var J53={ad4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hjv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.plv(c,{k:"v"})}function kf9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b9k(c,{k:"v"})}var z4d={N0z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bj8={Bxn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};n$x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gaa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m4a(c,{k:"v"})}var Vb2={cp5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function d76(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W01(c,{k:"v"})}var Lok={c5c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Gpr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R15(c,{k:"v"})}I20=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Esr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i14=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M6k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gg2(c,{k:"v"})}function r54(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kwa(c,{k:"v"})}function Zcm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tvi(c,{k:"v"})}dl1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function iyq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wkx(c,{k:"v"})}function opa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nc3(c,{k:"v"})}var qcy={ovf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function vjj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r3z(c,{k:"v"})}var xhi={v9m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dwn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F1o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var X7o={Dio:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};llv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zo4={Xda:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pnq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mmo={Wmh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};I6n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Oar=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hxh={E0y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xwt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Q8o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var unj={O2m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};M17=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i79=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D37={nnf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bpk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g6x(c,{k:"v"})}var R0w={Zxf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ubi={vaz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ocz={t50:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bpj={Uao:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ltj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p2s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kwu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xxm={e4d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jfb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qj3(c,{k:"v"})}function yyo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rkw(c,{k:"v"})}function Q3n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ulk(c,{k:"v"})}var Crn={Me1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cat=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ub2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Km4={Gwx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var rf4={Bdb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};sx9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fpr={q5n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var X9d={Vui:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Kbv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y1w(c,{k:"v"})}function f9m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C8t(c,{k:"v"})}Cf7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Crp={qwc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};z6u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jpc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zkq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hzv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p62={ea7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var nvt={Ldn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var q2r={D1h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function f1f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.llh(c,{k:"v"})}J06=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};thu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i80=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};o6u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v4m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bel=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ifx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jdy(c,{k:"v"})}Pfs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zxc={wvh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qo0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ptj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mnk(c,{k:"v"})}Fg1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};iem=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var icq={cdn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Re4={Fx7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yj2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Aic(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pod(c,{k:"v"})}Lxe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J1d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hio=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};X5i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ysv={M19:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ggb={Lyg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};swb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wdn={Y1a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zrg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function V0c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ie5(c,{k:"v"})}var qc9={pr1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qrw={bza:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zv6={c0i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dqv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};N8w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jbs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nw3(c,{k:"v"})}var P21={lum:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var O8s={Dzy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mwm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cgz(c,{k:"v"})}var s5i={Hzh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sy7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uai(c,{k:"v"})}Ryi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wyy={i8z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xmt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z90=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yk5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ex5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.inf(c,{k:"v"})}juj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vyc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a7u(c,{k:"v"})}Hty=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dvj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h6r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nos=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uha(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lrq(c,{k:"v"})}function ogr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ser(c,{k:"v"})}var Z85={Goq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zm3={E8j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tcj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gh1(c,{k:"v"})}var n57={f6g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c$y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jtk(c,{k:"v"})}var w37={X1n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function x64(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Csw(c,{k:"v"})}Ant=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var uts={Vli:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var muh={e37:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Wl9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bvc(c,{k:"v"})}qvx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Eka(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E1y(c,{k:"v"})}function Tc8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i88(c,{k:"v"})}tu6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Eun={eny:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mmg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qc4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sfq(c,{k:"v"})}function qoa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oha(c,{k:"v"})}wjy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nne(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M4g(c,{k:"v"})}function Rxo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.opr(c,{k:"v"})}Ck1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wcn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M5x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V8w(c,{k:"v"})}var U77={Gf4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dih={x$j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qn3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};scn=function(a,
+b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ouq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cnh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t7n(c,{k:"v"})}J3t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dbo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zy0(c,{k:"v"})}function aa2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yik(c,{k:"v"})}function hn6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E9q(c,{k:"v"})}function i1q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mat(c,{k:"v"})}var x1k={Qcz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Iwo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qnv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ht1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wgj(c,{k:"v"})}var lhb={yp3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var f4b={Yyq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hgf={S0v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};x9x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p5m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Szv={K5l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F45=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J1e={ntf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mew(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o9b(c,{k:"v"})}function P8t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l15(c,{k:"v"})}R5z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};efo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lm0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q5k(c,{k:"v"})}qaf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yq3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tbt(c,{k:"v"})}var Z$f={v4o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var by3={N$y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};oy2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zlm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var K$2={krx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Egx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F3a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ng3={R5n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};l0a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function G98(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P90(c,{k:"v"})}function c7v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w6y(c,{k:"v"})}Esn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ymj={Fz5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zwz={Zqv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nqq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Opr={Cqu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Tiq={bxp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ka9={Ur7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var uoq={Cwr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c47(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Inm(c,{k:"v"})}function xzm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ayt(c,{k:"v"})}Hcr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ndr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fwa(c,{k:"v"})}function ynl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ugc(c,{k:"v"})}j0x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var sz3={r1r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yz1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Y$4={qhv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yds=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};O51=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Muh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D44(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m7m(c,{k:"v"})}function b1f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qqn(c,{k:"v"})}var Cxr={T47:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vbw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W3b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ev1(c,{k:"v"})}function d4f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O8h(c,{k:"v"})}Uzg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function F3q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x7t(c,{k:"v"})}var gnp={F06:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fec=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D7n={W8t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ur6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xw3={n1v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};l6d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C96={pf1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hu6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rqr(c,{k:"v"})}J9u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lc3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Tvj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bdh(c,{k:"v"})}knc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bkp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};apb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ydl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R3n(c,{k:"v"})}bhj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var sim={f8i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wy7={idt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hcp={dwt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function T2n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hw2(c,{k:"v"})}F2n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Tvu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var f8k={W6i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};riw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xx3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vcp={d6h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Uvt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rva={Ts6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lhu={Vb6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Pqs={pvb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Axw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function v66(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ed6(c,{k:"v"})}var ij2={Cvt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C55=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Thi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sp4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dsv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xs9(c,{k:"v"})}var K03={qg1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};m$v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vxo={X21:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nby(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.thj(c,{k:"v"})}function R4z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xme(c,{k:"v"})}function xhm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rg5(c,{k:"v"})}Odd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var vx1={Zlh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jnn={A6d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ywa={tfb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wds=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v49={ukf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};L3o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q0c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H$7(c,{k:"v"})}Iwb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};W9m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kzs={dcm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Upn={K1p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cla={Qp8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var C7k={Pe9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};n7t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W02(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bzp(c,{k:"v"})}var ria={Iot:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fls=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};trb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rk5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mu7={f94:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var trk={ty7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ftq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zuv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jmr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ajy(c,{k:"v"})}function La9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kyr(c,{k:"v"})}function Lyy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A7e(c,{k:"v"})}h8l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xir=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};do3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function yen(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G05(c,{k:"v"})}T7u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lyu={R2z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qx3={Gy9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dwv={eiz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};E1q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Aok={Dcx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function mqq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sjf(c,{k:"v"})}function G12(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q3g(c,{k:"v"})}var idp={K7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qbv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var u9u={d8f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function mll(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T$6(c,{k:"v"})}E10=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function n9g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.azc(c,{k:"v"})}V6e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var jif={Hrw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ps0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xbv(c,{k:"v"})}function Ebl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w1g(c,{k:"v"})}Zsn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mji={gz9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function svm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dhs(c,{k:"v"})}var pjc={spf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Csp={Zfl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Awz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var f0w={v6b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jq3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Did={Rpz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Edj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w19={Fc1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u3e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hfy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dml(c,{k:"v"})}var xmo={Wob:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xr7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.suf(c,{k:"v"})}Av4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g7o={lzq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hvv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cte(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xeu(c,{k:"v"})}I6c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};oms=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Amp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.au4(c,{k:"v"})}var xtm={Dda:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ish={zqo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ccj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g3a(c,{k:"v"})}Vr2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sk9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ron(c,{k:"v"})}O$4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hg3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mg5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sed(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rwx(c,{k:"v"})}Lfy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pe5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fb7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wsw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jvm(c,{k:"v"})}function x3b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q5y(c,{k:"v"})}var a$q={zla:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pu1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function h91(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aer(c,{k:"v"})}a9e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mi5={Szk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function w73(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.D55(c,{k:"v"})}fr3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bzt={Bb5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function y$h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cwh(c,{k:"v"})}function U$3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zs7(c,{k:"
+v"})}Nlw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var B3r={Z70:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function h9i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uh5(c,{k:"v"})}var q62={s52:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xv9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function y4h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lwj(c,{k:"v"})}fmd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Z5h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kf0(c,{k:"v"})}function xpc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nep(c,{k:"v"})}var E9n={cuz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function G4x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.opv(c,{k:"v"})}function l1k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dir(c,{k:"v"})}Fq4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kzm={sxh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kki={iof:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var D61={vap:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};r2x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E54={X$f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};nei=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};unw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v5w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Nr6={cmy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Alq={mmg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Z78=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wro(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xrr(c,{k:"v"})}function deb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tj5(c,{k:"v"})}L4q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ljh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ag7(c,{k:"v"})}function G80(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nhn(c,{k:"v"})}var Wpx={Cun:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Y6e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gfu(c,{k:"v"})}Dxz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rky(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ltv(c,{k:"v"})}function s0k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.alh(c,{k:"v"})}var vqy={Nkj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ksa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yyd={Zvq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dd0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dp7(c,{k:"v"})}ed2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vie=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kks=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ey6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f7v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var m1z={xai:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mev=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pgx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dvl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lhg={Psk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mr6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wfn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gxz(c,{k:"v"})}Lmh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ahk={Tbg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cjd={St1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zzx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ij3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qy3(c,{k:"v"})}function ug0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.umj(c,{k:"v"})}var Jbg={gmd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ing(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wz8(c,{k:"v"})}function psl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iqa(c,{k:"v"})}function jqz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lz4(c,{k:"v"})}Opk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wqk={p81:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function c24(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ybt(c,{k:"v"})}function Nm8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F1z(c,{k:"v"})}function td8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S55(c,{k:"v"})}var ec2={bpn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yxe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Diw={wse:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Z8n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ll5(c,{k:"v"})}Bo9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function G$m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ymk(c,{k:"v"})}function D91(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hb4(c,{k:"v"})}function Vcr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.low(c,{k:"v"})}Dof=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f1l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function t3d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wa4(c,{k:"v"})}function Pa5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Exa(c,{k:"v"})}Jts=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var G00={iep:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function auw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rwr(c,{k:"v"})}function kxv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vgm(c,{k:"v"})}mcu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function L0n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qwh(c,{k:"v"})}Tgb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function go1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ozw(c,{k:"v"})}avb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jjp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qi0(c,{k:"v"})}F63=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ihi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Y7o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wt2(c,{k:"v"})}hek=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fne(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pgb(c,{k:"v"})}function Gzk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pd1(c,{k:"v"})}vqb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var At9={cie:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var b8f={Cci:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Be1={O94:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pml(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ani(c,{k:"v"})}rmt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ntt={igc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ecb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hpv={xv3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var id4={Wji:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Mw1={W3i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fye(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T79(c,{k:"v"})}function J59(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E2x(c,{k:"v"})}function n64(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dei(c,{k:"v"})}var M8f={I$o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pkc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function rxh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v60(c,{k:"v"})}Zf3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jb5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lzt(c,{k:"v"})}function cpg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gvm(c,{k:"v"})}g8u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rtm={Xpl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};R$u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function u03(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aid(c,{k:"v"})}var Oew={m39:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ldw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wwv(c,{k:"v"})}var sc2={W70:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function S67(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zgc(c,{k:"v"})}var Dia={rbt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ehl={szg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};x58=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bt9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Aqr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j1i(c,{k:"v"})}var t5d={Sq9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var fhb={h63:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ku3={Xds:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ob3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pit(c,{k:"v"})}var Q17={K4q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zdn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Odq(c,{k:"v"})}Z32=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kks(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dbs(c,{k:"v"})}var hgm={df6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function spi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pfq(c,{k:"v"})}Syx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xf4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W3r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mjw(c,{k:"v"})}Z4s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ufj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nhe(c,{k:"v"})}qge=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a5g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cxi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P12(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ppx(c,{k:"v"})}Jqi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Agu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cu8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Igr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var mim={w9x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w6d={Pk6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function vb5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uc5(c,{k:"v"})}Gf2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ysi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wlr(c,{k:"v"})}Eqs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lpc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t1s(c,{k:"v"})}function d1a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.y$8(c,{k:"v"})}function iyt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I1i(c,{k:"v"})}var Q3x={Zxn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lo9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bqb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wm1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Noj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kjz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ixg(c,{k:"v"})}smh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xdo={Vtp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var M67={qrj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rp1={f5q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ztw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tw3(c,{k:"v"})}var hl2={Umg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};sj2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jrb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qi4={yg3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rbr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};xgf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wai(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ti8(c,{k:"v"})}var kc4={Xsv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C05=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nuq={mi2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};n0l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};iya=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function y$y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yvn(c,{k:"v"})}Eph=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};K9m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q$x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.d4n(c,{k:"v"})}function D2o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gi4(c,{k:"v"})}var rft={Xk3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xb7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j08(c,{k:"v"})}function jlb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J4f(c,{k:"v"})}Wh7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xci(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pne(c,{k:"v"})}Z73=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ybm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kma(c,{k:"v"})}var J78={Mse:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hob={d26:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B5w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Iva=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cs2={lpz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var szi={Bvg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var hsi={cto:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ruc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g.Zt=function(a,b){var c=a.s;var d=a.sp||"signature";c&&b.set(d,Ix(c));b.set("ratebypass","yes")};g.Xo=function(a){var b=a.url;a.s&&b.set("signature",Ix(a.s));return b};Qms=function(a,b){if(!a)return
+ null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Yy2={qc2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var R90={K6x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wfd={z13:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bsf={G2p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C8u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};krn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Q7j={qp2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var r2a={sc4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};myw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Yl1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sid(c,{k:"v"})}Env=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};y4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jv3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q6w(c,{k:"v"})}hxo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v58={n0c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nbm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rep(c,{k:"v"})}var zvm={i6u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ir2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U2b(c,{k:"v"})}Zc1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ypp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ccd(c,{k:"v"})}Uf5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cfy={p63:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fw4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T5t(c,{k:"v"})}var Vuq={x61:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Hjs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var rk5={Gxo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qg6={G4l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fki(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.no7(c,{k:"v"})}var khu={Kba:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function hni(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qas(c,{k:"v"})}Gqw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};U3y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jof=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pz5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y2z(c,{k:"v"})}zq4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a6v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ule=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N87={F7i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dxt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Be9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xc0(c,{k:"v"})}var k83={Yo7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rrc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};A1m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fqp={dmf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};m$p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h6q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var G8u={uxi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};wjz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A3q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nue(c,{k:"v"})}function K8m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P63(c,{k:"v"})}function fpv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wz1(c,{k:"v"})}function Bpn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Z8w(c,{k:"v"})}var V81={Qqe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Iju={Ryc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mh1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iq1(c,{k:"v"})}t40=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R8s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.i17(c,{k:"v"})}function m14(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kdf(c,{k:"v"})}function ai5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.edu(c,{k:"v"})}Via=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ihx={Oec:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};wyk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zv1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jsm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};p8f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fuu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s7t={mwd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xan={Vpl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};L$3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tmf={ba3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Q9l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pvp(c,{k:"v"})}var i54={Oo5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vq2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var w4o={vut:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gs3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rpn={Z$i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};l3d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pgn={qop:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bk4={N8v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function s24(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mne(c,{k:"v"})}Mco=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cwp={Kxu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rll={czu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};car=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nzr={k$0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qjk={Sad:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jk2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D6d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O62(c,{k:"v"})}var u4g={dnm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xnc={d1n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function iv6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U14(c,{k:"v"})}var x90={h4k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function t3b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.psr(c,{k:"v"})}Ono=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y07=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Amv={h3u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ue6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ryw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T$x(c,{k:"v"})}function Au0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aco(c,{k:"v"})}function Cuj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.l$z(c,{k:"v"})}fak=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qvw={Exm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};io5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tnd={l4c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o5j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wjt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rtz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z1v={md8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ns5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zyt={S9o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rat={n70:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Rwb={Y1k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yly=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xju=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function t08(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tk4(c,{k:"v"})}Ur3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zgc={wgt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vyf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Idy(c,{k:"v"})}function zk6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S74(c,{k:"v"})}var Nkr={f71:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J8o={Spg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function zmr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E0e(c,{k:"v"})}function Pn5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fp9(c,{k:"v"})}var Zbe={yng:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var xlb={ajp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xjn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.emp(c,{k:"v"})}zne=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};k5c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hlw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X35(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ouz(c,{k:"v"})}var Saa={Sag:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Of3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wls(c,{k:"v"})}Hpq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bhh={Dd9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function i4j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ilc(c,{k:"v"})}function dcp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q7a(c,{k:"v"})}Ims=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nkh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mnl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rwl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jck=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D$w={Usk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Vnk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wfz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};B38=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var gvm={kkc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tf4={Rvn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bsa(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M7r(c,{k:"v"})}dvb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var q6u={k9s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F2d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C5d={Ua9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ob2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ouu(c,{k:"v"})}var af5={k2k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};M2p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bh9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fke={mqb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};my8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ltc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Er4={Zef:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qzr={Iw2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var G9z={Yqd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Qbt={Ot8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function p87(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h$d(c,{k:"v"})}function grv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S05(c,{k:"v"})}function z32(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.irz(c,{k:"v"})}var g4c={Kjg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};tve=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jn9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.aqw(c,{k:"v"})}var t26={k23:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dwl={Ir7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Epx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Dkm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nv4(c,{k:"v"})}function Obk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sqb(c,{k:"v"})}var T7t={Xys:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ri3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wzw={ipe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var J03={zkj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var vop={tay:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dg0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dhq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Smq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Svl(c,{k:"v"})}var Anz={k79:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rrx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};eg3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kv4={Wf9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tlt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.khh(c,{k:"v"})}var Ar5={Plq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var sl6={Clq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};nun=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};P$h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uhq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};r4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ume=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ztp={V48:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ykt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nde(c,{k:"v"})}O0a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var by0={p2t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Zje=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xr2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function qdl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ek9(c,{k:"v"})}var N80={Y6o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hld=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S9s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jxc(c,{k:"v"})}function Nzy(a,b,c){var d=a.split(".");c=c||{};f
+or(var e in d)c[e]=d[e]+b;return g.N26(c,{k:"v"})}kcd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};riq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fkp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wxk={Hur:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u41=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bb4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nr8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gua(c,{k:"v"})}function o$d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pv1(c,{k:"v"})}var i7w={X90:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function N0n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wt3(c,{k:"v"})}zb5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var f6s={iyk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function yts(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g7b(c,{k:"v"})}var irw={Lsd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function vkr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pp4(c,{k:"v"})}function Wvc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C0x(c,{k:"v"})}Zwj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};v9s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fuk={k4l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var K1u={knz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};R$d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cad=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Tfi={sj0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};u4u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pvk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var i1k={brd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ypn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fm2={j7l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};wmn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Te4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fyd(c,{k:"v"})}var mod={sf7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var p01={dlb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mfo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function kec(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F05(c,{k:"v"})}function Y33(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p0v(c,{k:"v"})}Dyt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dnq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vhg={diy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kux={npd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Uim={Spm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fnx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ret(c,{k:"v"})}Vb3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bi1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function guh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vtt(c,{k:"v"})}var E1k={g0s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};D3p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ku4={kwk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var kox={Gn3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hkx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X9f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ltw(c,{k:"v"})}function yve(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vru(c,{k:"v"})}zst=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lab(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ktj(c,{k:"v"})}function F8x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vq5(c,{k:"v"})}var Ye6={L45:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var wch={Rty:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function co1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fjv(c,{k:"v"})}var Vi6={Zte:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Tc5={Ago:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a5i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zfy(c,{k:"v"})}w4u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var l6m={i9z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Gvf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function w3h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sux(c,{k:"v"})}function R0f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A09(c,{k:"v"})}tcp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Oav(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h0h(c,{k:"v"})}function eon(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lv0(c,{k:"v"})}var liq={jxz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function eif(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j12(c,{k:"v"})}t9y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E$6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bod={wk5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qny={Wwf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ipa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lah(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fyn(c,{k:"v"})}Bp3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};woy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};a0m=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Vw5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.X7t(c,{k:"v"})}function ata(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tcn(c,{k:"v"})}k4n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Hl2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tyn(c,{k:"v"})}uio=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J6j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bv6={Q0i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jvm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D5b={Znz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zoz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Au6={mm5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Tlr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wmg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Lvd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};d3e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Me6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.p66(c,{k:"v"})}var aeu={hr3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Arf={pzf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function w20(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wi6(c,{k:"v"})}var kiy={g$u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var T$b={i$t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qsm={Qqu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Z0z={ep8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bcf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Sxw(c,{k:"v"})}V26=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ahs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yg9={Xuo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};T75=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qib(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.on9(c,{k:"v"})}gek=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};E1o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cos=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yx0={Ea3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Law(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zu5(c,{k:"v"})}m05=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Uav={r19:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fpd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ww7(c,{k:"v"})}function dkv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ngi(c,{k:"v"})}function Zl1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r56(c,{k:"v"})}Rcu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function fsy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hu3(c,{k:"v"})}var acb={edc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H6u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wot(c,{k:"v"})}function spz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W$o(c,{k:"v"})}Mrg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Q8q={Plw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gfc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Kse={lu2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vco={Wip:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dy1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cyk(c,{k:"v"})}H$u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var n$4={Jn8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};smb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pkn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wyp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ehw(c,{k:"v"})}Jf9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ge4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cz2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fei(c,{k:"v"})}function Y99(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mic(c,{k:"v"})}var dj7={Glp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};an0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Pkr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v3e={mzs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};A4q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wlw={Ctt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var H8j={ui0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};M$d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function u14(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.po8(c,{k:"v"})}var eu3={Bs0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cxd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M8m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gne(c,{k:"v"})}function oq1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.udl(c,{k:"v"})}dpt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};txi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function euv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U47(c,{k:"v"})}Oiz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Omk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function h7y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xk6(c,{k:"v"})}function y3q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E0l(c,{k:"v"})}var n4b={n9w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var r49={W2l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function g$m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hjl(c,{k:"v"})}var rfl={Soi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Saz={lwp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xrv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xre(c,{k:"v"})}Nku=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xad(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.obm(c,{k:"v"})}k6j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};tat=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};g16=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jxd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H0l(c,{k:"v"})}A8u=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yd7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kx8={Cl7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Psz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zmp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g4k={Vzj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Szt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Md6(c,{k:"v"})}var s5s={Kff:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function pqo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rco(c,{k:"v"})}function dgy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hrx(c,{k:"v"})}var tes={Wa8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var k$w={ega:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H1f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.cy0(c,{k:"v"})}var Vdl={Abg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};itr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var su4={oje:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jn7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qa3={eea:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wk7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qbw={Ob1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gq8={voo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xh5={Wfq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wuw={qek:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function slk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.al6(c,{k:"v"})}Yld=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cz9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cud=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Meo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Skx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function zjp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jo6(c,{k:"v"})}sdo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mrj(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U9w(c,{k:"v"})}var bmo={b70:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gs9={Api:function(a){return a+
+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Zbv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dr6(c,{k:"v"})}Lbu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var dd4={qsq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Sog(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h5q(c,{k:"v"})}abm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R6r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function a2i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ozy(c,{k:"v"})}Xs4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g8a={m17:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Gjw={atn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Xxh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xv4={Cxi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};B09=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Duj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rk6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nwp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mxi(c,{k:"v"})}zc7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};M93=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function q5t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dvr(c,{k:"v"})}var m23={crc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function A38(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.etx(c,{k:"v"})}function Coy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gcm(c,{k:"v"})}var qbv={Enz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hbs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zh5(c,{k:"v"})}function u1r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nc4(c,{k:"v"})}var kg6={Q63:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kgy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Apt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Iv2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J02(c,{k:"v"})}function u4k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Je9(c,{k:"v"})}Xhk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rez=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Xvx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Yrn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function uxz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fb5(c,{k:"v"})}function Bqq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jgr(c,{k:"v"})}function aad(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vrc(c,{k:"v"})}x0c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function C5k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L07(c,{k:"v"})}l96=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nrq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L5j(c,{k:"v"})}function xh4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cx6(c,{k:"v"})}function D9p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dum(c,{k:"v"})}var Vjw={Pd1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jum=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};obq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ydc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.shm(c,{k:"v"})}var Az5={Dwj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a2h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bnu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var S3k={n69:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function F03(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zik(c,{k:"v"})}var Vwt={pez:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function o$e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u6t(c,{k:"v"})}function r4i(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v0d(c,{k:"v"})}var y36={kcn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bzg={uwc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function lze(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pqb(c,{k:"v"})}var ijd={T1y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zus=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Olr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kh0(c,{k:"v"})}function rov(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ok6(c,{k:"v"})}var e39={Qax:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};cv2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};X29=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function hb2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.awx(c,{k:"v"})}var axk={Nxc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I5r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sfi(c,{k:"v"})}var v81={Plu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Mjz={bcy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vwe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var l3m={rqv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};be5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};r0f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};j1v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rq2={L2e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Irc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xt9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qhi(c,{k:"v"})}function Gh5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wpa(c,{k:"v"})}var G8a={v6c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function nsb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vc9(c,{k:"v"})}function hdv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yov(c,{k:"v"})}Olg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S0t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Abi(c,{k:"v"})}function eks(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B21(c,{k:"v"})}function j6h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.jw7(c,{k:"v"})}function zkd(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dr6(c,{k:"v"})}Yqu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pof=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rw5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function F6g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nbs(c,{k:"v"})}var Nwd={tp6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wzs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};c7y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function iio(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b4j(c,{k:"v"})}function U95(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yqg(c,{k:"v"})}Agn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Izh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gau(c,{k:"v"})}var tc7={oxr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var rj4={G7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ghl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nml(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x0j(c,{k:"v"})}var p08={pfl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function oqh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Inw(c,{k:"v"})}function O49(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vck(c,{k:"v"})}var bf3={Ffb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ksx={biy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ksr={Dox:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rgs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nlp={Vh7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Q13={Kd1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Eid={Tgf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Jlz={bf8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function T4w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pom(c,{k:"v"})}var Vsj={iun:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Nii(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qix(c,{k:"v"})}var F42={Xl3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var x2v={dkg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function lfg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bco(c,{k:"v"})}var m7o={Lz8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Gtl={Zbs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var S9p={x6t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kpl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Odj={V22:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ye7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.W$7(c,{k:"v"})}var n0f={o$u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Teh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T9v(c,{k:"v"})}Odf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var F$1={izm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Yyw={s$5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kf4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Jhb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ybg(c,{k:"v"})}l60=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ufu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lcz={Cga:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var aaq={Ow6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function lrk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ql4(c,{k:"v"})}Bwi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Dh3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nqn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function C45(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cnq(c,{k:"v"})}function Yiy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zv8(c,{k:"v"})}udn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function P2f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qa4(c,{k:"v"})}var el6={Q$c:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function qzz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T05(c,{k:"v"})}function Yf3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.hks(c,{k:"v"})}xy1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wmy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Kxj(c,{k:"v"})}u82=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ua4={Jfd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function l7o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pt3(c,{k:"v"})}r0e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Snz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qpg(c,{k:"v"})}zl2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Lcu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.evz(c,{k:"v"})}function znb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yjh(c,{k:"v"})}var dwe={yqd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ddt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function S4p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.M0x(c,{k:"v"})}var Eku={L8z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Edv={xt7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Tc4={fly:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mgu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s9l(c,{k:"v"})}function Qip(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ngn(c,{k:"v"})}Eq0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var W88={sex:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fie(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hrl(c,{k:"v"})}function Pxe(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uw0(c,{k:"v"})}E1x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Sxx={i8u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qb1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xj9(c,{k:"v"})}function Tlo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zpw(c,{k:"v"})}function I27(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xmw(c,{k:"v"})}var M0t={Fk0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};t5r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function pga(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h9w(c,{k:"v"})}d78=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Wbv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var aga={J90:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fqq={F1f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function C89(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bym(c,{k:"v"})}function Ysy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wvp(c,{k:"v"})}function ot2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cr0(c,{k:"v"})}var m4j={j1k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var aln={Fsn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};O5p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};khs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};i0b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};erw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ayb={K8u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function M9f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ct5(c,{k:"v"})}var oy1={xn2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hw7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ct6(c,{k:"v"})}function Chp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.h8q(c,{k:"v"})}qye=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Eq4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Okf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var D2x={J$7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mcb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wh2={oyu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var scu={U$e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function rtl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s0i(c,{k:"v"})}V4g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function d0v(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pmx(c,{k:"v"})}var mx4={u8b:function(a){return a+1},init:function(){this.
+x={y:[1,2,3],z:{w:"q"}}}};function Zk6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lhz(c,{k:"v"})}var H59={Fu4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Jj4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};o6p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function F$5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Guv(c,{k:"v"})}Ciz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Col=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function pbv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ntf(c,{k:"v"})}B5h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var L92={kru:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Qc6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vum=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function O4j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B7n(c,{k:"v"})}xc3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mc0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xi8={guy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};l47=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};tfo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bmc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A9q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R6n(c,{k:"v"})}B7h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z1v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};w$w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Zau(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.V24(c,{k:"v"})}iwa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z86={Jeb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uu7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gsx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bjs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Lph={zya:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h1h={fvx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Bfo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Psb(c,{k:"v"})}Cwc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var tc9={Lii:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bzc={Pyt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tpv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bw6(c,{k:"v"})}n9n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ktx={u6g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hop(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wes(c,{k:"v"})}function Qlq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r0z(c,{k:"v"})}Ucq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var S98={Z05:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ugt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Cd6={Cne:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a6h(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.z08(c,{k:"v"})}gob=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gl9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};quq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wo0={gi2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function G2z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lkw(c,{k:"v"})}var Jd6={N2h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};oof=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Bcr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Avc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bqs={w6j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Uxq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.f$h(c,{k:"v"})}var U39={cq6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mm9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zuk={tl4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var a5s={Qht:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Wra={Yk1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mwm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yf9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var qhx={wea:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wri(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oxj(c,{k:"v"})}function vax(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Od6(c,{k:"v"})}Sa2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function cln(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F7g(c,{k:"v"})}pj0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j0i={C21:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Y6h={Lsy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};C3s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Nme(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w5k(c,{k:"v"})}var Gqa={z12:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var mez={hng:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Mav(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ptc(c,{k:"v"})}Pug=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r8a={ho6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Sxm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Qp4={Igx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lfb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Alp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Alj={t59:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ijv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g9j(c,{k:"v"})}Bgp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ceu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T7e={c$4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var z0x={d8n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fz9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Co4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R3f(c,{k:"v"})}function Wmb(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bdv(c,{k:"v"})}Vzl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ls5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s6u(c,{k:"v"})}C78=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Do8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ynl={i$3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var luq={chs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Rp9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rs5(c,{k:"v"})}var xsp={Pf6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ytx={Mr3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};d4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A7p(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ewx(c,{k:"v"})}Pxb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Fxc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a53(c,{k:"v"})}Ndm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};eox=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nph={Zx0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qbh={dft:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function fmn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ula(c,{k:"v"})}var Bkl={Zyd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ney(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vri(c,{k:"v"})}zoo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Jjm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ysu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Wv0={X2o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var k0o={xxf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bpx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};bjl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function u1b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ksk(c,{k:"v"})}var x22={Csf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Lcx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ji5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var hu7={D77:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};U9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};hfe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var s6t={xt0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var e4q={R0z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tud(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iw4(c,{k:"v"})}function amq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ahf(c,{k:"v"})}zf3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};chg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};of7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bqa={bee:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Pus(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.izd(c,{k:"v"})}C9j=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Slt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Eus=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var W7j={iod:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sie(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yf1(c,{k:"v"})}qzd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Svj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function W5s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mog(c,{k:"v"})}function Wru(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a1c(c,{k:"v"})}function Psg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gn4(c,{k:"v"})}function Pgo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vpg(c,{k:"v"})}var Mc4={I1u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ydh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J7o(c,{k:"v"})}var rgu={Ors:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fpp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rox(c,{k:"v"})}P4p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};B6x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Z4u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dqa(c,{k:"v"})}var fh7={uz9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Crb={Vwk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kj6={e7r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function jyz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gdz(c,{k:"v"})}Vls=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function wrc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zyl(c,{k:"v"})}function Idz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gmf(c,{k:"v"})}Lvi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};flv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var an7={w1h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};S3h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l55=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fo5={qlg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};tja=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mp4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Qvi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qvo(c,{k:"v"})}Pax=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Yl5={n3w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bei=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gge=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Evm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qzr(c,{k:"v"})}function Xsg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kni(c,{k:"v"})}function kc9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ep7(c,{k:"v"})}var T4d={ngp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Hw9={C7n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kho=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var an2={exg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var e28={tr8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Xp8={am2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};P2o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};n2d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function txu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.tb2(c,{k:"v"})}owu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function nq9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ugh(c,{k:"v"})}function b9l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.udi(c,{k:"v"})}function Ir5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E9k(c,{k:"v"})}function G5w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o3e(c,{k:"v"})}function Bsg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.upn(c,{k:"v"})}function A05(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dzn(c,{k:"v"})}var ofg={Ke1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gvv={Vob:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fnh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Fe3={an5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Pnb={Ag8:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};das=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jgz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lr2(c,{k:"v"})}function tit(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B9r(c,{k:"v"})}function pjx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Yud(c,{k:"v"})}function vib(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.voy(c,{k:"v"})}function Chi(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b2k(c,{k:"v"})}var Vcw={a8g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};W08=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);bre
+ak}}return a};u28=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lcu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qdx(c,{k:"v"})}Era=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function z5u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mpc(c,{k:"v"})}beo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function O4b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Keq(c,{k:"v"})}r1w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dac(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.s0q(c,{k:"v"})}function q3y(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hns(c,{k:"v"})}var kx0={bs9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jsz={Biu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var dfm={Hc4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vff={Ghk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var gyw={lxd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};hxv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function e1r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E4y(c,{k:"v"})}var Xgc={Sph:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yg0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x6l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qtf(c,{k:"v"})}var Iol={Zp2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Tk3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vuf(c,{k:"v"})}function rt7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ktb(c,{k:"v"})}function Kty(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v8q(c,{k:"v"})}var pjs={J65:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ez4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aq4(c,{k:"v"})}function C7c(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.upr(c,{k:"v"})}var whg={I3h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I$2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.t21(c,{k:"v"})}var B1z={Wdf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Mmx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var C15={a7w:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bx1={Un0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qtr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y24(c,{k:"v"})}function hrc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w23(c,{k:"v"})}var xxs={O8u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uix=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function r9r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wvv(c,{k:"v"})}function W0n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pvr(c,{k:"v"})}Kvn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};U4i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fd9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A18={bl3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tq8={lsm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cd4={Mzg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o45=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r5g={Ase:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ym1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lvb(c,{k:"v"})}R4l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yew=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var nd4={Qcb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};mnt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};B$l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function afy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R$w(c,{k:"v"})}var Nhh={Plt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qcp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Dgq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var fjb={Zmo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Vdx={My1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function n$s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m9n(c,{k:"v"})}function H6t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yp4(c,{k:"v"})}function pt9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Oud(c,{k:"v"})}function al2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Eif(c,{k:"v"})}Kne=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vwm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Njr(c,{k:"v"})}function p3j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.z93(c,{k:"v"})}function Fp6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Q7r(c,{k:"v"})}fk7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y8y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cyk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Vsg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Q6d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bqe(c,{k:"v"})}var a3g={Kei:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Zrp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};l1x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zow={ubf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function xne(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qfb(c,{k:"v"})}var Uu6={txz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ofo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};mf2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function g2n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dnp(c,{k:"v"})}Ecf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kqa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};yvr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Puf={rpv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cr4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fe9(c,{k:"v"})}function bct(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vdf(c,{k:"v"})}var Vpe={Thu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var O0d={j4z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function mr5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.duq(c,{k:"v"})}u4w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zqd={yq6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};h5v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var X5g={Yht:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ygy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function e$5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qvw(c,{k:"v"})}c9k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tri(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nqj(c,{k:"v"})}var Idw={ho2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q0l=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qe0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ja2={y8f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ac1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};z0g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dfu={Baf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Dwh={a24:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var l6s={Bg7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function B15(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ifk(c,{k:"v"})}l9o=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ojh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xk2(c,{k:"v"})}var Vx5={Iom:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var H$g={kcw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zrs={S3z:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};I8b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var zid={ga9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var jw5={Vzp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};oxv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function We1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T0j(c,{k:"v"})}function zw8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zmy(c,{k:"v"})}py6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z9b={yrb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J3n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P95(c,{k:"v"})}hdd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Is6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.spo(c,{k:"v"})}function War(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bdo(c,{k:"v"})}function u0a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T85(c,{k:"v"})}function yrp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ss3(c,{k:"v"})}var pdq={Eai:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function H$b(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qxh(c,{k:"v"})}function Odh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N8u(c,{k:"v"})}function vt4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n86(c,{k:"v"})}function yk6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k6u(c,{k:"v"})}Ckw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Si8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xeu(c,{k:"v"})}var dhm={vkq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};f29=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var xhn={Nh7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};f6b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ba5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qcr(c,{k:"v"})}var xev={Zj4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Njy={J$q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var G3m={c$j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var lnd={ydx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ac2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.fjt(c,{k:"v"})}function hn4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.iu8(c,{k:"v"})}function e$o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Bys(c,{k:"v"})}Btn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function tur(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.x09(c,{k:"v"})}function xc8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lug(c,{k:"v"})}var yog={I29:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Aop=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var npo={S77:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pgy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Uj5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};tp8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fjy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var U60={Bm0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wn5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m7d(c,{k:"v"})}var X7j={mmc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ks3={xg7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zig={a$6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Y0m(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.z37(c,{k:"v"})}var Rl6={Pe1:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Kya(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ayz(c,{k:"v"})}G7e=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};kxk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var b18={Xe2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ksg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function q9a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uqq(c,{k:"v"})}var D9c={pmq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yu8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var lgn={e6b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var B0t={du4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tob(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Hlv(c,{k:"v"})}var p2g={i07:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var bsf={vu5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ogp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Tes(c,{k:"v"})}var h4v={yir:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Mrq={pmh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ik2={ocw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var N40={Bic:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function a27(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.rzq(c,{k:"v"})}var Ayi={h56:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bvi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var v91={z3l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Kd3={ki0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};rc1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Xqg={Co9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function I7n(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.pim(c,{k:"v"})}var Q7y={ijw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var q16={V0l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Bfd={x5r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function d9t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m5f(c,{k:"v"})}var Xk0={j4o:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function dej(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B0s(c,{k:"v"})}var Oc1={esc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};fad=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qut=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var g47={rzi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ftk={liv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Dmd=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xzg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O8z(c,{k:"v"})}eh5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jwc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D0q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ptt(c,{k:"v"})}var Bwd={ums:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Fqf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function x$w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.m98(c,{k:"v"})}vw9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uew(a,b
+,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uk7(c,{k:"v"})}function kod(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zgz(c,{k:"v"})}var rob={Qpi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F3r=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Tjt(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B5s(c,{k:"v"})}var ds4={Diq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Wzr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N4j(c,{k:"v"})}var Y6n={Qsg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a02=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var K29={ssl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var k$p={ihi:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w4d={Xls:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var eav={Px4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kfx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Rwy(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.whj(c,{k:"v"})}function osn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qrd(c,{k:"v"})}function Db6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xb0(c,{k:"v"})}var Lvs={pu2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Yru={nhj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ege(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ojg(c,{k:"v"})}function Gfu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J6n(c,{k:"v"})}function O3d(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fdx(c,{k:"v"})}Cbx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zlq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};X57=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Gp2={M75:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};vkm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Zg7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function R8o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gx2(c,{k:"v"})}function Kj7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kzj(c,{k:"v"})}bg0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var U$u={k4s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function gxv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vom(c,{k:"v"})}function e2o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ent(c,{k:"v"})}function vye(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N1g(c,{k:"v"})}jhb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};H1t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Gd0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function U93(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O$k(c,{k:"v"})}Fsy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var few={kqn:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ib2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u2m(c,{k:"v"})}var ttq={Prh:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function lqm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jra(c,{k:"v"})}var Tj5={Cew:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};o07=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Rh8={jwf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var f81={Cib:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lgr={rx0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Yaf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var afa={v3y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dx0(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Pzx(c,{k:"v"})}function mi4(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Etf(c,{k:"v"})}va1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Nt1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gyv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o3o(c,{k:"v"})}var Yau={nsk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var a57={e0j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var d$y={hwd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};d1z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};h34=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ks0={Ccy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J3r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.N0e(c,{k:"v"})}function b65(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.I7t(c,{k:"v"})}C$8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vz8={R1l:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Soa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uq5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cjf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ik8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Mhp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cf0(c,{k:"v"})}function d$r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qgx(c,{k:"v"})}Ap4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Pex(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.g6e(c,{k:"v"})}ybb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Uts(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mqd(c,{k:"v"})}var R8e={vgo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var j59={Kfe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rk1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};G1d=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};stf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Mrk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function jra(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.q45(c,{k:"v"})}Lu4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Af2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var O30={qgr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var w6n={lxe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var izo={j25:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ed8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.u$t(c,{k:"v"})}function k16(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.lpx(c,{k:"v"})}qmr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hah={huv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Rxg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xpk(c,{k:"v"})}var n4x={a6n:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};uku=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function qjg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vnw(c,{k:"v"})}var E$1={u1k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Fmo={xba:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function quu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U7c(c,{k:"v"})}var t7k={Nsc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var R8k={xw7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var l$m={X1k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};x63=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var dxw={Iii:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Wmf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A3x(c,{k:"v"})}function efx(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Vbn(c,{k:"v"})}function Xgs(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.C4v(c,{k:"v"})}function S86(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.S0n(c,{k:"v"})}fp2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function bvp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.L9e(c,{k:"v"})}Cxm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function svh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.a8n(c,{k:"v"})}var X0q={Rri:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var n7d={Ce9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yc1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var cy7={m7j:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};eyj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sl5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Pma={xyv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var P0l={ucy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ein={uk9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Na9(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.G7y(c,{k:"v"})}function Hef(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.sln(c,{k:"v"})}var bp0={Pv9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function sqr(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.n5i(c,{k:"v"})}function ml1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Y55(c,{k:"v"})}function n9o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.R6d(c,{k:"v"})}function o6t(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.vy6(c,{k:"v"})}function qlh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wce(c,{k:"v"})}function V4r(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Dkf(c,{k:"v"})}hky=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ndi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};F7h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var pi5={u78:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var f8u={Nkb:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function bqh(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ywi(c,{k:"v"})}kzf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wog={cbe:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qlu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eoz(c,{k:"v"})}kjm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ccl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b$9(c,{k:"v"})}function ery(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Nyf(c,{k:"v"})}function pzc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.D5j(c,{k:"v"})}kcs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function opn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xbh(c,{k:"v"})}Tl0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kry=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gno=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var a4t={fmv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var R00={vpp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var oyo={Q7x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Lu6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.bab(c,{k:"v"})}tgz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ft1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function xab(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.o$q(c,{k:"v"})}xx6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ink(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.agy(c,{k:"v"})}function g79(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Maz(c,{k:"v"})}var Mh5={Xwc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var vhk={y34:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zbr={zgz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Qj6(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Osm(c,{k:"v"})}function R1w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.B89(c,{k:"v"})}O5k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function J5f(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.boy(c,{k:"v"})}vos=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};sj4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};esx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var jb1={Uwt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var u1q={i2i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kqu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Bt2={cjm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Csh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};lxk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f20=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Kwt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var p2c={w9r:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Jh2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.mnn(c,{k:"v"})}function Nzg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.b8k(c,{k:"v"})}function Bw1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gid(c,{k:"v"})}ysy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function D9w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.d9q(c,{k:"v"})}function p$j(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.w3a(c,{k:"v"})}Lk6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var wvg={qp7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};juv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var R80={v$h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var h$7={cwl:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ncv(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.U8o(c,{k:"v"})}var sbg={V14:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};zje=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Fg3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Wtw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Trb(c,{k:"v"})}Lht=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ptp={hux:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Bu3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var T4n={kqo:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var cmf={Azu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};gqe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Cz7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Poj(c,{k:"v"})}var X62={y9f:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var V1c={wfg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};lp1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qn3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};e7q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};R4h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};heg=func
+tion(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var kb2={nq3:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Yow(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.thr(c,{k:"v"})}var t2m={egz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var zo4={Oba:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var o9m={cht:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var x46={x1a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};dqe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};zl9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nqy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Z1m={fqm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Hfm(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lm7(c,{k:"v"})}var aoa={r$h:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Aql(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.J09(c,{k:"v"})}var no4={Pik:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Z9g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};nlx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var lfm={z5e:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ppp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Gte(c,{k:"v"})}var E73={zaj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ta4={k0q:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Sbp={Lf0:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};el7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function O$o(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Wd9(c,{k:"v"})}Yl2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kwp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lup(c,{k:"v"})}var A7j={plc:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Ot6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};dy5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};cfr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};gkc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};J2t=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Be4={oi2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ab0={Wmv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Tp0={J$d:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};X4s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function o0z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ex0(c,{k:"v"})}var Grw={ov4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var T57={x$i:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var o0e={I6m:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};t8k=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};alw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var E7l={Nv9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ezg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y6b=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ok1={N9a:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var yuu={ha7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};F6n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};k4x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};x2x=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ynj={Jea:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q5a=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vu4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Kza(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xb1(c,{k:"v"})}var Qvm={f2y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zks={sxy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Sf6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Sy2(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.v3v(c,{k:"v"})}function Yby(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jmr(c,{k:"v"})}function xmp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.H8k(c,{k:"v"})}function t1z(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yd8(c,{k:"v"})}var Uh6={Du7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var sgs={Obm:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ot7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Zyh={Kp2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kkn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ekf(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ymr(c,{k:"v"})}var Tuv={zy9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pdy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Hm2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gpz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F34(c,{k:"v"})}Fxm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uv2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mtv={qbk:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Nrt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};L2z=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var yy5={r87:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Gza={H47:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Kft=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Rss=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};d2i=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var j49={Mvq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Pk9={Erd:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};p28=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var A7h={Rb9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function x85(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E3a(c,{k:"v"})}function Zlu(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Stz(c,{k:"v"})}f44=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function A27(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Aez(c,{k:"v"})}Yo9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};amj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var N70={tbq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};xr5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};trp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ig3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ykd(c,{k:"v"})}var Pce={Sl7:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function q6k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Iab(c,{k:"v"})}Lkb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var swz={H10:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function cfk(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.nmf(c,{k:"v"})}function uit(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.arh(c,{k:"v"})}function O3u(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.E2m(c,{k:"v"})}var bf9={rqu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};yf0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ane={Ite:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Fpl(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.O0x(c,{k:"v"})}function nq1(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qdo(c,{k:"v"})}Ir0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function M6l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T6h(c,{k:"v"})}nvq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function I1a(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.F6f(c,{k:"v"})}function p6s(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.T3v(c,{k:"v"})}pqc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Iiq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.dwu(c,{k:"v"})}var Awe={idz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Q1g=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Cjv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};toq=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};uqb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};wd4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Vky={jbv:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Xxw(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uyj(c,{k:"v"})}var t5x={yw2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Msn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var I66={w29:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var l7a={R$v:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var U6p={mae:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function J1x(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zb2(c,{k:"v"})}var v0k={Quy:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ank(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Cg8(c,{k:"v"})}G2w=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var L9c={Qic:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Dsn(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Lbz(c,{k:"v"})}var Iq4={cjt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var qra={R4p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};K4f=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function dmz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fle(c,{k:"v"})}var Nqi={Bfz:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ar4={eb5:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};owl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sb8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};aey=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vkc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.eyy(c,{k:"v"})}function rnc(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Jyb(c,{k:"v"})}j9p=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var ity={Vqr:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Yzd={B3p:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};D78=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ihc={Zb6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var E8c={Ugg:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vwz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.r31(c,{k:"v"})}var Ix3={Wx2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function ooz(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Mfb(c,{k:"v"})}Wn4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Xc8(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.asu(c,{k:"v"})}mqn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Y3c=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X3w(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Zsf(c,{k:"v"})}var Ejm={dmw:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function f4l(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.yop(c,{k:"v"})}function Idq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ja8(c,{k:"v"})}var G1f={gkx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var tto={dzu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};X34=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function gz7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.ga7(c,{k:"v"})}Q30=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};vj0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var a2a={z80:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Br0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};pwt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Dsl={D2y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};K54=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Oyc={okp:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Vbg(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.qbw(c,{k:"v"})}function d2e(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.wgy(c,{k:"v"})}odt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var L0e={Sfx:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Pwo=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};ib1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Qmb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};f7n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var B7d={S75:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function Ops(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Fjs(c,{k:"v"})}g85=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};As5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Hpt={H4b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Olv={g0k:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Lc9={twq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};jyi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lv7(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.gi9(c,{k:"v"})}function zzo(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.raq(c,{k:"v"})}N2q=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function lit(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zz7(c,{k:"v"})}var Wh0={Lle:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var e3g={pxj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function tuq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.P3b(c,{k:"v"})}function w2q(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Rv7(c,{k:"v"})}var F00={t83:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};ho8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Bc5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.xis(c,{k:"v"})}function hya(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qmx(c,{k:"v"})}var tg5={Bwt:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Zqg={Pgs:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Ok6={Ppu:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rgi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function C5g(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.uy6(c,{k:"v"})}mag=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if
+(a[c]===b){a.splice(c,1);break}}return a};Kqa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Z8k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.k$c(c,{k:"v"})}var qgy={Ou9:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kp9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Jax={L8b:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};h79=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function m38(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.j8z(c,{k:"v"})}function V4k(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Ded(c,{k:"v"})}Ie1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};T3y=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};rew=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function ai3(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Uik(c,{k:"v"})}Stj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Ipt=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};L85=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};fdj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var H6w={Dj6:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};qzn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var J5x={nbj:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var frd={B3u:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};kcl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ze9={Nh4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Grv={Y7t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Al9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function Ib5(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Qlb(c,{k:"v"})}var Jbw={Dbf:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Wu2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Sx0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var gv9={Tls:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rs4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};whc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var r1d={Nx4:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var ks8={E5s:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};pd8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Ibg={r3t:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};Rf6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};jkm=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function X19(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.Xl6(c,{k:"v"})}function xww(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.A9u(c,{k:"v"})}Ixb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function G47(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kzt(c,{k:"v"})}G4h=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};function vwq(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.zqv(c,{k:"v"})}ps2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};q6s=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};htx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mvg={e7g:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Phm={I2x:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};function wur(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.kl7(c,{k:"v"})}function Qmp(a,b,c){var d=a.split(".");c=c||{};for(var e in d)c[e]=d[e]+b;return g.e33(c,{k:"v"})}var f7a={gy2:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};var Dsm={ydq:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};a7v=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};qo0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};var Mnt={X4y:function(a){return a+1},init:function(){this.x={y:[1,2,3],z:{w:"q"}}}};H8n=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};Of7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++){if(a[c]===b){a.splice(c,1);break}}return a};})(_yt_player);
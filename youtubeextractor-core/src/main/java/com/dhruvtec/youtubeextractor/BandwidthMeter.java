@@ -0,0 +1,74 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Estimates the throughput of the network from recent transfers as an exponentially
+ * weighted moving average, so a single slow or fast transfer only moves it a little.
+ * <p/>
+ * Share one instance between the downloads of the app and a {@link FormatSelector}.
+ * The samples are the throughput of single connections, which is what a player
+ * streaming a file gets.
+ */
+public class BandwidthMeter {
+
+    /**
+     * Transfers this small are dominated by latency and say little about the bandwidth.
+     */
+    private static final long MIN_SAMPLE_BYTES = 32 * 1024;
+    private static final long MIN_SAMPLE_MS = 20;
+    private static final double DEFAULT_WEIGHT = 0.3;
+
+    private final double weight;
+
+    // Guarded by this
+    private double estimate = -1;
+    private int sampleCount;
+
+    public BandwidthMeter() {
+        this(DEFAULT_WEIGHT);
+    }
+
+    /**
+     * @param weight the weight of a new sample between 0 and 1, higher values follow
+     *               changes faster but jump around more. Default: 0.3
+     */
+    public BandwidthMeter(double weight) {
+        if (!(weight > 0 && weight <= 1))
+            throw new IllegalArgumentException("weight must be in (0, 1]");
+        this.weight = weight;
+    }
+
+    /**
+     * Add a finished transfer.
+     */
+    public synchronized void addSample(long bytes, long durationMs) {
+        if (bytes < MIN_SAMPLE_BYTES || durationMs < MIN_SAMPLE_MS)
+            return;
+        double bitsPerSecond = bytes * 8000.0 / durationMs;
+        estimate = estimate < 0 ? bitsPerSecond : weight * bitsPerSecond + (1 - weight) * estimate;
+        sampleCount++;
+    }
+
+    /**
+     * The estimated bandwidth in bits per second or -1 if nothing was measured yet.
+     */
+    public synchronized long getBitsPerSecond() {
+        return estimate < 0 ? -1 : (long) estimate;
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    public synchronized void reset() {
+        estimate = -1;
+        sampleCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BandwidthMeter{" +
+                "bitsPerSecond=" + getBitsPerSecond() +
+                ", sampleCount=" + sampleCount +
+                '}';
+    }
+}
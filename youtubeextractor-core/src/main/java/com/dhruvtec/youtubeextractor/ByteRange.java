@@ -0,0 +1,77 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * An inclusive range of bytes of a file, as used by http range requests.
+ */
+public final class ByteRange {
+
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end) {
+        if (start < 0 || end < start)
+            throw new IllegalArgumentException("Invalid range " + start + "-" + end);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parse a range like "0-707".
+     *
+     * @return the range or null if it is malformed
+     */
+    static ByteRange parse(String range) {
+        if (range == null)
+            return null;
+        int dash = range.indexOf('-');
+        if (dash <= 0)
+            return null;
+        try {
+            long start = Long.parseLong(range.substring(0, dash).trim());
+            long end = Long.parseLong(range.substring(dash + 1).trim());
+            return start >= 0 && end >= start ? new ByteRange(start, end) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The first byte.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * The last byte, inclusive.
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ByteRange byteRange = (ByteRange) o;
+        return start == byteRange.start && end == byteRange.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (int) (start ^ (start >>> 32)) + (int) (end ^ (end >>> 32));
+    }
+
+    /**
+     * The range as in a "Range: bytes=" header.
+     */
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+}
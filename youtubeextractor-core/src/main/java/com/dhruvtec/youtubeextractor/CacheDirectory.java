@@ -0,0 +1,14 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.File;
+
+/**
+ * Location for the files the extractor keeps between runs.
+ */
+public interface CacheDirectory {
+
+    /**
+     * The directory to use or null if nothing should be cached.
+     */
+    File getCacheDir();
+}
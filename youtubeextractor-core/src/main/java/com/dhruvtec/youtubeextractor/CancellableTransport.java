@@ -0,0 +1,120 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps the transport of one extraction and remembers its open responses, so that
+ * cancelling the extraction can abort them. Requests after the cancellation fail
+ * right away.
+ */
+final class CancellableTransport implements HttpTransport {
+
+    /**
+     * Implemented by responses that can be torn down from another thread while a read
+     * blocks, e.g. by disconnecting the connection. Other responses are closed.
+     */
+    interface Abortable {
+        void abort();
+    }
+
+    /**
+     * Implemented by responses that know the length of their body from the headers,
+     * e.g. to check that a range request was honoured.
+     */
+    interface Sized {
+        /**
+         * @return the length of the body or -1 if it is unknown
+         */
+        long contentLength();
+    }
+
+    private final HttpTransport transport;
+
+    // Guarded by this
+    private final Set<InputStream> open = new HashSet<>();
+    private boolean cancelled;
+
+    CancellableTransport(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public InputStream get(String url) throws IOException {
+        checkCancelled();
+        InputStream in = transport.get(url);
+        InputStream tracked = new TrackedStream(in);
+        synchronized (this) {
+            if (!cancelled) {
+                open.add(in);
+                return tracked;
+            }
+        }
+        abort(in);
+        throw new InterruptedIOException("Extraction cancelled");
+    }
+
+    /**
+     * Forgets the response when it is closed.
+     */
+    private final class TrackedStream extends FilterInputStream implements Sized {
+
+        TrackedStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public long contentLength() {
+            return in instanceof Sized ? ((Sized) in).contentLength() : -1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (CancellableTransport.this) {
+                open.remove(in);
+            }
+            super.close();
+        }
+    }
+
+    void cancel() {
+        List<InputStream> streams;
+        synchronized (this) {
+            if (cancelled)
+                return;
+            cancelled = true;
+            streams = new ArrayList<>(open);
+            open.clear();
+        }
+        for (InputStream in : streams) {
+            abort(in);
+        }
+    }
+
+    synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void checkCancelled() throws InterruptedIOException {
+        if (isCancelled())
+            throw new InterruptedIOException("Extraction cancelled");
+    }
+
+    private static void abort(InputStream in) {
+        if (in instanceof Abortable) {
+            ((Abortable) in).abort();
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException e) {
+            // The extraction is abandoned anyway
+        }
+    }
+}
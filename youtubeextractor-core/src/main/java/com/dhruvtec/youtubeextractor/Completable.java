@@ -0,0 +1,33 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A future completed by whoever produces its value instead of by running a task, e.g.
+ * by the callback of the js engine. Only the first outcome counts. Subclasses can
+ * continue the work in {@link #done()} instead of having a thread wait for it.
+ */
+class Completable<V> extends FutureTask<V> {
+
+    Completable() {
+        super(Completable.<V>notRun());
+    }
+
+    void complete(V value) {
+        set(value);
+    }
+
+    void fail(Throwable failure) {
+        setException(failure);
+    }
+
+    private static <V> Callable<V> notRun() {
+        return new Callable<V>() {
+            @Override
+            public V call() {
+                throw new IllegalStateException("Completed, not run");
+            }
+        };
+    }
+}
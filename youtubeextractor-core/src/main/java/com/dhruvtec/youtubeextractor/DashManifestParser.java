@@ -0,0 +1,176 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+/**
+ * Reads the Representations of a dash manifest with a SAX parser while it downloads,
+ * without keeping the document.
+ * <p/>
+ * Attributes missing on a Representation are taken from its AdaptationSet, like
+ * the mime type and codecs some manifests only declare there.
+ */
+final class DashManifestParser extends DefaultHandler {
+
+    static final class Representation {
+        int itag = -1;
+        String mimeType;
+        String codecs;
+        int bandwidth = -1;
+        int width = -1;
+        int height = -1;
+        int fps = -1;
+        long contentLength = -1;
+        String baseUrl;
+        ByteRange initRange;
+        ByteRange indexRange;
+    }
+
+    private final List<Representation> representations = new ArrayList<>();
+
+    // AdaptationSet defaults
+    private String setMimeType;
+    private String setCodecs;
+    private int setWidth = -1;
+    private int setHeight = -1;
+    private int setFps = -1;
+
+    private Representation current;
+    private StringBuilder baseUrl;
+
+    private DashManifestParser() {
+    }
+
+    /**
+     * Parse the manifest. The stream is not closed.
+     */
+    static List<Representation> parse(InputStream in) throws IOException {
+        DashManifestParser handler = new DashManifestParser();
+        try {
+            newParser().parse(new InputSource(in), handler);
+        } catch (SAXException e) {
+            throw new IOException("Malformed dash manifest: " + e.getMessage());
+        }
+        return handler.representations;
+    }
+
+    private static SAXParser newParser() throws IOException {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(false);
+        factory.setValidating(false);
+        try {
+            // The manifest has no reason to pull in anything else
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        } catch (Exception e) {
+            // Not supported by every platform parser
+        }
+        try {
+            return factory.newSAXParser();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("No xml parser: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        String name = name(localName, qName);
+        if (name.equals("AdaptationSet")) {
+            setMimeType = attributes.getValue("mimeType");
+            setCodecs = attributes.getValue("codecs");
+            setWidth = intValue(attributes.getValue("width"));
+            setHeight = intValue(attributes.getValue("height"));
+            setFps = intValue(attributes.getValue("frameRate"));
+        } else if (name.equals("Representation")) {
+            current = new Representation();
+            current.itag = intValue(attributes.getValue("id"));
+            current.mimeType = valueOr(attributes.getValue("mimeType"), setMimeType);
+            current.codecs = valueOr(attributes.getValue("codecs"), setCodecs);
+            current.bandwidth = intValue(attributes.getValue("bandwidth"));
+            current.width = intValueOr(attributes.getValue("width"), setWidth);
+            current.height = intValueOr(attributes.getValue("height"), setHeight);
+            current.fps = intValueOr(attributes.getValue("frameRate"), setFps);
+        } else if (current != null) {
+            if (name.equals("BaseURL")) {
+                baseUrl = new StringBuilder(512);
+                String contentLength = attributes.getValue("yt:contentLength");
+                if (contentLength != null)
+                    current.contentLength = longValue(contentLength);
+            } else if (name.equals("SegmentBase")) {
+                current.indexRange = ByteRange.parse(attributes.getValue("indexRange"));
+            } else if (name.equals("Initialization")) {
+                current.initRange = ByteRange.parse(attributes.getValue("range"));
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (baseUrl != null)
+            baseUrl.append(ch, start, length);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        String name = name(localName, qName);
+        if (name.equals("BaseURL")) {
+            if (current != null && baseUrl != null)
+                current.baseUrl = baseUrl.toString().trim();
+            baseUrl = null;
+        } else if (name.equals("Representation")) {
+            if (current != null && current.baseUrl != null)
+                representations.add(current);
+            current = null;
+        } else if (name.equals("AdaptationSet")) {
+            setMimeType = null;
+            setCodecs = null;
+            setWidth = -1;
+            setHeight = -1;
+            setFps = -1;
+        }
+    }
+
+    private static String name(String localName, String qName) {
+        return qName != null && qName.length() > 0 ? qName : localName;
+    }
+
+    private static String valueOr(String value, String defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static int intValueOr(String value, int defaultValue) {
+        return value != null ? intValue(value) : defaultValue;
+    }
+
+    private static int intValue(String value) {
+        long l = longValue(value);
+        return l > Integer.MAX_VALUE ? -1 : (int) l;
+    }
+
+    /**
+     * @return the number or -1 if the value is missing or not a non-negative number
+     */
+    private static long longValue(String value) {
+        if (value == null || value.length() == 0 || value.length() > 18)
+            return -1;
+        long l = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            l = l * 10 + (c - '0');
+        }
+        return l;
+    }
+}
@@ -0,0 +1,307 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the deciphering functions of the last few player versions on disk, one file
+ * per player js.
+ * <p/>
+ * An entry holds the function name, the javascript and the compiled
+ * {@link DecipherProgram} if there is one, so a known player neither has to be
+ * downloaded nor parsed again. Entries are written to a temporary file and renamed,
+ * and carry a CRC32 of their content, so a torn or corrupted file is dropped instead
+ * of being used.
+ */
+final class DecipherCache {
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+    private static final String DIR_NAME = "decipher";
+    private static final String LEGACY_FILE_NAME = "decipher_js_funct";
+    private static final String SUFFIX = ".bin";
+
+    private static final int MAGIC = 0x59544443; // "YTDC"
+    private static final int VERSION = 1;
+    static final int MAX_ENTRIES = 8;
+    private static final int MAX_ENTRY_SIZE = 1024 * 1024;
+
+    static final class Entry {
+        final String jsFileName;
+        final String functionName;
+        final String functions;
+        final DecipherProgram program;
+
+        Entry(String jsFileName, String functionName, String functions, DecipherProgram program) {
+            this.jsFileName = jsFileName;
+            this.functionName = functionName;
+            this.functions = functions;
+            this.program = program;
+        }
+    }
+
+    private final CacheDirectory cacheDirectory;
+    private final ExtractorLog log;
+
+    DecipherCache(CacheDirectory cacheDirectory, ExtractorLog log) {
+        this.cacheDirectory = cacheDirectory;
+        this.log = log;
+    }
+
+    /**
+     * @return the cached functions of the player or null if they are not cached
+     */
+    Entry read(String jsFileName) {
+        File dir = directory();
+        if (dir == null || jsFileName == null)
+            return null;
+        File file = new File(dir, fileName(jsFileName));
+        Entry entry = readFile(file);
+        if (entry == null)
+            return null;
+        if (!jsFileName.equals(entry.jsFileName)) {
+            // Two players with the same file name, the newer one wins on write
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        return entry;
+    }
+
+    /**
+     * @return the most recently used entry or null if there is none
+     */
+    Entry readLatest() {
+        File[] files = entryFiles();
+        if (files == null)
+            return null;
+        sortNewestFirst(files);
+        for (File file : files) {
+            Entry entry = readFile(file);
+            if (entry != null)
+                return entry;
+        }
+        return null;
+    }
+
+    void write(Entry entry) {
+        File dir = directory();
+        if (dir == null || entry.jsFileName == null || entry.functionName == null || entry.functions == null)
+            return;
+        if (!dir.isDirectory() && !dir.mkdirs())
+            return;
+        File tmpFile = null;
+        FileOutputStream out = null;
+        try {
+            byte[] content = encode(entry);
+            tmpFile = File.createTempFile("entry", ".tmp", dir);
+            out = new FileOutputStream(tmpFile);
+            out.write(content);
+            out.flush();
+            out.getFD().sync();
+            out.close();
+            out = null;
+            File file = new File(dir, fileName(entry.jsFileName));
+            if (!tmpFile.renameTo(file)) {
+                // renameTo does not replace existing files on every platform
+                file.delete();
+                if (!tmpFile.renameTo(file))
+                    throw new IOException("Could not rename " + tmpFile + " to " + file);
+            }
+            tmpFile = null;
+            prune();
+        } catch (IOException e) {
+            log.e(LOG_TAG, "Could not cache the decipher functions: " + e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (tmpFile != null)
+                tmpFile.delete();
+        }
+    }
+
+    private File directory() {
+        File cacheDir = cacheDirectory != null ? cacheDirectory.getCacheDir() : null;
+        if (cacheDir == null)
+            return null;
+        File legacyFile = new File(cacheDir, LEGACY_FILE_NAME);
+        if (legacyFile.exists())
+            legacyFile.delete();
+        return new File(cacheDir, DIR_NAME);
+    }
+
+    private File[] entryFiles() {
+        File dir = directory();
+        if (dir == null)
+            return null;
+        return dir.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(SUFFIX);
+            }
+        });
+    }
+
+    private void prune() {
+        File[] files = entryFiles();
+        if (files == null || files.length <= MAX_ENTRIES)
+            return;
+        sortNewestFirst(files);
+        for (int i = MAX_ENTRIES; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static void sortNewestFirst(File[] files) {
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File f1, File f2) {
+                long m1 = f1.lastModified();
+                long m2 = f2.lastModified();
+                return m1 < m2 ? 1 : (m1 == m2 ? 0 : -1);
+            }
+        });
+    }
+
+    /**
+     * The player file names contain slashes, e.g. "player-vflX/en_US/base.js".
+     */
+    static String fileName(String jsFileName) {
+        StringBuilder sb = new StringBuilder(jsFileName.length() + 16);
+        for (int i = 0; i < jsFileName.length() && sb.length() < 64; i++) {
+            char c = jsFileName.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.')
+                sb.append(c);
+            else
+                sb.append('_');
+        }
+        sb.append('-').append(Integer.toHexString(jsFileName.hashCode())).append(SUFFIX);
+        return sb.toString();
+    }
+
+    private Entry readFile(File file) {
+        if (!file.isFile() || file.length() > MAX_ENTRY_SIZE)
+            return null;
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            byte[] bytes = new byte[(int) file.length()];
+            new DataInputStream(in).readFully(bytes);
+            Entry entry = decode(bytes);
+            if (entry == null) {
+                log.d(LOG_TAG, "Dropping invalid decipher cache entry " + file.getName());
+                file.delete();
+            }
+            return entry;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Layout: magic, version, crc32 of the payload, payload length, payload. The payload
+     * holds the player file name, the function name, the javascript as utf-8 bytes and
+     * the compiled program as op/argument pairs or -1 if it could not be compiled.
+     */
+    static byte[] encode(Entry entry) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(entry.functions.length() + 128);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeUTF(entry.jsFileName);
+        payload.writeUTF(entry.functionName);
+        byte[] functions = entry.functions.getBytes("UTF-8");
+        payload.writeInt(functions.length);
+        payload.write(functions);
+        if (entry.program == null) {
+            payload.writeInt(-1);
+        } else {
+            payload.writeInt(entry.program.size());
+            for (int i = 0; i < entry.program.size(); i++) {
+                payload.writeByte(entry.program.opAt(i));
+                payload.writeInt(entry.program.argAt(i));
+            }
+        }
+        payload.flush();
+        byte[] payloadArray = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payloadArray);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payloadArray.length + 20);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(crc.getValue());
+        out.writeInt(payloadArray.length);
+        out.write(payloadArray);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return the entry or null if the bytes are not a valid entry of this version
+     */
+    static Entry decode(byte[] bytes) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return null;
+            long checksum = in.readLong();
+            int length = in.readInt();
+            if (length != bytes.length - 20)
+                return null;
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 20, length);
+            if (crc.getValue() != checksum)
+                return null;
+
+            String jsFileName = in.readUTF();
+            String functionName = in.readUTF();
+            int functionsLength = in.readInt();
+            if (functionsLength < 0 || functionsLength > length)
+                return null;
+            byte[] functions = new byte[functionsLength];
+            in.readFully(functions);
+            DecipherProgram program = null;
+            int count = in.readInt();
+            if (count > length)
+                return null;
+            if (count >= 0) {
+                int[] ops = new int[count];
+                int[] args = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ops[i] = in.readByte();
+                    args[i] = in.readInt();
+                }
+                program = new DecipherProgram(ops, args);
+            }
+            return new Entry(jsFileName, functionName, new String(functions, "UTF-8"), program);
+        } catch (IllegalArgumentException e) {
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
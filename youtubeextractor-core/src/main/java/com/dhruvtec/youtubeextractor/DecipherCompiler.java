@@ -0,0 +1,135 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the deciphering functions extracted from the player js into a
+ * {@link DecipherProgram}.
+ * <p/>
+ * Only the usual shape is recognized: a main function which splits the signature,
+ * calls methods of one helper object and joins it again, where every helper method
+ * is a reverse, splice or swap. Anything else returns null and has to be run by a
+ * {@link JsEngine}.
+ */
+final class DecipherCompiler {
+
+    private static final Pattern patSplit = Pattern.compile("([\\w$]+)=\\1\\.split\\(\"\"\\)");
+    private static final Pattern patJoin = Pattern.compile("return ([\\w$]+)\\.join\\(\"\"\\)");
+    private static final Pattern patCall = Pattern.compile(
+            "([\\w$]+)(?:\\.([\\w$]+)|\\[\"([\\w$]+)\"\\])\\(([\\w$]+),(\\d+)\\)");
+    private static final Pattern patHelperMethod = Pattern.compile(
+            "(?:\"([\\w$]+)\"|([\\w$]+)):function\\(([\\w$]+)(?:,([\\w$]+))?\\)\\{([^}]*)\\}");
+
+    private DecipherCompiler() {
+    }
+
+    /**
+     * @param functionName the name of the deciphering function
+     * @param functions    the javascript defining the function and its helpers
+     * @return the compiled program or null if the functions are not recognized
+     */
+    static DecipherProgram compile(String functionName, String functions) {
+        if (functionName == null || functions == null)
+            return null;
+        String body = functionBody(functions, functionName);
+        if (body == null)
+            return null;
+        String[] statements = body.split(";");
+        if (statements.length < 2)
+            return null;
+        Matcher mat = patSplit.matcher(statements[0].trim());
+        if (!mat.matches())
+            return null;
+        String param = mat.group(1);
+        mat = patJoin.matcher(statements[statements.length - 1].trim());
+        if (!mat.matches() || !mat.group(1).equals(param))
+            return null;
+
+        int count = statements.length - 2;
+        int[] ops = new int[count];
+        int[] args = new int[count];
+        String helperName = null;
+        Map<String, Integer> helperOps = null;
+        for (int i = 0; i < count; i++) {
+            mat = patCall.matcher(statements[i + 1].trim());
+            if (!mat.matches() || !mat.group(4).equals(param))
+                return null;
+            if (helperName == null) {
+                helperName = mat.group(1);
+                helperOps = helperOps(functions, helperName);
+                if (helperOps == null)
+                    return null;
+            } else if (!helperName.equals(mat.group(1))) {
+                return null;
+            }
+            String method = mat.group(2) != null ? mat.group(2) : mat.group(3);
+            Integer op = helperOps.get(method);
+            if (op == null)
+                return null;
+            ops[i] = op;
+            try {
+                args[i] = Integer.parseInt(mat.group(5));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return new DecipherProgram(ops, args);
+    }
+
+    private static String functionBody(String functions, String functionName) {
+        int start = functions.indexOf("var " + functionName + "=function(");
+        if (start < 0)
+            start = functions.indexOf("function " + functionName + "(");
+        if (start < 0)
+            return null;
+        start = functions.indexOf('{', start);
+        int end = start < 0 ? -1 : matchingBrace(functions, start);
+        if (end < 0)
+            return null;
+        return functions.substring(start + 1, end);
+    }
+
+    /**
+     * Classify the methods of the helper object by what they do to the array.
+     */
+    private static Map<String, Integer> helperOps(String functions, String helperName) {
+        int start = functions.indexOf("var " + helperName + "={");
+        if (start < 0)
+            return null;
+        start = functions.indexOf('{', start);
+        int end = matchingBrace(functions, start);
+        if (end < 0)
+            return null;
+        Map<String, Integer> ops = new HashMap<>();
+        Matcher mat = patHelperMethod.matcher(functions.substring(start + 1, end));
+        while (mat.find()) {
+            String name = mat.group(1) != null ? mat.group(1) : mat.group(2);
+            String a = mat.group(3);
+            String b = mat.group(4);
+            String code = mat.group(5);
+            if (code.equals(a + ".reverse()")) {
+                ops.put(name, DecipherProgram.OP_REVERSE);
+            } else if (b != null && code.equals(a + ".splice(0," + b + ")")) {
+                ops.put(name, DecipherProgram.OP_SPLICE);
+            } else if (b != null && code.contains(a + "[0]=" + a + "[" + b + "%" + a + ".length]")) {
+                ops.put(name, DecipherProgram.OP_SWAP);
+            }
+        }
+        return ops;
+    }
+
+    private static int matchingBrace(String s, int open) {
+        for (int braces = 0, i = open; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '{') {
+                braces++;
+            } else if (c == '}' && --braces == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,448 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the deciphering function in the player js and everything it depends on.
+ * <p/>
+ * The player js is scanned once. Strings, template literals including their
+ * {@code ${...}} expressions, comments and regular expressions are skipped, and every
+ * top-level definition of the form {@code var X={...}}, {@code function X(...){...}}
+ * or {@code X=function(...){...}} is indexed with the span of its braces, which are
+ * matched with a stack on the way. Top-level means outside of any braces or directly
+ * in the body of an anonymous function outside of any braces, which is how the player
+ * wraps its code; definitions local to a function are not indexed. The scan also
+ * notes the name of the function called with {@code "signature"}. The helpers are
+ * then looked up in the index, also the ones the helpers call, instead of searching
+ * the megabyte of javascript for each of them.
+ * <p/>
+ * Comments and regular expressions within the {@code ${...}} expressions of template
+ * literals are not recognized, a brace in them would end the expression early.
+ */
+final class DecipherFunctionExtractor {
+
+    private static final String SIGNATURE = "\"signature\",";
+
+    /**
+     * A definition in the player js.
+     */
+    private static final class Definition {
+        final String name;
+        final boolean isObject;
+        final boolean isExpression;
+        /**
+         * The opening parenthesis of the parameters, or the opening brace of an object.
+         */
+        final int start;
+        int end = -1;
+
+        Definition(String name, boolean isObject, boolean isExpression, int start) {
+            this.name = name;
+            this.isObject = isObject;
+            this.isExpression = isExpression;
+            this.start = start;
+        }
+    }
+
+    private final String js;
+    private final Map<String, Definition> objects = new HashMap<>();
+    private final Map<String, Definition> functions = new HashMap<>();
+    private String functionName;
+
+    private DecipherFunctionExtractor(String js) {
+        this.js = js;
+    }
+
+    /**
+     * @return the name of the function and the javascript defining it and its helpers,
+     * or null if the function was not found
+     */
+    static String[] extract(String js) {
+        DecipherFunctionExtractor extractor = new DecipherFunctionExtractor(js);
+        extractor.scan();
+        return extractor.resolve();
+    }
+
+    private String[] resolve() {
+        if (functionName == null)
+            return null;
+        Definition main = functions.get(functionName);
+        if (main == null || main.end < 0)
+            return null;
+
+        StringBuilder sb = new StringBuilder(1024);
+        append(sb, main);
+        Set<String> defined = new HashSet<>();
+        defined.add(main.name);
+        ArrayDeque<Definition> pending = new ArrayDeque<>();
+        pending.add(main);
+        while (!pending.isEmpty()) {
+            Definition definition = pending.poll();
+            List<Definition> objectRefs = new ArrayList<>();
+            List<Definition> functionRefs = new ArrayList<>();
+            references(definition, objectRefs, functionRefs);
+            // Objects first, like the helpers of the main function are usually laid out
+            objectRefs.addAll(functionRefs);
+            for (Definition helper : objectRefs) {
+                if (helper.end < 0 || !defined.add(helper.name))
+                    continue;
+                append(sb, helper);
+                pending.add(helper);
+            }
+        }
+        return new String[]{functionName, sb.toString()};
+    }
+
+    private void append(StringBuilder sb, Definition definition) {
+        if (definition.isObject) {
+            sb.append("var ").append(definition.name).append('=');
+        } else if (definition.isExpression) {
+            sb.append("var ").append(definition.name).append("=function");
+        } else {
+            sb.append("function ").append(definition.name);
+        }
+        sb.append(js, definition.start, definition.end).append(';');
+    }
+
+    /**
+     * Collect the indexed objects whose methods the definition calls and the indexed
+     * functions it calls, except its own parameters and those of nested functions,
+     * which shadow the definitions from where they are declared on.
+     */
+    private void references(Definition definition, List<Definition> objectRefs, List<Definition> functionRefs) {
+        Set<String> params = new HashSet<>();
+        if (!definition.isObject)
+            collectParams(definition.start, params);
+        int end = definition.end;
+        for (int i = definition.start; i < end; ) {
+            char c = js.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(i, c);
+            } else if (c == '`') {
+                i = skipTemplate(i);
+            } else if (isIdentifierStart(c) && (i == 0 || !isIdentifierPart(js.charAt(i - 1)))) {
+                int nameEnd = identifierEnd(i);
+                String name = js.substring(i, nameEnd);
+                boolean isMember = i > 0 && js.charAt(i - 1) == '.';
+                if (name.equals("function")) {
+                    int paren = skipWhitespace(nameEnd);
+                    if (paren < end && js.charAt(paren) == '(')
+                        collectParams(paren, params);
+                } else if (!isMember && nameEnd < end && !params.contains(name)
+                        && !name.equals(definition.name)) {
+                    char next = js.charAt(nameEnd);
+                    Definition ref = null;
+                    if (next == '.' || next == '[')
+                        ref = objects.get(name);
+                    else if (next == '(')
+                        ref = functions.get(name);
+                    if (ref != null) {
+                        List<Definition> refs = ref.isObject ? objectRefs : functionRefs;
+                        if (!refs.contains(ref))
+                            refs.add(ref);
+                    }
+                }
+                i = nameEnd;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void collectParams(int paren, Set<String> params) {
+        for (int i = paren + 1; i < js.length(); ) {
+            char c = js.charAt(i);
+            if (c == ')')
+                return;
+            if (isIdentifierStart(c)) {
+                int nameEnd = identifierEnd(i);
+                params.add(js.substring(i, nameEnd));
+                i = nameEnd;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Index the definitions and find the name of the deciphering function.
+     */
+    private void scan() {
+        String js = this.js;
+        int length = js.length();
+        // Definitions waiting for their opening brace, and the open braces
+        Definition awaitingBrace = null;
+        ArrayDeque<Definition> braces = new ArrayDeque<>();
+        Definition noDefinition = new Definition(null, false, false, -1);
+        // The body of an anonymous function outside of any braces, whose definitions
+        // are still top-level
+        Definition wrapper = new Definition(null, false, false, -1);
+        boolean awaitingWrapper = false;
+        char prev = ';';
+        // The span of the identifier before, if nothing but whitespace followed it
+        int wordStart = -1;
+        int wordEnd = -1;
+        int i = 0;
+        while (i < length) {
+            char c = js.charAt(i);
+            switch (c) {
+                case '"':
+                case '\'':
+                case '`':
+                    if (c == '"' && functionName == null && js.startsWith(SIGNATURE, i))
+                        functionName = calledFunction(i + SIGNATURE.length());
+                    i = c == '`' ? skipTemplate(i) : skipString(i, c);
+                    prev = c;
+                    wordStart = -1;
+                    continue;
+                case '/':
+                    if (i + 1 < length && js.charAt(i + 1) == '/') {
+                        int eol = js.indexOf('\n', i);
+                        i = eol < 0 ? length : eol;
+                        continue;
+                    }
+                    if (i + 1 < length && js.charAt(i + 1) == '*') {
+                        int close = js.indexOf("*/", i + 2);
+                        i = close < 0 ? length : close + 2;
+                        continue;
+                    }
+                    if (startsRegex(prev, wordStart, wordEnd)) {
+                        i = skipRegex(i);
+                        prev = '/';
+                        wordStart = -1;
+                        continue;
+                    }
+                    break;
+                case '{':
+                    if (awaitingBrace != null) {
+                        braces.push(awaitingBrace);
+                        awaitingBrace = null;
+                    } else if (awaitingWrapper && braces.isEmpty()) {
+                        braces.push(wrapper);
+                    } else {
+                        braces.push(noDefinition);
+                    }
+                    awaitingWrapper = false;
+                    break;
+                case '}':
+                    if (!braces.isEmpty()) {
+                        Definition definition = braces.pop();
+                        if (definition != noDefinition && definition != wrapper)
+                            definition.end = i + 1;
+                    }
+                    break;
+                default:
+                    if (isIdentifierStart(c) && (i == 0 || !isIdentifierPart(js.charAt(i - 1)))) {
+                        int nameEnd = identifierEnd(i);
+                        if (braces.isEmpty() || (braces.size() == 1 && braces.peek() == wrapper)) {
+                            boolean declared = wordStart >= 0 && isWord(wordStart, wordEnd, "var");
+                            Definition definition = definition(i, nameEnd, prev, declared);
+                            if (definition != null)
+                                awaitingBrace = definition;
+                            else if (braces.isEmpty() && isWord(i, nameEnd, "function"))
+                                awaitingWrapper = true;
+                        }
+                        wordStart = i;
+                        wordEnd = nameEnd;
+                        prev = js.charAt(nameEnd - 1);
+                        i = nameEnd;
+                        continue;
+                    }
+            }
+            if (!isWhitespace(c)) {
+                prev = c;
+                wordStart = -1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Recognize a definition starting with the identifier.
+     *
+     * @return the definition, which still needs its braces, or null
+     */
+    private Definition definition(int start, int nameEnd, char prev, boolean declared) {
+        String js = this.js;
+        if (prev == '.')
+            return null;
+        if (nameEnd - start == 8 && js.startsWith("function", start)) {
+            int nameStart = skipWhitespace(nameEnd);
+            if (nameStart == nameEnd || nameStart >= js.length() || !isIdentifierStart(js.charAt(nameStart)))
+                return null;
+            int end = identifierEnd(nameStart);
+            int paren = skipWhitespace(end);
+            if (paren >= js.length() || js.charAt(paren) != '(')
+                return null;
+            return index(functions, new Definition(js.substring(nameStart, end), false, false, paren));
+        }
+        if (!declared && prev != ',' && prev != ';' && prev != '{' && prev != '}' && prev != ')'
+                && start > 0 && !isWhitespace(js.charAt(start - 1)))
+            return null;
+        int eq = skipWhitespace(nameEnd);
+        if (eq >= js.length() || js.charAt(eq) != '=' || (eq + 1 < js.length() && js.charAt(eq + 1) == '='))
+            return null;
+        int value = skipWhitespace(eq + 1);
+        if (value >= js.length())
+            return null;
+        if (declared && js.charAt(value) == '{')
+            return index(objects, new Definition(js.substring(start, nameEnd), true, false, value));
+        if (js.startsWith("function", value)) {
+            int paren = skipWhitespace(value + 8);
+            if (paren < js.length() && js.charAt(paren) == '(')
+                return index(functions, new Definition(js.substring(start, nameEnd), false, true, paren));
+        }
+        return null;
+    }
+
+    /**
+     * The first definition of a name wins, except that a function expression is
+     * preferred to a declaration, which is how the player defines the main function.
+     */
+    private static Definition index(Map<String, Definition> index, Definition definition) {
+        Definition existing = index.get(definition.name);
+        if (existing == null || (definition.isExpression && !existing.isExpression))
+            index.put(definition.name, definition);
+        return definition;
+    }
+
+    /**
+     * The name of the function in {@code "signature",X(}.
+     */
+    private String calledFunction(int start) {
+        int i = skipWhitespace(start);
+        if (i >= js.length() || !isIdentifierStart(js.charAt(i)))
+            return null;
+        int end = identifierEnd(i);
+        return end < js.length() && js.charAt(end) == '(' ? js.substring(i, end) : null;
+    }
+
+    /**
+     * A slash starts a regular expression where a value is expected, otherwise it
+     * divides.
+     */
+    private boolean startsRegex(char prev, int wordStart, int wordEnd) {
+        if (wordStart >= 0)
+            return isWord(wordStart, wordEnd, "return") || isWord(wordStart, wordEnd, "typeof")
+                    || isWord(wordStart, wordEnd, "case") || isWord(wordStart, wordEnd, "in")
+                    || isWord(wordStart, wordEnd, "of") || isWord(wordStart, wordEnd, "void");
+        switch (prev) {
+            case ')':
+            case ']':
+            case '}':
+            case '"':
+            case '\'':
+            case '`':
+                return false;
+            default:
+                return !isIdentifierPart(prev);
+        }
+    }
+
+    /**
+     * @return the index after the closing quote
+     */
+    private int skipString(int start, char quote) {
+        String js = this.js;
+        for (int i = start + 1; i < js.length(); i++) {
+            char c = js.charAt(i);
+            if (c == '\\')
+                i++;
+            else if (c == quote)
+                return i + 1;
+        }
+        return js.length();
+    }
+
+    /**
+     * Skip a template literal, also the strings, template literals and braces of its
+     * {@code ${...}} expressions.
+     *
+     * @return the index after the closing backtick
+     */
+    private int skipTemplate(int start) {
+        String js = this.js;
+        for (int i = start + 1; i < js.length(); i++) {
+            char c = js.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '`') {
+                return i + 1;
+            } else if (c == '$' && i + 1 < js.length() && js.charAt(i + 1) == '{') {
+                int depth = 0;
+                for (i += 2; i < js.length(); ) {
+                    c = js.charAt(i);
+                    if (c == '"' || c == '\'') {
+                        i = skipString(i, c);
+                    } else if (c == '`') {
+                        i = skipTemplate(i);
+                    } else if (c == '}' && depth == 0) {
+                        break;
+                    } else {
+                        if (c == '{')
+                            depth++;
+                        else if (c == '}')
+                            depth--;
+                        i++;
+                    }
+                }
+            }
+        }
+        return js.length();
+    }
+
+    private int skipRegex(int start) {
+        String js = this.js;
+        boolean inClass = false;
+        for (int i = start + 1; i < js.length(); i++) {
+            char c = js.charAt(i);
+            if (c == '\\')
+                i++;
+            else if (c == '[')
+                inClass = true;
+            else if (c == ']')
+                inClass = false;
+            else if (c == '/' && !inClass)
+                return i + 1;
+            else if (c == '\n')
+                return i;
+        }
+        return js.length();
+    }
+
+    private boolean isWord(int start, int end, String word) {
+        return end - start == word.length() && js.startsWith(word, start);
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < js.length() && isWhitespace(js.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int identifierEnd(int i) {
+        while (i < js.length() && isIdentifierPart(js.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '$' || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,114 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.Arrays;
+
+/**
+ * The deciphering function of the player js compiled to a list of string operations.
+ * <p/>
+ * The players transform the signature with a short sequence of calls to helper
+ * functions which reverse the characters, drop the first n characters or swap the
+ * first character with the one at index n. Running them in Java avoids a javascript
+ * engine.
+ */
+final class DecipherProgram {
+
+    static final int OP_REVERSE = 1;
+    static final int OP_SPLICE = 2;
+    static final int OP_SWAP = 3;
+
+    private final int[] ops;
+    private final int[] args;
+
+    DecipherProgram(int[] ops, int[] args) {
+        if (ops.length != args.length)
+            throw new IllegalArgumentException("ops and args differ in length");
+        for (int op : ops) {
+            if (op < OP_REVERSE || op > OP_SWAP)
+                throw new IllegalArgumentException("Unknown op " + op);
+        }
+        this.ops = ops.clone();
+        this.args = args.clone();
+    }
+
+    int size() {
+        return ops.length;
+    }
+
+    int opAt(int index) {
+        return ops[index];
+    }
+
+    int argAt(int index) {
+        return args[index];
+    }
+
+    String decipher(String signature) {
+        char[] a = signature.toCharArray();
+        int length = a.length;
+        for (int i = 0; i < ops.length; i++) {
+            switch (ops[i]) {
+                case OP_REVERSE:
+                    for (int l = 0, r = length - 1; l < r; l++, r--) {
+                        char c = a[l];
+                        a[l] = a[r];
+                        a[r] = c;
+                    }
+                    break;
+                case OP_SPLICE:
+                    int n = Math.min(Math.max(args[i], 0), length);
+                    System.arraycopy(a, n, a, 0, length - n);
+                    length -= n;
+                    break;
+                case OP_SWAP:
+                    if (length > 0) {
+                        int j = args[i] % length;
+                        char c = a[0];
+                        a[0] = a[j];
+                        a[j] = c;
+                    }
+                    break;
+            }
+        }
+        return new String(a, 0, length);
+    }
+
+    /**
+     * Decipher all signatures, in the same format the javascript decipher() returns.
+     */
+    String decipher(ItagArray<String> encSignatures) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < encSignatures.size(); i++) {
+            if (i > 0)
+                sb.append('\n');
+            sb.append(decipher(encSignatures.valueAt(i)));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DecipherProgram that = (DecipherProgram) o;
+
+        return Arrays.equals(ops, that.ops) && Arrays.equals(args, that.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ops) + Arrays.hashCode(args);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("DecipherProgram{");
+        for (int i = 0; i < ops.length; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(ops[i] == OP_REVERSE ? "reverse" : ops[i] == OP_SPLICE ? "splice " + args[i]
+                    : "swap " + args[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Receives the result of {@link StreamExtractor#extractAsync}.
+ */
+public interface ExtractionCallback {
+
+    /**
+     * Called on a thread of the executor the extraction runs on. Not called if the
+     * extraction was cancelled.
+     */
+    void onExtractionComplete(ExtractionResult result);
+}
@@ -0,0 +1,186 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Lets concurrent extractions of the same video share one resolution.
+ * <p/>
+ * The first extraction of a video resolves it, extractions of the same video and
+ * options starting meanwhile wait for it and receive copies of its result. If the
+ * first extraction is cancelled the waiting ones resolve the video themselves. Share
+ * one instance between all {@link StreamExtractor}s that should coalesce.
+ */
+public class ExtractionCoalescer {
+
+    /**
+     * Resolves a video without blocking, see {@link #extractAsync}.
+     */
+    interface AsyncResolution {
+
+        /**
+         * Start resolving and call back once, now or later on any thread, with the
+         * result or with null if the resolution was cancelled and must not be shared.
+         */
+        void resolve(ExtractionCallback done);
+    }
+
+    // Guarded by this
+    private final Map<String, Flight> inFlight = new HashMap<>();
+    private int resolvedCount;
+    private int joinedCount;
+
+    /**
+     * Resolve the key, or wait for the resolution already running for it.
+     *
+     * @param resolve resolves the video, throws {@link CancellationException} if the
+     *                resolution was cancelled and must not be shared
+     * @throws CancellationException if this caller's own resolution was cancelled
+     */
+    ExtractionResult extract(String key, Callable<ExtractionResult> resolve) throws InterruptedException {
+        while (true) {
+            Flight flight;
+            boolean owner = false;
+            synchronized (this) {
+                flight = inFlight.get(key);
+                if (flight == null) {
+                    flight = new Flight();
+                    inFlight.put(key, flight);
+                    owner = true;
+                    resolvedCount++;
+                } else {
+                    joinedCount++;
+                }
+            }
+            if (owner) {
+                try {
+                    flight.complete(resolve.call());
+                } catch (Throwable e) {
+                    flight.fail(e);
+                } finally {
+                    synchronized (this) {
+                        inFlight.remove(key);
+                    }
+                }
+            }
+            try {
+                // Every caller may modify its files
+                return flight.get().copy();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof CancellationException))
+                    throw new IllegalStateException(e.getCause());
+                if (owner)
+                    throw (CancellationException) e.getCause();
+                // The extraction we waited for was abandoned, try again
+            }
+        }
+    }
+
+    /**
+     * Like {@link #extract}, but without blocking. The first extraction of the key
+     * starts the resolution, the callbacks of all extractions of the key are called
+     * on the thread completing it.
+     *
+     * @param done receives a copy of the result, or null if the resolution was
+     *             cancelled. The owner of the resolution then was cancelled itself,
+     *             the others have to try again
+     */
+    void extractAsync(final String key, AsyncResolution resolve, ExtractionCallback done) {
+        final Flight flight;
+        boolean owner = false;
+        synchronized (this) {
+            Flight running = inFlight.get(key);
+            if (running == null) {
+                flight = new Flight();
+                inFlight.put(key, flight);
+                owner = true;
+                resolvedCount++;
+            } else {
+                flight = running;
+                joinedCount++;
+            }
+        }
+        flight.whenDone(done);
+        if (!owner)
+            return;
+        resolve.resolve(new ExtractionCallback() {
+            @Override
+            public void onExtractionComplete(ExtractionResult result) {
+                // Extractions starting from now on resolve again
+                synchronized (ExtractionCoalescer.this) {
+                    inFlight.remove(key);
+                }
+                if (result != null)
+                    flight.complete(result);
+                else
+                    flight.fail(new CancellationException());
+            }
+        });
+    }
+
+    /**
+     * One resolution, waited for by blocking extractions and calling back the others.
+     */
+    private static final class Flight extends Completable<ExtractionResult> {
+        // Guarded by this
+        private final List<ExtractionCallback> callbacks = new ArrayList<>();
+
+        /**
+         * Call back once done, right away if it is.
+         */
+        void whenDone(ExtractionCallback callback) {
+            synchronized (this) {
+                if (!isDone()) {
+                    callbacks.add(callback);
+                    return;
+                }
+            }
+            deliver(callback);
+        }
+
+        @Override
+        protected void done() {
+            List<ExtractionCallback> waiting;
+            synchronized (this) {
+                waiting = new ArrayList<>(callbacks);
+                callbacks.clear();
+            }
+            for (ExtractionCallback callback : waiting) {
+                deliver(callback);
+            }
+        }
+
+        private void deliver(ExtractionCallback callback) {
+            ExtractionResult result = null;
+            try {
+                // Every caller may modify its files
+                result = get().copy();
+            } catch (ExecutionException e) {
+                // Abandoned
+            } catch (InterruptedException e) {
+                // get() does not block once done
+                Thread.currentThread().interrupt();
+            }
+            callback.onExtractionComplete(result);
+        }
+    }
+
+    /**
+     * The number of extractions which resolved their video themselves.
+     */
+    public synchronized int resolvedCount() {
+        return resolvedCount;
+    }
+
+    /**
+     * The number of extractions which received the result of another one.
+     */
+    public synchronized int joinedCount() {
+        return joinedCount;
+    }
+}
@@ -0,0 +1,99 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reports the metrics of one extraction to the {@link MetricsListener}. Does nothing,
+ * not even read the clock, if the listener is {@link MetricsListener#NONE}.
+ */
+final class ExtractionMetrics {
+
+    static final ExtractionMetrics NONE = new ExtractionMetrics(MetricsListener.NONE, null);
+
+    /**
+     * Counts the bytes read from a response.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0)
+                count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0)
+                count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    private final MetricsListener listener;
+    private final String videoId;
+    private final boolean enabled;
+
+    ExtractionMetrics(MetricsListener listener, String videoId) {
+        this.listener = listener;
+        this.videoId = videoId;
+        this.enabled = listener != MetricsListener.NONE;
+    }
+
+    /**
+     * @return the start time to pass to the other methods
+     */
+    long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Wrap the response of a stage, so {@link #stage(MetricsListener.Stage, long, InputStream)}
+     * can report its size.
+     */
+    InputStream count(InputStream in) {
+        return enabled ? new CountingInputStream(in) : in;
+    }
+
+    void stage(MetricsListener.Stage stage, long start, InputStream counted) {
+        if (enabled)
+            listener.onStage(videoId, stage, System.nanoTime() - start,
+                    counted instanceof CountingInputStream ? ((CountingInputStream) counted).count : -1);
+    }
+
+    void stage(MetricsListener.Stage stage, long start, long bytesRead) {
+        if (enabled)
+            listener.onStage(videoId, stage, System.nanoTime() - start, bytesRead);
+    }
+
+    void cacheLookup(MetricsListener.Cache cache, boolean hit) {
+        if (enabled)
+            listener.onCacheLookup(videoId, cache, hit);
+    }
+
+    void retry(MetricsListener.Stage stage, int attempt, Exception reason) {
+        if (enabled)
+            listener.onRetry(videoId, stage, attempt, String.valueOf(reason));
+    }
+
+    void complete(long start, String errMsg) {
+        if (enabled)
+            listener.onExtractionComplete(videoId, System.nanoTime() - start, errMsg);
+    }
+}
@@ -0,0 +1,45 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * The outcome of one extraction.
+ */
+public class ExtractionResult {
+
+    ItagArray<YtFile> ytFiles;
+    VideoMeta videoMeta;
+    String errMsg;
+
+    /**
+     * A result with its own copy of the files, so the receiver may modify them without
+     * affecting a result shared through the cache or with coalesced extractions.
+     */
+    ExtractionResult copy() {
+        ExtractionResult copy = new ExtractionResult();
+        copy.ytFiles = ytFiles != null ? ytFiles.clone() : null;
+        copy.videoMeta = videoMeta;
+        copy.errMsg = errMsg;
+        return copy;
+    }
+
+    /**
+     * The extracted files by itag or null if the extraction failed. The array belongs
+     * to this result, the files are immutable.
+     */
+    public ItagArray<YtFile> getYtFiles() {
+        return ytFiles;
+    }
+
+    /**
+     * The meta data of the video, may be null if the extraction failed early.
+     */
+    public VideoMeta getVideoMeta() {
+        return videoMeta;
+    }
+
+    /**
+     * The error message or null.
+     */
+    public String getErrMsg() {
+        return errMsg;
+    }
+}
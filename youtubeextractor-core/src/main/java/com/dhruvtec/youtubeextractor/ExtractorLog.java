@@ -0,0 +1,27 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Logging used by the extractor.
+ */
+public interface ExtractorLog {
+
+    /**
+     * Discards everything.
+     */
+    ExtractorLog NONE = new ExtractorLog() {
+        @Override
+        public void d(String tag, String msg) {
+        }
+
+        @Override
+        public void e(String tag, String msg) {
+        }
+    };
+
+    /**
+     * Debug output, only of interest while developing.
+     */
+    void d(String tag, String msg);
+
+    void e(String tag, String msg);
+}
@@ -20,56 +20,56 @@ public class Format {
     private boolean isDashContainer;
     private boolean isHlsContent;
 
+    // Derived from the fields above once, checked for every stream
+    private boolean isWebm;
+    private boolean hasVideo;
+    private boolean hasAudio;
+
     Format(int itag, String ext, int height, VCodec vCodec, ACodec aCodec, boolean isDashContainer) {
-        this.itag = itag;
-        this.ext = ext;
-        this.height = height;
-        this.fps = 30;
-        this.audioBitrate = -1;
-        this.isDashContainer = isDashContainer;
-        this.isHlsContent = false;
+        this(itag, ext, height, 30, vCodec, aCodec, -1, isDashContainer, false);
     }
 
     Format(int itag, String ext, VCodec vCodec, ACodec aCodec, int audioBitrate, boolean isDashContainer) {
-        this.itag = itag;
-        this.ext = ext;
-        this.height = -1;
-        this.fps = 30;
-        this.audioBitrate = audioBitrate;
-        this.isDashContainer = isDashContainer;
-        this.isHlsContent = false;
+        this(itag, ext, -1, 30, vCodec, aCodec, audioBitrate, isDashContainer, false);
     }
 
     Format(int itag, String ext, int height, VCodec vCodec, ACodec aCodec, int audioBitrate,
            boolean isDashContainer) {
-        this.itag = itag;
-        this.ext = ext;
-        this.height = height;
-        this.fps = 30;
-        this.audioBitrate = audioBitrate;
-        this.isDashContainer = isDashContainer;
-        this.isHlsContent = false;
+        this(itag, ext, height, 30, vCodec, aCodec, audioBitrate, isDashContainer, false);
     }
 
     Format(int itag, String ext, int height, VCodec vCodec, ACodec aCodec, int audioBitrate,
            boolean isDashContainer, boolean isHlsContent) {
-        this.itag = itag;
-        this.ext = ext;
-        this.height = height;
-        this.fps = 30;
-        this.audioBitrate = audioBitrate;
-        this.isDashContainer = isDashContainer;
-        this.isHlsContent = isHlsContent;
+        this(itag, ext, height, 30, vCodec, aCodec, audioBitrate, isDashContainer, isHlsContent);
     }
 
     Format(int itag, String ext, int height, VCodec vCodec, int fps, ACodec aCodec, boolean isDashContainer) {
+        this(itag, ext, height, fps, vCodec, aCodec, -1, isDashContainer, false);
+    }
+
+    /**
+     * Describe a format which is not known to this library yet, to add it with
+     * {@link FormatRegistry#register(Format)}.
+     *
+     * @param height       the pixel height or -1 for audio files
+     * @param audioBitrate the audio bitrate in kbit/s or -1 for video files
+     */
+    public Format(int itag, String ext, int height, int fps, VCodec vCodec, ACodec aCodec, int audioBitrate,
+                  boolean isDashContainer, boolean isHlsContent) {
+        if (ext == null || vCodec == null || aCodec == null)
+            throw new NullPointerException("ext and codecs must not be null");
         this.itag = itag;
         this.ext = ext;
         this.height = height;
-        this.audioBitrate = -1;
         this.fps = fps;
+        this.vCodec = vCodec;
+        this.aCodec = aCodec;
+        this.audioBitrate = audioBitrate;
         this.isDashContainer = isDashContainer;
-        this.isHlsContent = false;
+        this.isHlsContent = isHlsContent;
+        this.isWebm = ext.equals("webm");
+        this.hasVideo = vCodec != VCodec.NONE;
+        this.hasAudio = aCodec != ACodec.NONE;
     }
 
     /**
@@ -116,6 +116,41 @@ public class Format {
         return isHlsContent;
     }
 
+    /**
+     * True if the container is webm.
+     */
+    public boolean isWebm() {
+        return isWebm;
+    }
+
+    /**
+     * True if the file has a video track.
+     */
+    public boolean hasVideo() {
+        return hasVideo;
+    }
+
+    /**
+     * True if the file has an audio track.
+     */
+    public boolean hasAudio() {
+        return hasAudio;
+    }
+
+    /**
+     * True for dash audio files without a video track.
+     */
+    public boolean isAudioOnly() {
+        return hasAudio && !hasVideo;
+    }
+
+    /**
+     * True for dash video files without an audio track.
+     */
+    public boolean isVideoOnly() {
+        return hasVideo && !hasAudio;
+    }
+
     /**
      * The pixel height of the video stream or -1 for audio files.
      */
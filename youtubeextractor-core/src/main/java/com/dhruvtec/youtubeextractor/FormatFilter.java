@@ -0,0 +1,13 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Chooses the formats an extraction should return, see
+ * {@link StreamExtractor#setFormatFilter(FormatFilter)}.
+ */
+public interface FormatFilter {
+
+    /**
+     * @return true if files of the format should be extracted
+     */
+    boolean accept(Format format);
+}
@@ -0,0 +1,110 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * The known formats, indexed by itag.
+ * <p/>
+ * Lookups index an array, no search and no boxing, as they happen for every stream
+ * of every extraction. The table is never changed in place: {@link #register(Format)}
+ * publishes a new copy, so readers need no lock and formats youtube introduces can
+ * be added at runtime without an update of the library.
+ */
+public final class FormatRegistry {
+
+    /**
+     * Youtube itags are small numbers, larger ones would only waste memory.
+     */
+    static final int MAX_ITAG = 4096;
+
+    private static volatile Format[] formats = new Format[0];
+
+    static {
+        // http://en.wikipedia.org/wiki/YouTube#Quality_and_formats
+
+        // Video and Audio
+        register(new Format(17, "3gp", 144, Format.VCodec.MPEG4, Format.ACodec.AAC, 24, false));
+        register(new Format(36, "3gp", 240, Format.VCodec.MPEG4, Format.ACodec.AAC, 32, false));
+        register(new Format(5, "flv", 240, Format.VCodec.H263, Format.ACodec.MP3, 64, false));
+        register(new Format(43, "webm", 360, Format.VCodec.VP8, Format.ACodec.VORBIS, 128, false));
+        register(new Format(18, "mp4", 360, Format.VCodec.H264, Format.ACodec.AAC, 96, false));
+        register(new Format(22, "mp4", 720, Format.VCodec.H264, Format.ACodec.AAC, 192, false));
+
+        // Dash Video
+        register(new Format(160, "mp4", 144, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(133, "mp4", 240, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(134, "mp4", 360, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(135, "mp4", 480, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(136, "mp4", 720, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(137, "mp4", 1080, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(264, "mp4", 1440, Format.VCodec.H264, Format.ACodec.NONE, true));
+        register(new Format(266, "mp4", 2160, Format.VCodec.H264, Format.ACodec.NONE, true));
+
+        register(new Format(298, "mp4", 720, Format.VCodec.H264, 60, Format.ACodec.NONE, true));
+        register(new Format(299, "mp4", 1080, Format.VCodec.H264, 60, Format.ACodec.NONE, true));
+
+        // Dash Audio
+        register(new Format(140, "m4a", Format.VCodec.NONE, Format.ACodec.AAC, 128, true));
+        register(new Format(141, "m4a", Format.VCodec.NONE, Format.ACodec.AAC, 256, true));
+
+        // WEBM Dash Video
+        register(new Format(278, "webm", 144, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(242, "webm", 240, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(243, "webm", 360, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(244, "webm", 480, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(247, "webm", 720, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(248, "webm", 1080, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(271, "webm", 1440, Format.VCodec.VP9, Format.ACodec.NONE, true));
+        register(new Format(313, "webm", 2160, Format.VCodec.VP9, Format.ACodec.NONE, true));
+
+        register(new Format(302, "webm", 720, Format.VCodec.VP9, 60, Format.ACodec.NONE, true));
+        register(new Format(308, "webm", 1440, Format.VCodec.VP9, 60, Format.ACodec.NONE, true));
+        register(new Format(303, "webm", 1080, Format.VCodec.VP9, 60, Format.ACodec.NONE, true));
+        register(new Format(315, "webm", 2160, Format.VCodec.VP9, 60, Format.ACodec.NONE, true));
+
+        // WEBM Dash Audio
+        register(new Format(171, "webm", Format.VCodec.NONE, Format.ACodec.VORBIS, 128, true));
+
+        register(new Format(249, "webm", Format.VCodec.NONE, Format.ACodec.OPUS, 48, true));
+        register(new Format(250, "webm", Format.VCodec.NONE, Format.ACodec.OPUS, 64, true));
+        register(new Format(251, "webm", Format.VCodec.NONE, Format.ACodec.OPUS, 160, true));
+
+        // HLS Live Stream
+        register(new Format(91, "mp4", 144, Format.VCodec.H264, Format.ACodec.AAC, 48, false, true));
+        register(new Format(92, "mp4", 240, Format.VCodec.H264, Format.ACodec.AAC, 48, false, true));
+        register(new Format(93, "mp4", 360, Format.VCodec.H264, Format.ACodec.AAC, 128, false, true));
+        register(new Format(94, "mp4", 480, Format.VCodec.H264, Format.ACodec.AAC, 128, false, true));
+        register(new Format(95, "mp4", 720, Format.VCodec.H264, Format.ACodec.AAC, 256, false, true));
+        register(new Format(96, "mp4", 1080, Format.VCodec.H264, Format.ACodec.AAC, 256, false, true));
+    }
+
+    private FormatRegistry() {
+    }
+
+    /**
+     * The format of the itag or null if it is unknown.
+     */
+    public static Format get(int itag) {
+        Format[] formats = FormatRegistry.formats;
+        return itag >= 0 && itag < formats.length ? formats[itag] : null;
+    }
+
+    /**
+     * Add a format or replace the one with the same itag.
+     */
+    public static synchronized void register(Format format) {
+        int itag = format.getItag();
+        if (itag < 0 || itag >= MAX_ITAG)
+            throw new IllegalArgumentException("itag out of range: " + itag);
+        Format[] copy = new Format[Math.max(formats.length, itag + 1)];
+        System.arraycopy(formats, 0, copy, 0, formats.length);
+        copy[itag] = format;
+        formats = copy;
+    }
+
+    /**
+     * The current table, indexed by itag with null for unknown itags. Must not be
+     * modified.
+     */
+    static Format[] table() {
+        return formats;
+    }
+}
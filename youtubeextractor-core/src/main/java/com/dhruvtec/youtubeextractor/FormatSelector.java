@@ -0,0 +1,321 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Picks the file to play or download from the extracted files.
+ * <p/>
+ * Candidates are the files with video and audio and the pairs of a dash video and a
+ * dash audio file in the same container. Files larger than the screen or with codecs
+ * the device can not decode are left out. Of the rest the best quality is chosen
+ * whose bitrate fits the budget: the measured bandwidth times a safety factor,
+ * capped by the data saver limit. If nothing fits the candidate with the lowest
+ * bitrate is chosen, it stalls the least.
+ * <p/>
+ * The bitrate of a file is taken from the dash manifest or live playlist if they
+ * stated it, otherwise it is estimated from the resolution.
+ */
+public class FormatSelector implements FormatFilter {
+
+    private static final float DEFAULT_BANDWIDTH_FRACTION = 0.75f;
+
+    /**
+     * The selected file, or the video and audio file to play together.
+     */
+    public static final class Selection {
+        private final YtFile muxed;
+        private final YtFile video;
+        private final YtFile audio;
+        private final long bitrate;
+
+        Selection(YtFile muxed, YtFile video, YtFile audio, long bitrate) {
+            this.muxed = muxed;
+            this.video = video;
+            this.audio = audio;
+            this.bitrate = bitrate;
+        }
+
+        /**
+         * True if one file has video and audio.
+         */
+        public boolean isMuxed() {
+            return muxed != null;
+        }
+
+        /**
+         * The file with video and audio or null if a pair was selected.
+         */
+        public YtFile getMuxed() {
+            return muxed;
+        }
+
+        /**
+         * The video file of a pair or null.
+         */
+        public YtFile getVideo() {
+            return video;
+        }
+
+        /**
+         * The audio file of a pair or null.
+         */
+        public YtFile getAudio() {
+            return audio;
+        }
+
+        /**
+         * The bitrate of the selection in bits per second, known or estimated.
+         */
+        public long getBitrate() {
+            return bitrate;
+        }
+
+        @Override
+        public String toString() {
+            return "Selection{" +
+                    (muxed != null ? "muxed=" + muxed.getFormat().getItag()
+                            : "video=" + video.getFormat().getItag() + ", audio=" + audio.getFormat().getItag()) +
+                    ", bitrate=" + bitrate +
+                    '}';
+        }
+    }
+
+    private volatile BandwidthMeter bandwidthMeter;
+    private volatile float bandwidthFraction = DEFAULT_BANDWIDTH_FRACTION;
+    private volatile long maxBitrate = -1;
+    private volatile int maxWidth = -1;
+    private volatile int maxHeight = -1;
+    private volatile Set<Format.VCodec> videoCodecs = EnumSet.allOf(Format.VCodec.class);
+    private volatile Set<Format.ACodec> audioCodecs = EnumSet.allOf(Format.ACodec.class);
+    private volatile boolean allowPairs = true;
+
+    /**
+     * Limit the bitrate to a fraction of the measured bandwidth. Default: none
+     */
+    public void setBandwidthMeter(BandwidthMeter bandwidthMeter) {
+        this.bandwidthMeter = bandwidthMeter;
+    }
+
+    /**
+     * The share of the measured bandwidth the selection may use. Default: 0.75
+     */
+    public void setBandwidthFraction(float bandwidthFraction) {
+        if (!(bandwidthFraction > 0))
+            throw new IllegalArgumentException("bandwidthFraction <= 0");
+        this.bandwidthFraction = bandwidthFraction;
+    }
+
+    /**
+     * The data saver limit in bits per second, -1 for none. Default: none
+     */
+    public void setMaxBitrate(long maxBitrate) {
+        this.maxBitrate = maxBitrate;
+    }
+
+    /**
+     * The size of the screen, videos larger in either direction are left out. The
+     * orientation does not matter. Default: no limit
+     */
+    public void setMaxVideoSize(int width, int height) {
+        this.maxWidth = Math.max(width, height);
+        this.maxHeight = Math.min(width, height);
+    }
+
+    /**
+     * The video codecs the device can decode. Default: all
+     */
+    public void setSupportedVideoCodecs(Format.VCodec... codecs) {
+        Set<Format.VCodec> set = EnumSet.of(Format.VCodec.NONE);
+        for (Format.VCodec codec : codecs) {
+            set.add(codec);
+        }
+        videoCodecs = set;
+    }
+
+    /**
+     * The audio codecs the device can decode. Default: all
+     */
+    public void setSupportedAudioCodecs(Format.ACodec... codecs) {
+        Set<Format.ACodec> set = EnumSet.of(Format.ACodec.NONE);
+        for (Format.ACodec codec : codecs) {
+            set.add(codec);
+        }
+        audioCodecs = set;
+    }
+
+    /**
+     * Allow separate dash video and audio files, which have to be played together or
+     * combined with {@link Mp4Muxer}. Default: true
+     */
+    public void setAllowPairs(boolean allowPairs) {
+        this.allowPairs = allowPairs;
+    }
+
+    /**
+     * Whether a file of the format could ever be selected with the current settings,
+     * regardless of the bandwidth. Set the selector as
+     * {@link StreamExtractor#setFormatFilter(FormatFilter)} to only extract these.
+     */
+    @Override
+    public boolean accept(Format format) {
+        if (format == null)
+            return false;
+        if (!allowPairs && format.isDashContainer())
+            return false;
+        if (format.getVideoCodec() != null && !videoCodecs.contains(format.getVideoCodec()))
+            return false;
+        if (format.getAudioCodec() != null && !audioCodecs.contains(format.getAudioCodec()))
+            return false;
+        return maxHeight < 0 || format.getHeight() <= maxHeight;
+    }
+
+    /**
+     * @return the selection or null if no file is acceptable
+     */
+    public Selection select(ItagArray<YtFile> ytFiles) {
+        List<YtFile> files = new ArrayList<>(ytFiles.size());
+        for (int i = 0; i < ytFiles.size(); i++) {
+            files.add(ytFiles.valueAt(i));
+        }
+        return select(files);
+    }
+
+    /**
+     * @return the selection or null if no file is acceptable
+     */
+    public Selection select(Collection<YtFile> ytFiles) {
+        List<YtFile> muxed = new ArrayList<>();
+        List<YtFile> videos = new ArrayList<>();
+        List<YtFile> audios = new ArrayList<>();
+        for (YtFile ytFile : ytFiles) {
+            if (ytFile == null || !acceptFile(ytFile))
+                continue;
+            Format format = ytFile.getFormat();
+            if (format.hasVideo() && format.hasAudio())
+                muxed.add(ytFile);
+            else if (format.isVideoOnly() && format.isDashContainer())
+                videos.add(ytFile);
+            else if (format.isAudioOnly() && format.isDashContainer())
+                audios.add(ytFile);
+        }
+
+        long budget = budget();
+        Selection best = null;
+        Selection cheapest = null;
+        for (YtFile ytFile : muxed) {
+            Selection candidate = new Selection(ytFile, null, null, bitrate(ytFile));
+            best = better(best, candidate, budget);
+            cheapest = cheaper(cheapest, candidate);
+        }
+        if (allowPairs) {
+            for (YtFile video : videos) {
+                for (YtFile audio : audios) {
+                    if (!sameContainer(video.getFormat(), audio.getFormat()))
+                        continue;
+                    Selection candidate = new Selection(null, video, audio, bitrate(video) + bitrate(audio));
+                    best = better(best, candidate, budget);
+                    cheapest = cheaper(cheapest, candidate);
+                }
+            }
+        }
+        return best != null ? best : cheapest;
+    }
+
+    private boolean acceptFile(YtFile ytFile) {
+        if (!accept(ytFile.getFormat()))
+            return false;
+        return maxWidth < 0 || ytFile.getWidth() <= 0
+                || Math.max(ytFile.getWidth(), ytFile.getHeight()) <= maxWidth;
+    }
+
+    /**
+     * @return the bitrate the selection may have, -1 for no limit
+     */
+    private long budget() {
+        long budget = maxBitrate;
+        BandwidthMeter meter = bandwidthMeter;
+        long bandwidth = meter != null ? meter.getBitsPerSecond() : -1;
+        if (bandwidth > 0) {
+            long usable = (long) (bandwidth * bandwidthFraction);
+            budget = budget < 0 ? usable : Math.min(budget, usable);
+        }
+        return budget;
+    }
+
+    /**
+     * @return the better of the two, candidates over the budget never win
+     */
+    private static Selection better(Selection best, Selection candidate, long budget) {
+        if (budget >= 0 && candidate.bitrate > budget)
+            return best;
+        if (best == null)
+            return candidate;
+        int c = compareQuality(candidate, best);
+        if (c != 0)
+            return c > 0 ? candidate : best;
+        // Same quality for less data, one file before two
+        if (candidate.bitrate != best.bitrate)
+            return candidate.bitrate < best.bitrate ? candidate : best;
+        return candidate.isMuxed() && !best.isMuxed() ? candidate : best;
+    }
+
+    private static Selection cheaper(Selection cheapest, Selection candidate) {
+        return cheapest == null || candidate.bitrate < cheapest.bitrate ? candidate : cheapest;
+    }
+
+    private static int compareQuality(Selection a, Selection b) {
+        Format va = a.isMuxed() ? a.muxed.getFormat() : a.video.getFormat();
+        Format vb = b.isMuxed() ? b.muxed.getFormat() : b.video.getFormat();
+        if (va.getHeight() != vb.getHeight())
+            return va.getHeight() < vb.getHeight() ? -1 : 1;
+        if (va.getFps() != vb.getFps())
+            return va.getFps() < vb.getFps() ? -1 : 1;
+        int aa = a.isMuxed() ? va.getAudioBitrate() : a.audio.getFormat().getAudioBitrate();
+        int ab = b.isMuxed() ? vb.getAudioBitrate() : b.audio.getFormat().getAudioBitrate();
+        return aa < ab ? -1 : (aa == ab ? 0 : 1);
+    }
+
+    private static boolean sameContainer(Format video, Format audio) {
+        if (video.isWebm())
+            return audio.isWebm();
+        return video.getExt().equals("mp4") && audio.getExt().equals("m4a");
+    }
+
+    /**
+     * The stated bitrate of the file or an estimate from its format.
+     */
+    static long bitrate(YtFile ytFile) {
+        if (ytFile.getBitrate() > 0)
+            return ytFile.getBitrate();
+        Format format = ytFile.getFormat();
+        long bitrate = Math.max(format.getAudioBitrate(), 0) * 1000L;
+        int height = format.getHeight();
+        if (height > 0) {
+            long video;
+            if (height <= 144)
+                video = 100000;
+            else if (height <= 240)
+                video = 250000;
+            else if (height <= 360)
+                video = 600000;
+            else if (height <= 480)
+                video = 1100000;
+            else if (height <= 720)
+                video = 2500000;
+            else if (height <= 1080)
+                video = 4500000;
+            else if (height <= 1440)
+                video = 9000000;
+            else
+                video = 18000000;
+            if (format.getFps() > 30)
+                video = video * 3 / 2;
+            bitrate += video;
+        }
+        return bitrate;
+    }
+}
@@ -0,0 +1,246 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Follows the media playlist of one live {@link YtFile} and hands out its segments
+ * in order.
+ * <p/>
+ * The playlist is loaded again once per target duration, or after half of it if it
+ * did not change, and only segments which were not in the previous load are
+ * created. Playback starts a few segments before the live edge. The next segments
+ * are downloaded ahead into a bounded buffer while the current ones play, so a slow
+ * segment does not stall playback right away.
+ */
+public class HlsLiveStream implements Closeable {
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+
+    /**
+     * Segments before the live edge to start with, as recommended by the HLS spec.
+     */
+    private static final int LIVE_EDGE_SEGMENTS = 3;
+    private static final int DEFAULT_PREFETCH_COUNT = 3;
+    private static final int MAX_FAILURES = 5;
+
+    private final CancellableTransport http;
+    private final String playlistUrl;
+    private final ExtractorLog log;
+    private final HlsPlaylistParser.MediaPlaylist playlist;
+    private volatile BandwidthMeter bandwidthMeter;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private final ArrayDeque<HlsSegment> pending = new ArrayDeque<>();
+    private final ArrayDeque<HlsSegment> buffer = new ArrayDeque<>();
+    private int prefetchCount = DEFAULT_PREFETCH_COUNT;
+    private boolean started;
+    private boolean closed;
+    private boolean ended;
+    private IOException failure;
+
+    /**
+     * @param playlistUrl the url of a live {@link YtFile}
+     */
+    public HlsLiveStream(HttpTransport http, String playlistUrl, ExtractorLog log) {
+        this.http = new CancellableTransport(http);
+        this.playlistUrl = playlistUrl;
+        this.log = log;
+        this.playlist = new HlsPlaylistParser.MediaPlaylist(playlistUrl);
+    }
+
+    /**
+     * The number of segments downloaded ahead. Default: 3
+     */
+    public void setPrefetchCount(int prefetchCount) {
+        if (prefetchCount < 1)
+            throw new IllegalArgumentException("prefetchCount < 1");
+        synchronized (lock) {
+            this.prefetchCount = prefetchCount;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Report the throughput of every segment download to the meter. Default: none
+     */
+    public void setBandwidthMeter(BandwidthMeter bandwidthMeter) {
+        this.bandwidthMeter = bandwidthMeter;
+    }
+
+    /**
+     * Start following the playlist. The executor runs the loop which loads the
+     * playlist and the segments until the stream is closed or ends, so it needs a
+     * thread of its own.
+     */
+    public void start(Executor executor) {
+        synchronized (lock) {
+            if (started)
+                throw new IllegalStateException("Already started");
+            started = true;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                follow();
+            }
+        });
+    }
+
+    /**
+     * Wait for the next downloaded segment.
+     *
+     * @return the segment or null if the stream ended or was closed
+     * @throws IOException if the playlist or the segments can not be loaded anymore
+     */
+    public HlsSegment take() throws IOException, InterruptedException {
+        synchronized (lock) {
+            while (true) {
+                if (!buffer.isEmpty()) {
+                    HlsSegment segment = buffer.poll();
+                    lock.notifyAll();
+                    return segment;
+                }
+                if (failure != null)
+                    throw failure;
+                if (closed || ended)
+                    return null;
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Stop loading and abort the running downloads.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            buffer.clear();
+            pending.clear();
+            lock.notifyAll();
+        }
+        http.cancel();
+    }
+
+    private void follow() {
+        long nextRefresh = 0;
+        int failures = 0;
+        boolean first = true;
+        try {
+            while (true) {
+                HlsSegment next = null;
+                synchronized (lock) {
+                    while (!closed) {
+                        long now = System.currentTimeMillis();
+                        if (now >= nextRefresh && !playlist.isEnded())
+                            break;
+                        if (!pending.isEmpty() && buffer.size() < prefetchCount) {
+                            next = pending.peek();
+                            break;
+                        }
+                        if (playlist.isEnded() && pending.isEmpty()) {
+                            ended = true;
+                            lock.notifyAll();
+                            return;
+                        }
+                        lock.wait(playlist.isEnded() ? 0 : nextRefresh - now);
+                    }
+                    if (closed)
+                        return;
+                }
+                try {
+                    if (next != null) {
+                        long startTime = System.currentTimeMillis();
+                        next.setData(download(next.getUrl()));
+                        BandwidthMeter meter = bandwidthMeter;
+                        if (meter != null)
+                            meter.addSample(next.getData().length, System.currentTimeMillis() - startTime);
+                        synchronized (lock) {
+                            if (pending.peek() == next) {
+                                pending.poll();
+                                buffer.add(next);
+                                lock.notifyAll();
+                            }
+                        }
+                    } else {
+                        int added = refresh(first);
+                        first = false;
+                        long targetDurationMs = playlist.getTargetDurationMs();
+                        nextRefresh = System.currentTimeMillis() + (added > 0 ? targetDurationMs : targetDurationMs / 2);
+                    }
+                    failures = 0;
+                } catch (IOException e) {
+                    if (isClosed())
+                        return;
+                    log.d(LOG_TAG, "Live stream request failed: " + e);
+                    if (++failures >= MAX_FAILURES)
+                        throw e;
+                    // Try again, but not before the playlist could have changed
+                    nextRefresh = System.currentTimeMillis() + playlist.getTargetDurationMs() / 2;
+                    synchronized (lock) {
+                        lock.wait(playlist.getTargetDurationMs() / 2);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.e(LOG_TAG, "Live stream failed: " + e);
+            synchronized (lock) {
+                failure = e;
+                lock.notifyAll();
+            }
+        } catch (InterruptedException e) {
+            close();
+        }
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    /**
+     * @return the number of new segments
+     */
+    private int refresh(boolean first) throws IOException {
+        List<HlsSegment> segments;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(http.get(playlistUrl), "UTF-8"));
+        try {
+            segments = playlist.update(reader);
+        } finally {
+            reader.close();
+        }
+        if (first && segments.size() > LIVE_EDGE_SEGMENTS && !playlist.isEnded())
+            segments = segments.subList(segments.size() - LIVE_EDGE_SEGMENTS, segments.size());
+        synchronized (lock) {
+            pending.addAll(segments);
+            lock.notifyAll();
+        }
+        return segments.size();
+    }
+
+    private byte[] download(String url) throws IOException {
+        InputStream in = http.get(url);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+            byte[] buf = new byte[16 * 1024];
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads HLS master and media playlists line by line as they download.
+ */
+final class HlsPlaylistParser {
+
+    private static final String STREAM_INF = "#EXT-X-STREAM-INF:";
+    private static final String TARGET_DURATION = "#EXT-X-TARGETDURATION:";
+    private static final String MEDIA_SEQUENCE = "#EXT-X-MEDIA-SEQUENCE:";
+    private static final String EXTINF = "#EXTINF:";
+    private static final String ENDLIST = "#EXT-X-ENDLIST";
+
+    static final class Variant {
+        String url;
+        int bandwidth = -1;
+        int width = -1;
+        int height = -1;
+        int fps = -1;
+        String codecs;
+    }
+
+    private HlsPlaylistParser() {
+    }
+
+    /**
+     * @return the variant streams of a master playlist
+     */
+    static List<Variant> parseMasterPlaylist(BufferedReader reader, String baseUrl) throws IOException {
+        List<Variant> variants = new ArrayList<>();
+        Variant variant = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.startsWith(STREAM_INF)) {
+                variant = new Variant();
+                parseStreamInf(line.substring(STREAM_INF.length()), variant);
+            } else if (line.length() > 0 && line.charAt(0) != '#') {
+                if (variant == null)
+                    variant = new Variant();
+                variant.url = resolve(baseUrl, line);
+                variants.add(variant);
+                variant = null;
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * Attributes like: BANDWIDTH=1280000,RESOLUTION=1280x720,CODECS="avc1.4d401f,mp4a.40.2"
+     */
+    private static void parseStreamInf(String attributes, Variant variant) {
+        int i = 0;
+        while (i < attributes.length()) {
+            int eq = attributes.indexOf('=', i);
+            if (eq < 0)
+                break;
+            String name = attributes.substring(i, eq).trim();
+            int end;
+            String value;
+            if (eq + 1 < attributes.length() && attributes.charAt(eq + 1) == '"') {
+                int quote = attributes.indexOf('"', eq + 2);
+                if (quote < 0)
+                    quote = attributes.length();
+                value = attributes.substring(eq + 2, quote);
+                end = attributes.indexOf(',', quote);
+            } else {
+                end = attributes.indexOf(',', eq);
+                value = attributes.substring(eq + 1, end < 0 ? attributes.length() : end);
+            }
+            if (name.equals("BANDWIDTH")) {
+                variant.bandwidth = parseInt(value);
+            } else if (name.equals("RESOLUTION")) {
+                int x = value.indexOf('x');
+                if (x > 0) {
+                    variant.width = parseInt(value.substring(0, x));
+                    variant.height = parseInt(value.substring(x + 1));
+                }
+            } else if (name.equals("FRAME-RATE")) {
+                variant.fps = (int) Math.round(parseDouble(value));
+            } else if (name.equals("CODECS")) {
+                variant.codecs = value;
+            }
+            if (end < 0)
+                break;
+            i = end + 1;
+        }
+    }
+
+    /**
+     * A live media playlist which is loaded again and again. Each load only creates
+     * the segments which were not in the previous loads.
+     */
+    static final class MediaPlaylist {
+
+        private final String baseUrl;
+        private long targetDurationMs = 5000;
+        private long lastSequence = -1;
+        private boolean ended;
+
+        MediaPlaylist(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        /**
+         * @return the new segments in order
+         */
+        List<HlsSegment> update(BufferedReader reader) throws IOException {
+            List<HlsSegment> segments = new ArrayList<>();
+            long sequence = 0;
+            long durationMs = -1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.length() == 0)
+                    continue;
+                if (line.charAt(0) != '#') {
+                    // Segments we already have only advance the sequence
+                    if (sequence > lastSequence) {
+                        segments.add(new HlsSegment(sequence, durationMs, resolve(baseUrl, line.trim())));
+                        lastSequence = sequence;
+                    }
+                    sequence++;
+                    durationMs = -1;
+                } else if (line.startsWith(EXTINF)) {
+                    if (sequence > lastSequence) {
+                        int comma = line.indexOf(',');
+                        durationMs = Math.round(parseDouble(line.substring(EXTINF.length(),
+                                comma < 0 ? line.length() : comma)) * 1000);
+                    }
+                } else if (line.startsWith(MEDIA_SEQUENCE)) {
+                    sequence = parseLong(line.substring(MEDIA_SEQUENCE.length()));
+                } else if (line.startsWith(TARGET_DURATION)) {
+                    long targetDuration = parseLong(line.substring(TARGET_DURATION.length()));
+                    if (targetDuration > 0)
+                        targetDurationMs = targetDuration * 1000;
+                } else if (line.startsWith(ENDLIST)) {
+                    ended = true;
+                }
+            }
+            return segments;
+        }
+
+        long getTargetDurationMs() {
+            return targetDurationMs;
+        }
+
+        /**
+         * True once the playlist announced that no segments follow.
+         */
+        boolean isEnded() {
+            return ended;
+        }
+    }
+
+    static String resolve(String baseUrl, String url) throws IOException {
+        if (url.startsWith("https://") || url.startsWith("http://") || baseUrl == null)
+            return url;
+        try {
+            return new URL(new URL(baseUrl), url).toString();
+        } catch (MalformedURLException e) {
+            throw new IOException("Invalid playlist url " + url);
+        }
+    }
+
+    private static int parseInt(String value) {
+        long l = parseLong(value);
+        return l > Integer.MAX_VALUE ? -1 : (int) l;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * A media segment of a live stream.
+ */
+public class HlsSegment {
+
+    private final long sequence;
+    private final long durationMs;
+    private final String url;
+    private byte[] data;
+
+    HlsSegment(long sequence, long durationMs, String url) {
+        this.sequence = sequence;
+        this.durationMs = durationMs;
+        this.url = url;
+    }
+
+    /**
+     * The media sequence number, segments follow each other without gaps.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * The play time of the segment.
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * The content of the segment, null until it was downloaded.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    void setData(byte[] data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "HlsSegment{" +
+                "sequence=" + sequence +
+                ", durationMs=" + durationMs +
+                ", url='" + url + '\'' +
+                (data != null ? ", size=" + data.length : "") +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Performs the HTTP requests of the extractor.
+ */
+public interface HttpTransport {
+
+    /**
+     * Open a GET request to the url and return the response body.
+     * The caller must close the returned stream.
+     */
+    InputStream get(String url) throws IOException;
+}
@@ -0,0 +1,116 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.Arrays;
+
+/**
+ * Maps itags to objects, ordered by itag. Works like Android's SparseArray so the
+ * extraction code does not depend on the Android framework.
+ */
+public class ItagArray<E> implements Cloneable {
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public ItagArray() {
+        this(10);
+    }
+
+    public ItagArray(int initialCapacity) {
+        keys = new int[Math.max(initialCapacity, 1)];
+        values = new Object[keys.length];
+    }
+
+    /**
+     * The object mapped to the itag or null.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int itag) {
+        int i = Arrays.binarySearch(keys, 0, size, itag);
+        return i < 0 ? null : (E) values[i];
+    }
+
+    /**
+     * Add or replace the mapping of the itag.
+     */
+    public void put(int itag, E value) {
+        int i = Arrays.binarySearch(keys, 0, size, itag);
+        if (i >= 0) {
+            values[i] = value;
+            return;
+        }
+        insert(~i, itag, value);
+    }
+
+    /**
+     * Like {@link #put(int, Object)}, optimized for itags larger than all existing ones.
+     */
+    public void append(int itag, E value) {
+        if (size > 0 && itag <= keys[size - 1]) {
+            put(itag, value);
+            return;
+        }
+        insert(size, itag, value);
+    }
+
+    public void remove(int itag) {
+        int i = Arrays.binarySearch(keys, 0, size, itag);
+        if (i >= 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(values, i + 1, values, i, size - i - 1);
+            values[--size] = null;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int keyAt(int index) {
+        return keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E valueAt(int index) {
+        return (E) values[index];
+    }
+
+    /**
+     * A copy of the mappings, the objects themselves are not copied.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ItagArray<E> clone() {
+        try {
+            ItagArray<E> clone = (ItagArray<E>) super.clone();
+            clone.keys = keys.clone();
+            clone.values = values.clone();
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void insert(int index, int itag, E value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = itag;
+        values[index] = value;
+        size++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,203 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Deciphers signatures of any number of extractions with one {@link JsEngine}.
+ * <p/>
+ * While an evaluation is running new requests are queued, and once it finished all
+ * queued requests for the same player functions are deciphered by a single script.
+ * A burst of extractions therefore costs one or two evaluations instead of one per
+ * video. The results are split up again and delivered to each request's callback.
+ */
+final class JsDecipherQueue {
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+
+    /**
+     * An evaluation that did not report back in this time is considered lost, its
+     * requests fail and the queue moves on.
+     */
+    private static final long EVALUATION_TIMEOUT_MS = 10000;
+
+    private static final class Request {
+        final String functionName;
+        final String functions;
+        final ItagArray<String> encSignatures;
+        final JsEngine.Callback callback;
+        // Guarded by lock
+        boolean cancelled;
+
+        Request(String functionName, String functions, ItagArray<String> encSignatures,
+                JsEngine.Callback callback) {
+            this.functionName = functionName;
+            this.functions = functions;
+            this.encSignatures = encSignatures;
+            this.callback = callback;
+        }
+    }
+
+    private final JsEngine jsEngine;
+    private final ExtractorLog log;
+
+    // Guarded by lock
+    private final List<Request> queue = new ArrayList<>();
+    private List<Request> running;
+    private long runningSince;
+
+    private final Object lock = new Object();
+
+    JsDecipherQueue(JsEngine jsEngine, ExtractorLog log) {
+        this.jsEngine = jsEngine;
+        this.log = log;
+    }
+
+    /**
+     * Queue the signatures for deciphering. The callback receives the deciphered
+     * signatures separated by "\n" in the order of the itags.
+     */
+    void submit(String functionName, String functions, ItagArray<String> encSignatures,
+                JsEngine.Callback callback) {
+        if (encSignatures.size() == 0) {
+            callback.onResult("");
+            return;
+        }
+        List<Request> timedOut = null;
+        synchronized (lock) {
+            queue.add(new Request(functionName, functions, encSignatures, callback));
+            if (running != null && System.currentTimeMillis() - runningSince > EVALUATION_TIMEOUT_MS) {
+                timedOut = running;
+                running = null;
+            }
+        }
+        if (timedOut != null)
+            fail(timedOut, "js evaluation timed out");
+        evaluateNext();
+    }
+
+    /**
+     * Drop the request of the callback. If its evaluation already started and nobody
+     * else waits for it, the queue moves on without waiting for the engine.
+     */
+    void cancel(JsEngine.Callback callback) {
+        synchronized (lock) {
+            for (Iterator<Request> it = queue.iterator(); it.hasNext(); ) {
+                if (it.next().callback == callback) {
+                    it.remove();
+                    return;
+                }
+            }
+            if (running == null)
+                return;
+            boolean abandoned = true;
+            for (Request request : running) {
+                if (request.callback == callback)
+                    request.cancelled = true;
+                abandoned &= request.cancelled;
+            }
+            if (!abandoned)
+                return;
+            running = null;
+        }
+        evaluateNext();
+    }
+
+    private void evaluateNext() {
+        final List<Request> batch;
+        synchronized (lock) {
+            if (running != null || queue.isEmpty())
+                return;
+            batch = new ArrayList<>();
+            Request first = queue.get(0);
+            for (Iterator<Request> it = queue.iterator(); it.hasNext(); ) {
+                Request request = it.next();
+                if (request.functionName.equals(first.functionName)
+                        && request.functions.equals(first.functions)) {
+                    batch.add(request);
+                    it.remove();
+                }
+            }
+            running = batch;
+            runningSince = System.currentTimeMillis();
+        }
+        log.d(LOG_TAG, "Decipher " + batch.size() + " extraction(s) with one js evaluation");
+        jsEngine.evaluate(script(batch), new JsEngine.Callback() {
+            @Override
+            public void onResult(String result) {
+                if (finish(batch))
+                    dispatch(batch, result);
+                evaluateNext();
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                if (finish(batch))
+                    fail(batch, errorMessage);
+                evaluateNext();
+            }
+        });
+    }
+
+    /**
+     * @return false if the batch timed out and its requests already failed
+     */
+    private boolean finish(List<Request> batch) {
+        synchronized (lock) {
+            if (running != batch)
+                return false;
+            running = null;
+            return true;
+        }
+    }
+
+    private static String script(List<Request> batch) {
+        Request first = batch.get(0);
+        StringBuilder stb = new StringBuilder(first.functions.length() + 128 * batch.size());
+        stb.append(first.functions).append(" function decipher(){return ");
+        boolean firstSignature = true;
+        for (Request request : batch) {
+            for (int i = 0; i < request.encSignatures.size(); i++) {
+                if (!firstSignature)
+                    stb.append("+\"\\n\"+");
+                firstSignature = false;
+                stb.append(first.functionName).append("('").append(request.encSignatures.valueAt(i))
+                        .append("')");
+            }
+        }
+        stb.append("};decipher();");
+        return stb.toString();
+    }
+
+    private void dispatch(List<Request> batch, String result) {
+        if (result == null) {
+            fail(batch, "js evaluation returned nothing");
+            return;
+        }
+        String[] sigs = result.split("\n", -1);
+        int offset = 0;
+        for (Request request : batch) {
+            int count = request.encSignatures.size();
+            if (offset + count > sigs.length) {
+                request.callback.onError("js evaluation returned " + sigs.length + " signatures");
+            } else {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < count; i++) {
+                    if (i > 0)
+                        sb.append('\n');
+                    sb.append(sigs[offset + i]);
+                }
+                request.callback.onResult(sb.toString());
+            }
+            offset += count;
+        }
+    }
+
+    private void fail(List<Request> batch, String errorMessage) {
+        log.e(LOG_TAG, "Decipher failed: " + errorMessage);
+        for (Request request : batch) {
+            request.callback.onError(errorMessage);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Evaluates the javascript used to decipher signatures.
+ */
+public interface JsEngine {
+
+    interface Callback {
+
+        void onResult(String result);
+
+        void onError(String errorMessage);
+    }
+
+    /**
+     * Evaluate the script and report the value of its last expression.
+     * The callback may be invoked on any thread.
+     */
+    void evaluate(String script, Callback callback);
+}
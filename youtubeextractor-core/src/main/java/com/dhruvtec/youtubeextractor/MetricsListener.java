@@ -0,0 +1,99 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * Receives the timings and counters of extractions, e.g. to find out in production
+ * which step got slower.
+ * <p/>
+ * The methods are called on the threads doing the work, also concurrently, so they
+ * must be thread safe and fast and must not throw.
+ */
+public interface MetricsListener {
+
+    /**
+     * Discards everything. Extractions with this listener neither take times nor
+     * count bytes.
+     */
+    MetricsListener NONE = new MetricsListener() {
+        @Override
+        public void onStage(String videoId, Stage stage, long durationNanos, long bytesRead) {
+        }
+
+        @Override
+        public void onCacheLookup(String videoId, Cache cache, boolean hit) {
+        }
+
+        @Override
+        public void onRetry(String videoId, Stage stage, int attempt, String reason) {
+        }
+
+        @Override
+        public void onExtractionComplete(String videoId, long durationNanos, String errMsg) {
+        }
+    };
+
+    enum Stage {
+        /**
+         * Download of get_video_info.
+         */
+        VIDEO_INFO,
+        /**
+         * Download and scan of the watch page of a video with enciphered signatures.
+         */
+        WATCH_PAGE,
+        /**
+         * Download of the player javascript.
+         */
+        PLAYER_JS,
+        /**
+         * Extraction and compilation of the deciphering functions from the player
+         * javascript.
+         */
+        FUNCTION_EXTRACTION,
+        /**
+         * Deciphering the signatures, including the wait for the js engine.
+         */
+        DECIPHER,
+        /**
+         * Download and parse of the dash manifest.
+         */
+        DASH_MANIFEST,
+        /**
+         * Download and parse of the master playlist of a live stream.
+         */
+        HLS_PLAYLIST
+    }
+
+    enum Cache {
+        /**
+         * The {@link ResultCache} of the extractor.
+         */
+        RESULT,
+        /**
+         * The deciphering functions of the player, in memory or on disk.
+         */
+        PLAYER_FUNCTIONS
+    }
+
+    /**
+     * A stage finished successfully.
+     *
+     * @param bytesRead the bytes downloaded by the stage, -1 if it downloads nothing
+     */
+    void onStage(String videoId, Stage stage, long durationNanos, long bytesRead);
+
+    void onCacheLookup(String videoId, Cache cache, boolean hit);
+
+    /**
+     * A request of the stage failed and is tried again.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     */
+    void onRetry(String videoId, Stage stage, int attempt, String reason);
+
+    /**
+     * An extraction finished, also when answered from the cache.
+     *
+     * @param errMsg the reason of the failure or null if it succeeded
+     */
+    void onExtractionComplete(String videoId, long durationNanos, String errMsg);
+}
@@ -0,0 +1,450 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Combines a dash video file and a dash audio file, e.g. itag 137 and 140, into one
+ * playable fragmented mp4 file without decoding anything.
+ * <p/>
+ * The header of the output holds both tracks, followed by the fragments of the two
+ * files ordered by their decode time. Only the small header boxes are read into
+ * memory and rewritten with the new track ids, the media data is copied from file to
+ * file with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+ * The segment indexes of the inputs are dropped since their offsets do not apply
+ * to the combined file.
+ */
+public final class Mp4Muxer {
+
+    private static final int MAX_HEADER_BOX_SIZE = 16 * 1024 * 1024;
+
+    private static final int VIDEO_TRACK_ID = 1;
+    private static final int AUDIO_TRACK_ID = 2;
+
+    private Mp4Muxer() {
+    }
+
+    /**
+     * Write the video and the audio track into the output file.
+     *
+     * @param videoFile a fragmented mp4 file with one video track
+     * @param audioFile a fragmented mp4 file with one audio track
+     * @throws IOException if the files can not be read or are not fragmented mp4 files
+     */
+    public static void mux(File videoFile, File audioFile, File output) throws IOException {
+        FileInputStream video = null;
+        FileInputStream audio = null;
+        FileOutputStream out = null;
+        try {
+            video = new FileInputStream(videoFile);
+            audio = new FileInputStream(audioFile);
+            Track videoTrack = new Track(video.getChannel(), VIDEO_TRACK_ID);
+            Track audioTrack = new Track(audio.getChannel(), AUDIO_TRACK_ID);
+            out = new FileOutputStream(output);
+            FileChannel outChannel = out.getChannel();
+
+            writeFully(outChannel, ByteBuffer.wrap(videoTrack.ftyp));
+            writeFully(outChannel, ByteBuffer.wrap(moov(videoTrack, audioTrack)));
+
+            int sequenceNumber = 1;
+            videoTrack.nextFragment();
+            audioTrack.nextFragment();
+            while (videoTrack.hasFragment() || audioTrack.hasFragment()) {
+                Track next;
+                if (!audioTrack.hasFragment())
+                    next = videoTrack;
+                else if (!videoTrack.hasFragment())
+                    next = audioTrack;
+                else
+                    next = isBefore(audioTrack, videoTrack) ? audioTrack : videoTrack;
+                next.copyFragment(outChannel, sequenceNumber++);
+                next.nextFragment();
+            }
+            out.close();
+            out = null;
+        } finally {
+            close(video);
+            close(audio);
+            close(out);
+        }
+    }
+
+    /**
+     * Fragments are ordered by decode time, or by how far into their file they are
+     * if one of the files does not state the decode times.
+     */
+    private static boolean isBefore(Track a, Track b) {
+        if (a.decodeTime >= 0 && b.decodeTime >= 0)
+            return (double) a.decodeTime / a.timescale < (double) b.decodeTime / b.timescale;
+        return (double) a.fragmentStart / a.size < (double) b.fragmentStart / b.size;
+    }
+
+    /**
+     * The header of the video file with the track of the audio file added.
+     */
+    private static byte[] moov(Track video, Track audio) {
+        if (audio.movieTimescale != video.movieTimescale)
+            audio.rescaleMovieTimes(video.movieTimescale);
+        byte[] mvhd = video.mvhd.clone();
+        // next_track_ID is the last field
+        putInt(mvhd, mvhd.length - 4, AUDIO_TRACK_ID + 1);
+
+        int mvexSize = 8 + (video.mehd != null ? video.mehd.length : 0) + video.trex.length + audio.trex.length;
+        int moovSize = 8 + mvhd.length + video.trak.length + audio.trak.length + mvexSize;
+        ByteBuffer moov = ByteBuffer.allocate(moovSize);
+        moov.putInt(moovSize).put(type("moov"));
+        moov.put(mvhd).put(video.trak).put(audio.trak);
+        moov.putInt(mvexSize).put(type("mvex"));
+        if (video.mehd != null)
+            moov.put(video.mehd);
+        moov.put(video.trex).put(audio.trex);
+        return moov.array();
+    }
+
+    /**
+     * One input file: its header boxes and the position of the current fragment.
+     */
+    private static final class Track {
+        final FileChannel channel;
+        final long size;
+        final int trackId;
+
+        byte[] ftyp;
+        byte[] mvhd;
+        byte[] trak;
+        byte[] mehd;
+        byte[] trex;
+        long timescale;
+        long movieTimescale;
+
+        // The current fragment, a moof box up to the end of the following mdat box
+        private long position;
+        long fragmentStart = -1;
+        long fragmentEnd;
+        byte[] moof;
+        long decodeTime;
+
+        Track(FileChannel channel, int trackId) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.trackId = trackId;
+            readHeader();
+        }
+
+        private void readHeader() throws IOException {
+            long[] box = new long[2];
+            while (moovMissing()) {
+                if (!readBoxHeader(channel, position, size, box))
+                    break;
+                int type = (int) box[0];
+                if (position == 0 && type != FTYP)
+                    throw new IOException("Not an mp4 file");
+                if (type == FTYP)
+                    ftyp = readBox(channel, position, box[1]);
+                else if (type == MOOV)
+                    parseMoov(readBox(channel, position, box[1]));
+                position += box[1];
+            }
+            if (ftyp == null || mvhd == null || trak == null)
+                throw new IOException("Not an mp4 file");
+            if (trex == null)
+                throw new IOException("Not a fragmented mp4 file");
+        }
+
+        private boolean moovMissing() {
+            return ftyp == null || mvhd == null;
+        }
+
+        private void parseMoov(byte[] moov) throws IOException {
+            for (int offset = 8; offset + 8 <= moov.length; offset += boxSize(moov, offset)) {
+                int type = getInt(moov, offset + 4);
+                if (type == MVHD) {
+                    mvhd = copyBox(moov, offset);
+                } else if (type == TRAK && trak == null) {
+                    trak = copyBox(moov, offset);
+                } else if (type == MVEX) {
+                    int end = offset + boxSize(moov, offset);
+                    for (int child = offset + 8; child + 8 <= end; child += boxSize(moov, child)) {
+                        int childType = getInt(moov, child + 4);
+                        if (childType == MEHD)
+                            mehd = copyBox(moov, child);
+                        else if (childType == TREX && trex == null)
+                            trex = copyBox(moov, child);
+                    }
+                }
+            }
+            if (mvhd == null || trak == null || trex == null)
+                return;
+            movieTimescale = getInt(mvhd, mvhd[8] == 1 ? 28 : 20) & 0xffffffffL;
+            int tkhd = findChild(trak, 8, trak.length, TKHD);
+            int mdia = findChild(trak, 8, trak.length, MDIA);
+            int mdhd = mdia >= 0 ? findChild(trak, mdia + 8, mdia + boxSize(trak, mdia), MDHD) : -1;
+            if (tkhd < 0 || mdhd < 0)
+                throw new IOException("Malformed track header");
+            // track_ID follows the creation and modification times
+            putInt(trak, tkhd + (trak[tkhd + 8] == 1 ? 28 : 20), trackId);
+            timescale = getInt(trak, mdhd + (trak[mdhd + 8] == 1 ? 28 : 20)) & 0xffffffffL;
+            if (timescale == 0)
+                timescale = 1;
+            putInt(trex, 12, trackId);
+        }
+
+        /**
+         * The track and edit list durations are in the timescale of the movie header,
+         * which is the one of the other file in the output.
+         */
+        void rescaleMovieTimes(long toTimescale) {
+            if (movieTimescale == 0 || toTimescale == 0)
+                return;
+            int tkhd = findChild(trak, 8, trak.length, TKHD);
+            if (trak[tkhd + 8] == 1)
+                putLong(trak, tkhd + 36, rescale(getLong(trak, tkhd + 36), toTimescale));
+            else
+                putInt(trak, tkhd + 28, (int) rescale(getInt(trak, tkhd + 28) & 0xffffffffL, toTimescale));
+            int edts = findChild(trak, 8, trak.length, EDTS);
+            int elst = edts >= 0 ? findChild(trak, edts + 8, edts + boxSize(trak, edts), ELST) : -1;
+            if (elst < 0)
+                return;
+            boolean version1 = trak[elst + 8] == 1;
+            int entrySize = version1 ? 20 : 12;
+            int end = elst + boxSize(trak, elst);
+            long count = getInt(trak, elst + 12) & 0xffffffffL;
+            for (int i = 0, entry = elst + 16; i < count && entry + entrySize <= end; i++, entry += entrySize) {
+                if (version1)
+                    putLong(trak, entry, rescale(getLong(trak, entry), toTimescale));
+                else
+                    putInt(trak, entry, (int) rescale(getInt(trak, entry) & 0xffffffffL, toTimescale));
+            }
+            movieTimescale = toTimescale;
+        }
+
+        private long rescale(long duration, long toTimescale) {
+            return (long) ((double) duration * toTimescale / movieTimescale);
+        }
+
+        boolean hasFragment() {
+            return fragmentStart >= 0;
+        }
+
+        /**
+         * Find the next moof box and the mdat box after it. Everything else, like the
+         * segment index, is skipped.
+         */
+        void nextFragment() throws IOException {
+            fragmentStart = -1;
+            long[] box = new long[2];
+            while (readBoxHeader(channel, position, size, box)) {
+                long boxStart = position;
+                position += box[1];
+                if ((int) box[0] != MOOF)
+                    continue;
+                moof = readBox(channel, boxStart, box[1]);
+                while (true) {
+                    if (!readBoxHeader(channel, position, size, box))
+                        throw new IOException("Fragment without media data");
+                    position += box[1];
+                    if ((int) box[0] == MDAT)
+                        break;
+                    if ((int) box[0] == MOOF)
+                        throw new IOException("Fragment without media data");
+                }
+                fragmentStart = boxStart;
+                fragmentEnd = position;
+                decodeTime = decodeTime(moof);
+                return;
+            }
+        }
+
+        /**
+         * Write the fragment with this track's id. The media data keeps its position
+         * relative to the moof box, so only explicit base offsets have to be moved.
+         */
+        void copyFragment(FileChannel out, int sequenceNumber) throws IOException {
+            long delta = out.position() - fragmentStart;
+            for (int offset = 8; offset + 8 <= moof.length; offset += boxSize(moof, offset)) {
+                int type = getInt(moof, offset + 4);
+                if (type == MFHD) {
+                    putInt(moof, offset + 12, sequenceNumber);
+                } else if (type == TRAF) {
+                    int tfhd = findChild(moof, offset + 8, offset + boxSize(moof, offset), TFHD);
+                    if (tfhd < 0)
+                        throw new IOException("Track fragment without header");
+                    putInt(moof, tfhd + 12, trackId);
+                    int flags = getInt(moof, tfhd + 8) & 0xffffff;
+                    if ((flags & TFHD_BASE_DATA_OFFSET) != 0)
+                        putLong(moof, tfhd + 16, getLong(moof, tfhd + 16) + delta);
+                }
+            }
+            writeFully(out, ByteBuffer.wrap(moof));
+            long from = fragmentStart + moof.length;
+            while (from < fragmentEnd) {
+                long n = channel.transferTo(from, fragmentEnd - from, out);
+                if (n <= 0)
+                    throw new IOException("Could not copy the media data");
+                from += n;
+            }
+        }
+
+        /**
+         * @return the base media decode time of the first track fragment or -1 if
+         * the fragment does not state it
+         */
+        private static long decodeTime(byte[] moof) {
+            int traf = findChild(moof, 8, moof.length, TRAF);
+            if (traf < 0)
+                return -1;
+            int tfdt = findChild(moof, traf + 8, traf + boxSize(moof, traf), TFDT);
+            if (tfdt < 0)
+                return -1;
+            return moof[tfdt + 8] == 1 ? getLong(moof, tfdt + 12) : getInt(moof, tfdt + 12) & 0xffffffffL;
+        }
+    }
+
+    private static final int FTYP = fourCc("ftyp");
+    private static final int MOOV = fourCc("moov");
+    private static final int MVHD = fourCc("mvhd");
+    private static final int TRAK = fourCc("trak");
+    private static final int TKHD = fourCc("tkhd");
+    private static final int MDIA = fourCc("mdia");
+    private static final int MDHD = fourCc("mdhd");
+    private static final int EDTS = fourCc("edts");
+    private static final int ELST = fourCc("elst");
+    private static final int MVEX = fourCc("mvex");
+    private static final int MEHD = fourCc("mehd");
+    private static final int TREX = fourCc("trex");
+    private static final int MOOF = fourCc("moof");
+    private static final int MFHD = fourCc("mfhd");
+    private static final int TRAF = fourCc("traf");
+    private static final int TFHD = fourCc("tfhd");
+    private static final int TFDT = fourCc("tfdt");
+    private static final int MDAT = fourCc("mdat");
+
+    private static final int TFHD_BASE_DATA_OFFSET = 0x000001;
+
+    private static int fourCc(String type) {
+        return getInt(type(type), 0);
+    }
+
+    private static byte[] type(String type) {
+        byte[] bytes = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            bytes[i] = (byte) type.charAt(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Read the type and the total size of the box at the position into box[0] and box[1].
+     *
+     * @return false if there is no further box
+     */
+    private static boolean readBoxHeader(FileChannel channel, long position, long fileSize, long[] box)
+            throws IOException {
+        if (position + 8 > fileSize)
+            return false;
+        ByteBuffer header = ByteBuffer.allocate(16);
+        header.limit(position + 16 <= fileSize ? 16 : 8);
+        readFully(channel, header, position);
+        long boxSize = header.getInt(0) & 0xffffffffL;
+        box[0] = header.getInt(4);
+        if (boxSize == 1) {
+            if (header.limit() < 16)
+                throw new IOException("Truncated box");
+            boxSize = header.getLong(8);
+        } else if (boxSize == 0) {
+            // The box extends to the end of the file
+            boxSize = fileSize - position;
+        }
+        if (boxSize < 8 || position + boxSize > fileSize)
+            throw new IOException("Invalid box size " + boxSize + " at " + position);
+        box[1] = boxSize;
+        return true;
+    }
+
+    private static byte[] readBox(FileChannel channel, long position, long boxSize) throws IOException {
+        if (boxSize > MAX_HEADER_BOX_SIZE)
+            throw new IOException("Box too large: " + boxSize);
+        ByteBuffer buffer = ByteBuffer.allocate((int) boxSize);
+        readFully(channel, buffer, position);
+        byte[] box = buffer.array();
+        if (getInt(box, 0) != boxSize)
+            throw new IOException("Unsupported box size at " + position);
+        return box;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0)
+                throw new IOException("Unexpected end of file");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @return the offset of the first child box of the type between start and end or -1
+     */
+    private static int findChild(byte[] buf, int start, int end, int type) {
+        for (int offset = start; offset + 8 <= end; offset += boxSize(buf, offset)) {
+            if (getInt(buf, offset + 4) == type)
+                return offset;
+        }
+        return -1;
+    }
+
+    /**
+     * The size of a box inside a header box, which are never larger than 4GB.
+     */
+    private static int boxSize(byte[] buf, int offset) {
+        int boxSize = getInt(buf, offset);
+        // Stop the iteration on malformed sizes
+        return boxSize >= 8 && offset + boxSize <= buf.length ? boxSize : buf.length;
+    }
+
+    private static byte[] copyBox(byte[] buf, int offset) {
+        byte[] box = new byte[boxSize(buf, offset)];
+        System.arraycopy(buf, offset, box, 0, box.length);
+        return box;
+    }
+
+    private static int getInt(byte[] buf, int offset) {
+        return (buf[offset] & 0xff) << 24 | (buf[offset + 1] & 0xff) << 16 | (buf[offset + 2] & 0xff) << 8
+                | (buf[offset + 3] & 0xff);
+    }
+
+    private static long getLong(byte[] buf, int offset) {
+        return (getInt(buf, offset) & 0xffffffffL) << 32 | (getInt(buf, offset + 4) & 0xffffffffL);
+    }
+
+    private static void putInt(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) (value >>> 24);
+        buf[offset + 1] = (byte) (value >>> 16);
+        buf[offset + 2] = (byte) (value >>> 8);
+        buf[offset + 3] = (byte) value;
+    }
+
+    private static void putLong(byte[] buf, int offset, long value) {
+        putInt(buf, offset, (int) (value >>> 32));
+        putInt(buf, offset + 4, (int) value);
+    }
+
+    private static void close(Closeable closeable) {
+        if (closeable == null)
+            return;
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+    }
+}
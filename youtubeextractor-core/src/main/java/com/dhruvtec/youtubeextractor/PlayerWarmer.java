@@ -0,0 +1,158 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+
+/**
+ * Gets the deciphering functions of a new player ready before the first extraction
+ * needs them.
+ * <p/>
+ * The player is otherwise only found on the watch page of a protected video, so the
+ * first extraction after every player rollout waits for the player js. The warmer
+ * looks up the current player on the watch page of a probe video periodically,
+ * reading the page only up to the player name, and when it changed loads the
+ * functions of the new player into the {@link SignatureDecipherer} and its cache.
+ * The extractions keep using the player of their own video pages, the warmed up
+ * functions are there once the pages name the new player.
+ */
+public class PlayerWarmer implements Closeable {
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+
+    private static final String DEFAULT_PROBE_VIDEO_ID = "jNQXAC9IVRw";
+    private static final long DEFAULT_INTERVAL_MS = 60 * 60 * 1000;
+    private static final long MAX_RETRY_DELAY_MS = 5 * 60 * 1000;
+
+    private final CancellableTransport http;
+    private final SignatureDecipherer decipherer;
+    private final ExtractorLog log;
+    private volatile String probeVideoId = DEFAULT_PROBE_VIDEO_ID;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private long intervalMs = DEFAULT_INTERVAL_MS;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * @param decipherer the decipherer of the extractors to warm up
+     */
+    public PlayerWarmer(HttpTransport http, SignatureDecipherer decipherer, ExtractorLog log) {
+        this.http = new CancellableTransport(http);
+        this.decipherer = decipherer;
+        this.log = log;
+    }
+
+    /**
+     * The video whose watch page names the current player. Default: a long-standing
+     * public video
+     */
+    public void setProbeVideoId(String probeVideoId) {
+        if (probeVideoId == null)
+            throw new NullPointerException("probeVideoId");
+        this.probeVideoId = probeVideoId;
+    }
+
+    /**
+     * How often to look for a new player, from the next look on. Default: 1 hour
+     */
+    public void setInterval(long intervalMs) {
+        if (intervalMs <= 0)
+            throw new IllegalArgumentException("intervalMs <= 0");
+        synchronized (lock) {
+            this.intervalMs = intervalMs;
+        }
+    }
+
+    /**
+     * Start looking for new players, right away and then once per interval. The
+     * executor runs the loop until the warmer is closed, so it needs a thread of its
+     * own.
+     */
+    public void start(Executor executor) {
+        synchronized (lock) {
+            if (started)
+                throw new IllegalStateException("Already started");
+            started = true;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                follow();
+            }
+        });
+    }
+
+    /**
+     * Look for a new player once and load its functions, on the calling thread.
+     *
+     * @return true if the functions of a new player were loaded
+     * @throws IOException if the player was not found or its functions could not be
+     *                     loaded
+     */
+    public boolean warmUp() throws IOException, InterruptedException {
+        String jsFileName = probe();
+        if (jsFileName == null)
+            throw new IOException("Player js not found on the watch page of " + probeVideoId);
+        long start = System.currentTimeMillis();
+        if (!decipherer.warmUp(jsFileName, http, ExtractionMetrics.NONE))
+            return false;
+        log.d(LOG_TAG, "Warmed up " + jsFileName + " in " + (System.currentTimeMillis() - start) + " ms");
+        return true;
+    }
+
+    /**
+     * Stop looking for new players and abort a running probe.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        http.cancel();
+    }
+
+    private String probe() throws IOException {
+        InputStream in = http.get("https://youtube.com/watch?v=" + probeVideoId);
+        try {
+            return WatchPageScanner.scanPlayer(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private void follow() {
+        try {
+            while (true) {
+                long delay;
+                try {
+                    warmUp();
+                    synchronized (lock) {
+                        delay = intervalMs;
+                    }
+                } catch (IOException e) {
+                    synchronized (lock) {
+                        if (closed)
+                            return;
+                        delay = Math.min(intervalMs, MAX_RETRY_DELAY_MS);
+                    }
+                    log.d(LOG_TAG, "Player warm-up failed: " + e.getMessage());
+                }
+                synchronized (lock) {
+                    long wakeUp = System.currentTimeMillis() + delay;
+                    long now;
+                    while (!closed && (now = System.currentTimeMillis()) < wakeUp) {
+                        lock.wait(wakeUp - now);
+                    }
+                    if (closed)
+                        return;
+                }
+            }
+        } catch (InterruptedException e) {
+            close();
+        }
+    }
+}
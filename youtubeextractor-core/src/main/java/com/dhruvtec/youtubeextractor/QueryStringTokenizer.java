@@ -0,0 +1,227 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.nio.charset.Charset;
+
+/**
+ * Walks the fields of a query string like get_video_info without copying it.
+ * <p/>
+ * Keys and values are only available as ranges of the source string until they are
+ * asked for, so fields which are not used cost nothing but the scan. The separators
+ * are configurable because the stream maps are query strings nested in query strings
+ * (separated by "%26", "%3D" and "%2C") or embedded in the json of the watch page
+ * (separated by "&").
+ * <p/>
+ * Records are groups of fields ended by the record separator, each stream of a stream
+ * map is one record.
+ */
+final class QueryStringTokenizer {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String s;
+    private final int end;
+    private final String fieldSeparator;
+    private final String keyValueSeparator;
+    private final String recordSeparator;
+
+    private int pos;
+    private int keyStart, keyEnd;
+    private int valueStart, valueEnd;
+    private boolean endOfRecord;
+
+    /**
+     * A top level query string, fields separated by '&' without records.
+     */
+    QueryStringTokenizer(String s) {
+        this(s, 0, s.length(), "&", "=", null);
+    }
+
+    QueryStringTokenizer(String s, int start, int end, String fieldSeparator, String keyValueSeparator,
+                         String recordSeparator) {
+        this.s = s;
+        this.pos = start;
+        this.end = end;
+        this.fieldSeparator = fieldSeparator;
+        this.keyValueSeparator = keyValueSeparator;
+        this.recordSeparator = recordSeparator;
+    }
+
+    /**
+     * Move to the next field.
+     *
+     * @return false if there are no more fields
+     */
+    boolean next() {
+        if (pos >= end)
+            return false;
+        keyStart = pos;
+        keyEnd = -1;
+        endOfRecord = false;
+        int i = pos;
+        while (i < end) {
+            if (keyEnd < 0 && startsWith(keyValueSeparator, i)) {
+                keyEnd = i;
+                i += keyValueSeparator.length();
+                valueStart = i;
+                continue;
+            }
+            if (startsWith(fieldSeparator, i)) {
+                pos = i + fieldSeparator.length();
+                setEnd(i);
+                return true;
+            }
+            if (recordSeparator != null && startsWith(recordSeparator, i)) {
+                pos = i + recordSeparator.length();
+                endOfRecord = true;
+                setEnd(i);
+                return true;
+            }
+            i++;
+        }
+        pos = end;
+        endOfRecord = true;
+        setEnd(end);
+        return true;
+    }
+
+    private void setEnd(int i) {
+        if (keyEnd < 0) {
+            keyEnd = i;
+            valueStart = i;
+        }
+        valueEnd = i;
+    }
+
+    private boolean startsWith(String separator, int i) {
+        return s.charAt(i) == separator.charAt(0)
+                && (separator.length() == 1 || s.startsWith(separator, i))
+                && i + separator.length() <= end;
+    }
+
+    /**
+     * True if the current field is the last one of its record.
+     */
+    boolean isEndOfRecord() {
+        return endOfRecord;
+    }
+
+    /**
+     * Compare the raw key of the current field without allocating.
+     */
+    boolean keyEquals(String key) {
+        return keyEnd - keyStart == key.length() && s.startsWith(key, keyStart);
+    }
+
+    String key() {
+        return s.substring(keyStart, keyEnd);
+    }
+
+    int valueStart() {
+        return valueStart;
+    }
+
+    int valueEnd() {
+        return valueEnd;
+    }
+
+    /**
+     * The value as it is in the source string.
+     */
+    String rawValue() {
+        return s.substring(valueStart, valueEnd);
+    }
+
+    /**
+     * The value with the percent-escapes decoded the given number of times.
+     */
+    String value(int decodeCount) {
+        return decode(s, valueStart, valueEnd, decodeCount);
+    }
+
+    /**
+     * Decode a range of the source string, e.g. a value remembered from a previous field.
+     */
+    String decodeRange(int start, int end, int decodeCount) {
+        return decode(s, start, end, decodeCount);
+    }
+
+    /**
+     * The value as a number or the default if it is not one. Numbers are never escaped.
+     */
+    long longValue(long defaultValue) {
+        if (valueStart == valueEnd)
+            return defaultValue;
+        long value = 0;
+        for (int i = valueStart; i < valueEnd; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                return defaultValue;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    static String decode(String s, int start, int end, int decodeCount) {
+        String value = decode(s, start, end);
+        for (int i = 1; i < decodeCount; i++) {
+            value = decode(value, 0, value.length());
+        }
+        return value;
+    }
+
+    /**
+     * Decode '+' and percent-escapes of UTF-8 bytes like {@link java.net.URLDecoder},
+     * but without copying strings which contain nothing to decode. Malformed escapes
+     * are kept as they are.
+     */
+    static String decode(String s, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '%' || c == '+')
+                break;
+            i++;
+        }
+        if (i == end)
+            return s.substring(start, end);
+
+        StringBuilder sb = new StringBuilder(end - start);
+        sb.append(s, start, i);
+        byte[] bytes = null;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '+') {
+                sb.append(' ');
+                i++;
+            } else if (c == '%' && i + 2 < end && hexValue(s.charAt(i + 1)) >= 0
+                    && hexValue(s.charAt(i + 2)) >= 0) {
+                if (bytes == null)
+                    bytes = new byte[(end - i) / 3];
+                int n = 0;
+                while (i + 2 < end && s.charAt(i) == '%') {
+                    int hi = hexValue(s.charAt(i + 1));
+                    int lo = hexValue(s.charAt(i + 2));
+                    if (hi < 0 || lo < 0)
+                        break;
+                    bytes[n++] = (byte) ((hi << 4) + lo);
+                    i += 3;
+                }
+                sb.append(new String(bytes, 0, n, UTF_8));
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'A' && c <= 'F')
+            return c - 'A' + 10;
+        if (c >= 'a' && c <= 'f')
+            return c - 'a' + 10;
+        return -1;
+    }
+}
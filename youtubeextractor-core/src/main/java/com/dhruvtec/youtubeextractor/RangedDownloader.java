@@ -0,0 +1,553 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+
+/**
+ * Downloads a {@link YtFile} over several connections at once.
+ * <p/>
+ * googlevideo throttles every connection to about the playback rate, so the file is
+ * split into chunks which are requested with the "range" url parameter by a few
+ * parallel workers. The chunks are written into the pre-allocated target file at
+ * their position. The finished chunks are recorded in a small state file next to the
+ * target, a download that was interrupted or failed continues with the missing
+ * chunks when it is started again for the same file.
+ * <p/>
+ * Files whose size is neither in the dash manifest nor in the "clen" url parameter
+ * are downloaded over one connection and can not be resumed.
+ */
+public class RangedDownloader {
+
+    public interface ProgressListener {
+
+        /**
+         * Called on the download threads after every finished chunk.
+         */
+        void onProgress(long downloadedBytes, long totalBytes);
+    }
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+    private static final String STATE_SUFFIX = ".ytdl";
+
+    private static final int MAGIC = 0x5954444c; // "YTDL"
+    private static final int VERSION = 1;
+    private static final int DEFAULT_CONNECTIONS = 4;
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int CHUNK_RETRIES = 3;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final HttpTransport http;
+    private final Executor executor;
+    private final ExtractorLog log;
+
+    private volatile int connections = DEFAULT_CONNECTIONS;
+    private volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+    private volatile BandwidthMeter bandwidthMeter;
+
+    /**
+     * @param executor runs the parallel connections, if null the chunks are downloaded
+     *                 one after another on the calling thread
+     */
+    public RangedDownloader(HttpTransport http, Executor executor, ExtractorLog log) {
+        this.http = http;
+        this.executor = executor;
+        this.log = log;
+    }
+
+    /**
+     * The number of parallel connections per download. Default: 4
+     */
+    public void setConnections(int connections) {
+        if (connections < 1)
+            throw new IllegalArgumentException("connections < 1");
+        this.connections = connections;
+    }
+
+    /**
+     * The size of the requested ranges. A download only resumes with the chunk size it
+     * was started with. Default: 4 MiB
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < BUFFER_SIZE)
+            throw new IllegalArgumentException("chunkSize < " + BUFFER_SIZE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Report the throughput of every chunk to the meter. Default: none
+     */
+    public void setBandwidthMeter(BandwidthMeter bandwidthMeter) {
+        this.bandwidthMeter = bandwidthMeter;
+    }
+
+    /**
+     * Download the file to the target, or the parts of it which are still missing from
+     * an earlier attempt. Blocks until the download is complete.
+     *
+     * @param listener receives the progress, may be null
+     * @throws IOException          if a chunk failed repeatedly, the download can be resumed
+     * @throws InterruptedException if the thread was interrupted, the download can be resumed
+     */
+    public void download(YtFile ytFile, File target, ProgressListener listener)
+            throws IOException, InterruptedException {
+        long length = contentLength(ytFile);
+        File stateFile = new File(target.getPath() + STATE_SUFFIX);
+        if (length <= 0) {
+            stateFile.delete();
+            downloadWhole(ytFile.getUrl(), target, listener);
+            return;
+        }
+        String key = key(ytFile, length);
+        int chunkSize = this.chunkSize;
+        int chunkCount = (int) ((length + chunkSize - 1) / chunkSize);
+
+        RandomAccessFile file = new RandomAccessFile(target, "rw");
+        try {
+            boolean[] done = null;
+            if (file.length() == length)
+                done = readState(stateFile, key, length, chunkSize, chunkCount);
+            if (done == null) {
+                done = new boolean[chunkCount];
+                file.setLength(length);
+            } else {
+                log.d(LOG_TAG, "Resuming download of " + target.getName());
+            }
+            Download download = new Download(ytFile.getUrl(), file.getChannel(), length, chunkSize, done,
+                    stateFile, key, new CancellableTransport(http), listener);
+            download.run(connections, executor);
+            stateFile.delete();
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * The size of the file from the dash manifest or the "clen" url parameter.
+     *
+     * @return the size or -1 if it is unknown
+     */
+    static long contentLength(YtFile ytFile) {
+        if (ytFile.getContentLength() > 0)
+            return ytFile.getContentLength();
+        return longParameter(ytFile.getUrl(), "clen");
+    }
+
+    /**
+     * Identifies the file in the state, the url itself changes with every extraction.
+     */
+    static String key(YtFile ytFile, long length) {
+        String url = ytFile.getUrl();
+        int query = url.indexOf('?');
+        String id = null;
+        if (query >= 0) {
+            QueryStringTokenizer tokenizer = new QueryStringTokenizer(url, query + 1, url.length(), "&", "=", null);
+            while (tokenizer.next()) {
+                if (tokenizer.keyEquals("id")) {
+                    id = tokenizer.value(1);
+                    break;
+                }
+            }
+        }
+        int itag = ytFile.getFormat() != null ? ytFile.getFormat().getItag() : -1;
+        return id + "/" + itag + "/" + length;
+    }
+
+    private static long longParameter(String url, String name) {
+        int query = url.indexOf('?');
+        if (query < 0)
+            return -1;
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer(url, query + 1, url.length(), "&", "=", null);
+        while (tokenizer.next()) {
+            if (tokenizer.keyEquals(name))
+                return tokenizer.longValue(-1);
+        }
+        return -1;
+    }
+
+    private final class Download {
+        final String url;
+        final FileChannel channel;
+        final long length;
+        final int chunkSize;
+        final File stateFile;
+        final String key;
+        final CancellableTransport transport;
+        final ProgressListener listener;
+
+        // Guarded by this
+        final boolean[] done;
+        int nextChunk;
+        long downloadedBytes;
+        IOException failure;
+        int stateVersion;
+
+        // Writes the state file one at a time, without holding up takeChunk()
+        final Object stateLock = new Object();
+        // Guarded by stateLock
+        int writtenStateVersion;
+
+        Download(String url, FileChannel channel, long length, int chunkSize, boolean[] done, File stateFile,
+                 String key, CancellableTransport transport, ProgressListener listener) {
+            this.url = url;
+            this.channel = channel;
+            this.length = length;
+            this.chunkSize = chunkSize;
+            this.done = done;
+            this.stateFile = stateFile;
+            this.key = key;
+            this.transport = transport;
+            this.listener = listener;
+            for (int i = 0; i < done.length; i++) {
+                if (done[i])
+                    downloadedBytes += chunkEnd(i) - chunkStart(i);
+            }
+        }
+
+        void run(int connections, Executor executor) throws IOException, InterruptedException {
+            List<Future<Void>> workers = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                workers.add(fork(executor, new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        work();
+                        return null;
+                    }
+                }));
+            }
+            boolean interrupted = false;
+            for (Future<Void> worker : workers) {
+                while (true) {
+                    try {
+                        worker.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        // Abort the connections, then wait for the workers to notice
+                        interrupted = true;
+                        transport.cancel();
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        fail(cause instanceof IOException ? (IOException) cause : new IOException(cause.toString()));
+                        break;
+                    }
+                }
+            }
+            if (interrupted)
+                throw new InterruptedException("Download interrupted");
+            synchronized (this) {
+                if (failure != null)
+                    throw failure;
+            }
+        }
+
+        private void work() throws IOException, InterruptedException {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            int chunk;
+            while ((chunk = takeChunk()) != -1) {
+                try {
+                    downloadChunk(chunk, buffer);
+                } catch (IOException e) {
+                    fail(e);
+                    throw e;
+                }
+            }
+        }
+
+        private synchronized int takeChunk() {
+            while (nextChunk < done.length && done[nextChunk])
+                nextChunk++;
+            if (failure != null || nextChunk == done.length)
+                return -1;
+            return nextChunk++;
+        }
+
+        private void downloadChunk(int chunk, ByteBuffer buffer) throws IOException, InterruptedException {
+            long start = chunkStart(chunk);
+            long end = chunkEnd(chunk);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    long startTime = System.currentTimeMillis();
+                    readRange(start, end, buffer);
+                    BandwidthMeter meter = bandwidthMeter;
+                    if (meter != null)
+                        meter.addSample(end - start, System.currentTimeMillis() - startTime);
+                    break;
+                } catch (IOException e) {
+                    if (attempt == CHUNK_RETRIES || transport.isCancelled())
+                        throw e;
+                    log.d(LOG_TAG, "Retrying chunk " + chunk + ": " + e);
+                    Thread.sleep(250 * attempt);
+                }
+            }
+            // The data has to be on disk before the state says so
+            channel.force(false);
+            long downloaded;
+            synchronized (this) {
+                done[chunk] = true;
+                downloadedBytes += end - start;
+                downloaded = downloadedBytes;
+                stateVersion++;
+            }
+            saveState();
+            if (listener != null)
+                listener.onProgress(downloaded, length);
+        }
+
+        /**
+         * Write the latest state unless another worker already did meanwhile. A worker
+         * waiting for the write of another one then usually finds its chunk included.
+         */
+        private void saveState() {
+            synchronized (stateLock) {
+                boolean[] snapshot;
+                int version;
+                synchronized (this) {
+                    if (writtenStateVersion >= stateVersion)
+                        return;
+                    snapshot = done.clone();
+                    version = stateVersion;
+                }
+                writeState(stateFile, key, length, chunkSize, snapshot);
+                writtenStateVersion = version;
+            }
+        }
+
+        /**
+         * Read the bytes from start to end (exclusive) into the file.
+         * <p/>
+         * A server ignoring the range sends the file from its start. A response that
+         * tells its length is checked before anything is written, any other response
+         * must end with the range, otherwise the chunk fails and is not marked done.
+         */
+        private void readRange(long start, long end, ByteBuffer buffer) throws IOException {
+            InputStream in = transport.get(url + "&range=" + start + "-" + (end - 1));
+            try {
+                long contentLength = in instanceof CancellableTransport.Sized
+                        ? ((CancellableTransport.Sized) in).contentLength() : -1;
+                if (contentLength >= 0 && contentLength != end - start)
+                    throw new IOException("Range " + start + "-" + (end - 1) + " not honoured, response has "
+                            + contentLength + " bytes");
+                byte[] array = buffer.array();
+                long position = start;
+                int n;
+                while (position < end
+                        && (n = in.read(array, 0, (int) Math.min(array.length, end - position))) != -1) {
+                    buffer.clear();
+                    buffer.limit(n);
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+                if (position != end)
+                    throw new IOException("Range " + start + "-" + (end - 1) + " ended after "
+                            + (position - start) + " bytes");
+                if (in.read() != -1)
+                    throw new IOException("Range " + start + "-" + (end - 1) + " not honoured, response is longer");
+            } finally {
+                in.close();
+            }
+        }
+
+        private long chunkStart(int chunk) {
+            return (long) chunk * chunkSize;
+        }
+
+        private long chunkEnd(int chunk) {
+            return Math.min(chunkStart(chunk) + chunkSize, length);
+        }
+
+        /**
+         * Remember the first failure and stop the other workers.
+         */
+        private void fail(IOException e) {
+            synchronized (this) {
+                if (failure != null)
+                    return;
+                failure = e;
+            }
+            log.e(LOG_TAG, "Download failed: " + e);
+            transport.cancel();
+        }
+    }
+
+    private void downloadWhole(String url, File target, ProgressListener listener) throws IOException {
+        InputStream in = http.get(url);
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(target);
+            FileChannel channel = out.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long downloaded = 0;
+            int n;
+            while ((n = in.read(buffer.array())) != -1) {
+                buffer.clear();
+                buffer.limit(n);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                downloaded += n;
+                if (listener != null)
+                    listener.onProgress(downloaded, -1);
+            }
+        } finally {
+            in.close();
+            if (out != null)
+                out.close();
+        }
+    }
+
+    private static <T> Future<T> fork(Executor executor, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        if (executor != null) {
+            try {
+                executor.execute(future);
+                return future;
+            } catch (RejectedExecutionException e) {
+                // Run it here
+            }
+        }
+        future.run();
+        return future;
+    }
+
+    /**
+     * Layout: magic, version, crc32 of the payload, payload length, payload. The payload
+     * holds the key, the file length, the chunk size, the chunk count and one bit per
+     * chunk which is set once the chunk is on disk.
+     */
+    static byte[] encodeState(String key, long length, int chunkSize, boolean[] done) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64 + done.length / 8);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeUTF(key);
+        payload.writeLong(length);
+        payload.writeInt(chunkSize);
+        payload.writeInt(done.length);
+        for (int i = 0; i < done.length; i += 8) {
+            int bits = 0;
+            for (int j = 0; j < 8 && i + j < done.length; j++) {
+                if (done[i + j])
+                    bits |= 1 << j;
+            }
+            payload.writeByte(bits);
+        }
+        payload.flush();
+        byte[] payloadArray = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payloadArray);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payloadArray.length + 20);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(crc.getValue());
+        out.writeInt(payloadArray.length);
+        out.write(payloadArray);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return the finished chunks or null if the bytes are not a valid state of this
+     * version for the file
+     */
+    static boolean[] decodeState(byte[] bytes, String key, long length, int chunkSize, int chunkCount) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return null;
+            long checksum = in.readLong();
+            int payloadLength = in.readInt();
+            if (payloadLength != bytes.length - 20)
+                return null;
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 20, payloadLength);
+            if (crc.getValue() != checksum)
+                return null;
+            if (!key.equals(in.readUTF()) || in.readLong() != length || in.readInt() != chunkSize
+                    || in.readInt() != chunkCount)
+                return null;
+            boolean[] done = new boolean[chunkCount];
+            for (int i = 0; i < chunkCount; i += 8) {
+                int bits = in.readUnsignedByte();
+                for (int j = 0; j < 8 && i + j < chunkCount; j++) {
+                    done[i + j] = (bits & (1 << j)) != 0;
+                }
+            }
+            return done;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean[] readState(File stateFile, String key, long length, int chunkSize, int chunkCount) {
+        if (!stateFile.isFile() || stateFile.length() > 64 * 1024)
+            return null;
+        InputStream in = null;
+        try {
+            in = new FileInputStream(stateFile);
+            byte[] bytes = new byte[(int) stateFile.length()];
+            new DataInputStream(in).readFully(bytes);
+            return decodeState(bytes, key, length, chunkSize, chunkCount);
+        } catch (IOException e) {
+            return null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the state file. Losing it only costs downloading the file again.
+     */
+    private void writeState(File stateFile, String key, long length, int chunkSize, boolean[] done) {
+        File tmpFile = new File(stateFile.getPath() + ".tmp");
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(tmpFile);
+            out.write(encodeState(key, length, chunkSize, done));
+            out.getFD().sync();
+            out.close();
+            out = null;
+            if (!tmpFile.renameTo(stateFile)) {
+                // renameTo does not replace existing files on every platform
+                stateFile.delete();
+                if (!tmpFile.renameTo(stateFile))
+                    throw new IOException("Could not rename " + tmpFile + " to " + stateFile);
+            }
+        } catch (IOException e) {
+            log.e(LOG_TAG, "Could not save the download state: " + e);
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            tmpFile.delete();
+        }
+    }
+}
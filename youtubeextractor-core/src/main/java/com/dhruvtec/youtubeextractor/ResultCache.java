@@ -0,0 +1,184 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the results of the most recent extractions in memory.
+ * <p/>
+ * The stream urls stop working at the time in their "expire" parameter, so every
+ * entry is only returned until shortly before the earliest expiry of its urls.
+ * Results with errors are not cached. Every caller receives its own copy of a cached
+ * result, so modifying it does not change the cache.
+ */
+public class ResultCache {
+
+    /**
+     * Entries are dropped this long before their urls expire, leaving time to
+     * actually start the download.
+     */
+    private static final long EXPIRY_MARGIN_MS = 5 * 60 * 1000;
+
+    /**
+     * Lifetime of results whose urls do not say when they expire.
+     */
+    private static final long DEFAULT_LIFETIME_MS = 30 * 60 * 1000;
+
+    private static final class Entry {
+        final ExtractionResult result;
+        final long expiresAt;
+
+        Entry(ExtractionResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final int maxSize;
+
+    // Guarded by this
+    private final LinkedHashMap<String, Entry> entries;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+    private int expiredCount;
+
+    /**
+     * @param maxSize the maximum number of cached results
+     */
+    public ResultCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize < 1");
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return the cached result or null if there is none or it expired
+     */
+    synchronized ExtractionResult get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            expiredCount++;
+            entry = null;
+        }
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.result.copy();
+    }
+
+    synchronized void put(String key, ExtractionResult result) {
+        if (result.ytFiles == null || result.errMsg != null)
+            return;
+        long now = System.currentTimeMillis();
+        long expiresAt = expiresAt(result.ytFiles, now);
+        if (expiresAt <= now)
+            return;
+        entries.put(key, new Entry(result.copy(), expiresAt));
+        if (entries.size() > maxSize) {
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxSize) {
+                it.next();
+                it.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Drop all cached results. The counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * The number of extractions answered from the cache.
+     */
+    public synchronized int hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of extractions which were not cached or had expired.
+     */
+    public synchronized int missCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of results dropped to stay within the maximum size.
+     */
+    public synchronized int evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * The number of results dropped because their urls were about to expire.
+     */
+    public synchronized int expiredCount() {
+        return expiredCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ResultCache[size=" + entries.size() + ",maxSize=" + maxSize + ",hits=" + hitCount
+                + ",misses=" + missCount + ",evictions=" + evictionCount + ",expired=" + expiredCount + "]";
+    }
+
+    /**
+     * The earliest expiry of the urls minus the margin.
+     */
+    static long expiresAt(ItagArray<YtFile> ytFiles, long now) {
+        long expire = Long.MAX_VALUE;
+        for (int i = 0; i < ytFiles.size(); i++) {
+            YtFile ytFile = ytFiles.valueAt(i);
+            long urlExpire = ytFile != null ? parseExpire(ytFile.getUrl()) : -1;
+            if (urlExpire > 0 && urlExpire < expire)
+                expire = urlExpire;
+        }
+        if (expire == Long.MAX_VALUE)
+            return now + DEFAULT_LIFETIME_MS;
+        return expire * 1000 - EXPIRY_MARGIN_MS;
+    }
+
+    /**
+     * @return the "expire" parameter of the url in seconds or -1 if it has none. Dash
+     * urls have it as path segment "/expire/N/".
+     */
+    static long parseExpire(String url) {
+        if (url == null)
+            return -1;
+        int start = url.indexOf("expire=");
+        if (start >= 0 && (start == 0 || url.charAt(start - 1) == '?' || url.charAt(start - 1) == '&')) {
+            start += "expire=".length();
+        } else {
+            start = url.indexOf("/expire/");
+            if (start < 0)
+                return -1;
+            start += "/expire/".length();
+        }
+        long value = 0;
+        int i = start;
+        for (; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c < '0' || c > '9')
+                break;
+            value = value * 10 + (c - '0');
+        }
+        return i > start ? value : -1;
+    }
+}
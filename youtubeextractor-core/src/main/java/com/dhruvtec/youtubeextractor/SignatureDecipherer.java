@@ -0,0 +1,557 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Deciphers the signatures of protected videos with the functions of the player js.
+ * <p/>
+ * The functions are extracted once per player version and shared by all extractions
+ * using this instance, so one instance should be used for the whole process.
+ */
+public class SignatureDecipherer {
+
+    private final static boolean CACHING = true;
+
+    private final static String LOG_TAG = "YouTubeExtractor";
+    private static final long DEFAULT_DECIPHER_TIMEOUT_MS = 7000;
+    /**
+     * How often an extraction waiting for the download of another one checks whether
+     * it was cancelled.
+     */
+    private static final long CANCEL_POLL_MS = 100;
+
+    /**
+     * Fails asynchronous decipherings the js engine does not answer in time. Its one
+     * thread only exists while deadlines are pending.
+     */
+    private static final ScheduledThreadPoolExecutor DEADLINES = newDeadlineTimer();
+
+    private final HttpTransport http;
+    private final DecipherCache cache;
+    private final JsDecipherQueue jsQueue;
+    private final ExtractorLog log;
+    private volatile long decipherTimeoutMs = DEFAULT_DECIPHER_TIMEOUT_MS;
+
+    // Guarded by lock
+    private String decipherJsFileName;
+    private DecipherCache.Entry functions;
+    private DecipherCache.Entry warmedFunctions;
+    private final Map<String, FutureTask<DecipherCache.Entry>> downloads = new HashMap<>();
+
+    private final Object lock = new Object();
+
+    /**
+     * @param http           downloads the player js for callers that do not pass their
+     *                       own transport
+     * @param cacheDirectory where the extracted functions are cached, may be null
+     * @param jsEngine       the engine used to run the functions, may be null
+     */
+    public SignatureDecipherer(HttpTransport http, CacheDirectory cacheDirectory, JsEngine jsEngine,
+                               ExtractorLog log) {
+        this.http = http;
+        this.cache = new DecipherCache(cacheDirectory, log);
+        this.jsQueue = jsEngine != null ? new JsDecipherQueue(jsEngine, log) : null;
+        this.log = log;
+    }
+
+    private static ScheduledThreadPoolExecutor newDeadlineTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "YouTubeExtractor deadline");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        timer.setKeepAliveTime(30, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        return timer;
+    }
+
+    /**
+     * Load the most recently used player from the cache if none is known yet, in case
+     * the video page does not name its player.
+     */
+    void loadCachedFunctions() {
+        synchronized (lock) {
+            if (CACHING && (decipherJsFileName == null || functions == null)) {
+                DecipherCache.Entry entry = cache.readLatest();
+                if (entry != null) {
+                    decipherJsFileName = entry.jsFileName;
+                    functions = entry;
+                }
+            }
+        }
+    }
+
+    /**
+     * Set the player js file found on the latest video page, whose functions are kept
+     * in memory and prefetched by the next extractions. The known functions are dropped
+     * if the player changed, unless they were warmed up for the new player. Deciphering
+     * always uses the player of its own video page.
+     */
+    void setPlayerJsFileName(String curJsFileName) {
+        synchronized (lock) {
+            if (functions != null && !functions.jsFileName.equals(curJsFileName)) {
+                functions = null;
+            }
+            if (functions == null && warmedFunctions != null
+                    && warmedFunctions.jsFileName.equals(curJsFileName)) {
+                functions = warmedFunctions;
+            }
+            decipherJsFileName = curJsFileName;
+        }
+    }
+
+    String getPlayerJsFileName() {
+        synchronized (lock) {
+            return decipherJsFileName;
+        }
+    }
+
+    /**
+     * Load the functions of the last known player, so that deciphering does not have to
+     * wait for the player js if the video uses the same one. Meant to run while the
+     * video page is still downloading.
+     *
+     * @param transport the transport of the extraction, see {@link #decipher}
+     */
+    void prefetch(HttpTransport transport, ExtractionMetrics metrics) throws IOException, InterruptedException {
+        String jsFileName = getPlayerJsFileName();
+        if (jsFileName != null)
+            loadDecipherFunctions(jsFileName, transport, metrics, false);
+    }
+
+    /**
+     * Load the functions of the player, from the cache or by downloading the player js,
+     * before an extraction needs them. They are kept in memory besides those of the
+     * current player, which stays the same until a video page names the new one.
+     *
+     * @param transport downloads the player js, see {@link #decipher}
+     * @return false if the functions of the player were already loaded
+     * @throws IOException if the functions could not be loaded
+     */
+    boolean warmUp(String jsFileName, HttpTransport transport, ExtractionMetrics metrics)
+            throws IOException, InterruptedException {
+        synchronized (lock) {
+            if (loadedFunctions(jsFileName) != null)
+                return false;
+        }
+        if (loadDecipherFunctions(jsFileName, transport, metrics, true) == null)
+            throw new IOException("Decipher functions of " + jsFileName + " not found");
+        return true;
+    }
+
+    /**
+     * How long to wait for the js engine at most, also for {@link #decipherAsync}.
+     * Default: 7 seconds
+     */
+    public void setDecipherTimeout(long timeoutMs) {
+        if (timeoutMs <= 0)
+            throw new IllegalArgumentException("timeoutMs <= 0");
+        this.decipherTimeoutMs = timeoutMs;
+    }
+
+    /**
+     * Receives the outcome of {@link #decipherAsync}.
+     */
+    interface DecipherCallback {
+
+        /**
+         * @param signatures the deciphered signatures separated by "\n" in the order of
+         *                   the itags
+         */
+        void onDeciphered(String signatures);
+
+        /**
+         * @param e the reason, an {@link InterruptedIOException} if the deciphering was
+         *          cancelled
+         */
+        void onDecipherFailed(IOException e);
+    }
+
+    /**
+     * Decipher all signatures. Runs the compiled program if the player functions could
+     * be compiled, otherwise waits until the js engine delivered the result or failed,
+     * but not longer than the timeout.
+     *
+     * @param jsFileName the player js named by the video page of the signatures, not
+     *                   the current player, which other extractions may change meanwhile
+     * @param transport  the transport of the extraction, which downloads the player js
+     *                   if the extraction is the first to need it, so cancelling the
+     *                   extraction aborts the download. An extraction waiting for the
+     *                   download of another one stops waiting when its transport is
+     *                   cancelled. Null for the transport of the decipherer
+     * @return the deciphered signatures separated by "\n" in the order of the itags
+     * @throws IOException with the reason if they could not be deciphered
+     */
+    String decipher(String jsFileName, ItagArray<String> encSignatures, HttpTransport transport,
+                    ExtractionMetrics metrics) throws IOException, InterruptedException {
+        DecipherCache.Entry entry = requireFunctions(jsFileName, transport, metrics);
+        if (entry.program != null) {
+            long start = metrics.start();
+            log.d(LOG_TAG, "Decipher with " + entry.program);
+            String signatures = entry.program.decipher(encSignatures);
+            metrics.stage(MetricsListener.Stage.DECIPHER, start, -1);
+            return signatures;
+        }
+        if (jsQueue == null)
+            throw new IOException("Decipher functions not compiled and no js engine");
+        PendingSignatures pending = new PendingSignatures(metrics, null);
+        jsQueue.submit(entry.functionName, entry.functions, encSignatures, pending);
+        return pending.await(decipherTimeoutMs);
+    }
+
+    /**
+     * Decipher all signatures like {@link #decipher}, but without a thread waiting for
+     * the js engine. The functions are still loaded on the calling thread. The callback
+     * is called once: right away if the functions are compiled or could not be loaded,
+     * otherwise on the thread of the js engine, or on the timer thread if the engine
+     * did not answer within the timeout. Cancelling the returned future drops the
+     * request from the engine and fails the callback.
+     */
+    Future<String> decipherAsync(String jsFileName, ItagArray<String> encSignatures, HttpTransport transport,
+                                 ExtractionMetrics metrics, DecipherCallback callback)
+            throws InterruptedException {
+        DecipherCache.Entry entry;
+        try {
+            entry = requireFunctions(jsFileName, transport, metrics);
+        } catch (IOException e) {
+            PendingSignatures failed = new PendingSignatures(metrics, callback);
+            failed.fail(e);
+            return failed;
+        }
+        final PendingSignatures pending = new PendingSignatures(metrics, callback);
+        if (entry.program != null) {
+            log.d(LOG_TAG, "Decipher with " + entry.program);
+            pending.complete(entry.program.decipher(encSignatures));
+        } else if (jsQueue != null) {
+            final long timeoutMs = decipherTimeoutMs;
+            // Armed before the engine can answer, done() disarms it
+            pending.deadline = DEADLINES.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    pending.timeOut(timeoutMs);
+                }
+            }, timeoutMs, TimeUnit.MILLISECONDS);
+            jsQueue.submit(entry.functionName, entry.functions, encSignatures, pending);
+        } else {
+            pending.fail(new IOException("Decipher functions not compiled and no js engine"));
+        }
+        return pending;
+    }
+
+    private DecipherCache.Entry requireFunctions(String jsFileName, HttpTransport transport,
+                                                 ExtractionMetrics metrics)
+            throws IOException, InterruptedException {
+        if (jsFileName == null)
+            throw new IOException("Player js not found");
+        DecipherCache.Entry entry = loadDecipherFunctions(jsFileName, transport, metrics, false);
+        if (entry == null)
+            throw new IOException("Decipher functions of " + jsFileName + " not found");
+        return entry;
+    }
+
+    /**
+     * The signatures of one extraction, completed by the first callback of the js
+     * engine, the timeout or cancellation. The engine callbacks only record the outcome
+     * and never block, and an outcome delivered before anyone waits for it is kept.
+     * Failing or cancelling it drops the request from the engine.
+     */
+    private final class PendingSignatures extends Completable<String> implements JsEngine.Callback {
+        private final ExtractionMetrics metrics;
+        private final DecipherCallback callback;
+        private final long start;
+        volatile Future<?> deadline;
+
+        /**
+         * @param callback receives the outcome, null if a thread waits for it
+         */
+        PendingSignatures(ExtractionMetrics metrics, DecipherCallback callback) {
+            this.metrics = metrics;
+            this.callback = callback;
+            this.start = metrics.start();
+        }
+
+        @Override
+        public void onResult(String result) {
+            if (result == null) {
+                onError("js evaluation returned nothing");
+                return;
+            }
+            complete(result);
+        }
+
+        @Override
+        public void onError(String errorMessage) {
+            fail(new IOException("js evaluation failed: "
+                    + (errorMessage != null ? errorMessage : "js evaluation failed")));
+        }
+
+        void timeOut(long timeoutMs) {
+            fail(new IOException("js evaluation timed out after " + timeoutMs + " ms"));
+        }
+
+        String await(long timeoutMs) throws IOException, InterruptedException {
+            try {
+                return get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                timeOut(timeoutMs);
+            } catch (InterruptedException e) {
+                // The extraction was cancelled, the engine need not bother
+                cancel(false);
+                throw e;
+            } catch (ExecutionException e) {
+                throw (IOException) e.getCause();
+            }
+            // Completed by the timeout, unless the engine answered just before
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                throw (IOException) e.getCause();
+            }
+        }
+
+        @Override
+        protected void done() {
+            Future<?> deadline = this.deadline;
+            if (deadline != null)
+                deadline.cancel(false);
+            String signatures = null;
+            IOException failure = null;
+            try {
+                signatures = get();
+            } catch (ExecutionException e) {
+                failure = (IOException) e.getCause();
+            } catch (CancellationException e) {
+                failure = new InterruptedIOException("Extraction cancelled");
+            } catch (InterruptedException e) {
+                // get() does not block once done
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (failure == null)
+                metrics.stage(MetricsListener.Stage.DECIPHER, start, -1);
+            else if (jsQueue != null)
+                jsQueue.cancel(this);
+            if (callback == null)
+                return;
+            if (failure == null)
+                callback.onDeciphered(signatures);
+            else
+                callback.onDecipherFailed(failure);
+        }
+    }
+
+    /**
+     * The functions of the player from memory, the cache or the player js. Concurrent
+     * calls for the same player share one download, which runs without holding the
+     * lock so a stale prefetch does not hold up other players. The download runs on the
+     * thread of the first caller with its transport, if that caller is cancelled the
+     * others download the player js again themselves.
+     *
+     * @param warm whether to keep the functions in memory even if the player is not the
+     *             current one
+     * @return the functions or null if they could not be loaded
+     * @throws InterruptedIOException if the transport was cancelled
+     */
+    private DecipherCache.Entry loadDecipherFunctions(final String jsFileName, HttpTransport transport,
+                                                      final ExtractionMetrics metrics, boolean warm)
+            throws InterruptedIOException, InterruptedException {
+        final HttpTransport downloadTransport = transport != null ? transport : http;
+        boolean looked = false;
+        while (true) {
+            FutureTask<DecipherCache.Entry> download;
+            boolean owner = false;
+            synchronized (lock) {
+                DecipherCache.Entry loaded = loadedFunctions(jsFileName);
+                if (loaded != null) {
+                    metrics.cacheLookup(MetricsListener.Cache.PLAYER_FUNCTIONS, true);
+                    return loaded;
+                }
+                if (CACHING) {
+                    DecipherCache.Entry entry = cache.read(jsFileName);
+                    if (entry != null) {
+                        metrics.cacheLookup(MetricsListener.Cache.PLAYER_FUNCTIONS, true);
+                        log.d(LOG_TAG, "Decipher functions of " + jsFileName + " from cache");
+                        keep(entry, warm);
+                        return entry;
+                    }
+                }
+                download = downloads.get(jsFileName);
+                // A finished download is one whose owner was cancelled
+                if (download == null || download.isDone()) {
+                    download = new FutureTask<>(new Callable<DecipherCache.Entry>() {
+                        @Override
+                        public DecipherCache.Entry call() throws Exception {
+                            return downloadDecipherFunctions(jsFileName, downloadTransport, metrics);
+                        }
+                    });
+                    downloads.put(jsFileName, download);
+                    owner = true;
+                }
+            }
+            if (!looked) {
+                metrics.cacheLookup(MetricsListener.Cache.PLAYER_FUNCTIONS, false);
+                looked = true;
+            }
+            if (!owner) {
+                DecipherCache.Entry entry;
+                try {
+                    entry = awaitDownload(download, downloadTransport);
+                } catch (InterruptedIOException e) {
+                    if (downloadTransport instanceof CancellableTransport
+                            && ((CancellableTransport) downloadTransport).isCancelled())
+                        throw e;
+                    // The owner was cancelled, not this caller
+                    continue;
+                }
+                if (entry != null && warm) {
+                    synchronized (lock) {
+                        warmedFunctions = entry;
+                    }
+                }
+                return entry;
+            }
+
+            DecipherCache.Entry entry = null;
+            try {
+                download.run();
+                entry = awaitDownload(download, null);
+            } finally {
+                synchronized (lock) {
+                    if (downloads.get(jsFileName) == download)
+                        downloads.remove(jsFileName);
+                    if (entry != null)
+                        keep(entry, warm);
+                }
+            }
+            if (entry != null && CACHING)
+                cache.write(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * The functions of the player if they are in memory. Must hold the lock.
+     */
+    private DecipherCache.Entry loadedFunctions(String jsFileName) {
+        if (functions != null && functions.jsFileName.equals(jsFileName))
+            return functions;
+        if (warmedFunctions != null && warmedFunctions.jsFileName.equals(jsFileName))
+            return warmedFunctions;
+        return null;
+    }
+
+    /**
+     * Keep the functions in memory if they belong to the current player or were warmed
+     * up. Must hold the lock.
+     */
+    private void keep(DecipherCache.Entry entry, boolean warm) {
+        if (entry.jsFileName.equals(decipherJsFileName))
+            functions = entry;
+        if (warm)
+            warmedFunctions = entry;
+    }
+
+    /**
+     * Wait for the download, but only as long as the transport of the waiting caller is
+     * not cancelled.
+     *
+     * @param transport the transport of the waiting caller or null for the owner
+     * @return the functions or null if they could not be loaded
+     * @throws InterruptedIOException if the waiting caller or the download was cancelled
+     */
+    private static DecipherCache.Entry awaitDownload(FutureTask<DecipherCache.Entry> download,
+                                                     HttpTransport transport)
+            throws InterruptedIOException, InterruptedException {
+        try {
+            if (!(transport instanceof CancellableTransport))
+                return download.get();
+            CancellableTransport cancellable = (CancellableTransport) transport;
+            while (true) {
+                if (cancellable.isCancelled())
+                    throw new InterruptedIOException("Extraction cancelled");
+                try {
+                    return download.get(CANCEL_POLL_MS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // Check for the cancellation again
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedIOException)
+                throw (InterruptedIOException) e.getCause();
+            e.getCause().printStackTrace();
+            return null;
+        }
+    }
+
+    private DecipherCache.Entry downloadDecipherFunctions(String jsFileName, HttpTransport transport,
+                                                          ExtractionMetrics metrics) throws IOException {
+        String decipherFunctUrl = "https://s.ytimg.com/yts/jsbin/" + jsFileName;
+        Reader reader = null;
+        String javascriptFile;
+        long start = metrics.start();
+        InputStream in = null;
+        try {
+            in = metrics.count(transport.get(decipherFunctUrl));
+            reader = new InputStreamReader(in, "UTF-8");
+            StringBuilder sb = new StringBuilder(1024 * 1024);
+            char[] buf = new char[16 * 1024];
+            int n;
+            while ((n = reader.read(buf)) != -1) {
+                sb.append(buf, 0, n);
+            }
+            javascriptFile = sb.toString();
+        } catch (IOException e) {
+            // An aborted connection fails with any kind of IOException
+            if (transport instanceof CancellableTransport && ((CancellableTransport) transport).isCancelled())
+                throw new InterruptedIOException("Extraction cancelled");
+            throw e;
+        } finally {
+            if (reader != null)
+                reader.close();
+        }
+        metrics.stage(MetricsListener.Stage.PLAYER_JS, start, in);
+        log.d(LOG_TAG, "Decipher FunctURL: " + decipherFunctUrl);
+
+        start = metrics.start();
+        String[] extracted = extractDecipherFunctions(javascriptFile);
+        if (extracted == null)
+            return null;
+        log.d(LOG_TAG, "Decipher Function: " + extracted[1]);
+        DecipherProgram program = DecipherCompiler.compile(extracted[0], extracted[1]);
+        if (program == null)
+            log.d(LOG_TAG, "Decipher functions not compiled, using the js engine");
+        metrics.stage(MetricsListener.Stage.FUNCTION_EXTRACTION, start, -1);
+        return new DecipherCache.Entry(jsFileName, extracted[0], extracted[1], program);
+    }
+
+    /**
+     * Extract the deciphering function and everything it depends on from the player js.
+     *
+     * @return the name of the function and the javascript defining it or null if the
+     * function was not found
+     */
+    String[] extractDecipherFunctions(String javascriptFile) {
+        String[] extracted = DecipherFunctionExtractor.extract(javascriptFile);
+        if (extracted != null)
+            log.d(LOG_TAG, "Decipher Functname: " + extracted[0]);
+        return extracted;
+    }
+}
@@ -0,0 +1,1059 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URLEncoder;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the stream urls of youtube videos. Does not depend on the Android
+ * framework, the platform specific parts are passed in as {@link HttpTransport},
+ * {@link SignatureDecipherer} and {@link ExtractorLog}.
+ * <p/>
+ * An instance can be used for any number of extractions, also concurrently.
+ */
+public class StreamExtractor {
+
+    private final static String LOG_TAG = "YouTubeExtractor";
+    private final static int DASH_PARSE_RETRIES = 5;
+
+    private final HttpTransport http;
+    private final SignatureDecipherer decipherer;
+    private final ExtractorLog log;
+
+    private volatile boolean includeWebM = true;
+    private volatile boolean useHttp = false;
+    private volatile boolean parseDashManifest = false;
+    private volatile ResultCache resultCache;
+    private volatile Executor executor;
+    private volatile ExtractionCoalescer coalescer;
+    private volatile FormatFilter formatFilter;
+    private volatile VideoMetaStore videoMetaStore;
+    private volatile MetricsListener metricsListener = MetricsListener.NONE;
+
+    private static final Pattern patYouTubePageLink = Pattern.compile("(http|https)://(www\\.|m.|)youtube\\.com/watch\\?v=(.+?)( |\\z|&)");
+    private static final Pattern patYouTubeShortLink = Pattern.compile("(http|https)://(www\\.|)youtu.be/(.+?)( |\\z|&)");
+
+    private static final Pattern patDashManifestEncSig = Pattern.compile("/s/([0-9A-F|\\.]{10,}?)(/|\\z)");
+
+    private static final Pattern patHlsItag = Pattern.compile("/itag/(\\d+?)/");
+
+    private static final Pattern patItag = Pattern.compile("itag=([0-9]+?)(&|,)");
+
+    public StreamExtractor(HttpTransport http, SignatureDecipherer decipherer, ExtractorLog log) {
+        this.http = http;
+        this.decipherer = decipherer;
+        this.log = log;
+    }
+
+    /**
+     * Run the extraction on the calling thread, which also waits for the js engine if
+     * the signatures need it.
+     *
+     * @param ytUrl the youtube page link or video id
+     */
+    public ExtractionResult extract(String ytUrl) {
+        return extract(ytUrl, http);
+    }
+
+    /**
+     * Run the extraction on the executor.
+     * <p/>
+     * An extraction waiting for the js engine to decipher its signatures does not hold
+     * a thread of the executor: it continues on the executor once the engine answered
+     * or the decipher timeout passed. So do extractions of the same video joining it
+     * through the coalescer. Cancelling the returned future aborts the downloads of the
+     * extraction and drops its signatures from the js engine, so an abandoned
+     * extraction frees its thread and connections right away.
+     *
+     * @param ytUrl    the youtube page link or video id
+     * @param callback receives the result on a thread of the executor unless the
+     *                 extraction was cancelled, may be null
+     */
+    public Future<ExtractionResult> extractAsync(String ytUrl, Executor executor, ExtractionCallback callback) {
+        AsyncExtraction extraction = new AsyncExtraction(ytUrl, executor, callback);
+        executor.execute(extraction);
+        return extraction;
+    }
+
+    /**
+     * An extraction started by {@link #extractAsync}. Its steps run on the executor, a
+     * step that has to wait for the js engine ends and the next one is started by the
+     * callback of the engine.
+     */
+    private final class AsyncExtraction extends Completable<ExtractionResult> {
+        final String ytUrl;
+        final Executor executor;
+        final ExtractionCallback callback;
+        final CancellableTransport transport = new CancellableTransport(http);
+        // The deciphering the extraction is suspended on
+        private volatile Future<String> decipher;
+        // Steps resumed on the thread of the current step run right away
+        private volatile Thread stepThread;
+
+        AsyncExtraction(String ytUrl, Executor executor, ExtractionCallback callback) {
+            this.ytUrl = ytUrl;
+            this.executor = executor;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            if (isDone())
+                return;
+            runStep(new Runnable() {
+                @Override
+                public void run() {
+                    start();
+                }
+            });
+        }
+
+        private void start() {
+            ExtractionResult result = new ExtractionResult();
+            if (ytUrl == null) {
+                result.errMsg = "Error-"+"Video Id Empty";
+                complete(result);
+                return;
+            }
+            String videoID = parseVideoID(ytUrl);
+            if (videoID == null) {
+                log.e(LOG_TAG, "Wrong YouTube link format");
+                result.errMsg = "Error-"+"Wrong YouTube link format";
+                complete(result);
+                return;
+            }
+            final ExtractionMetrics metrics = new ExtractionMetrics(metricsListener, videoID);
+            final long start = metrics.start();
+            extractAsync(videoID, this, metrics, new ExtractionCallback() {
+                @Override
+                public void onExtractionComplete(ExtractionResult result) {
+                    metrics.complete(start, result.errMsg);
+                    complete(result);
+                }
+            });
+        }
+
+        void suspend(Future<String> decipher) {
+            this.decipher = decipher;
+            if (isCancelled())
+                decipher.cancel(false);
+        }
+
+        /**
+         * Continue with the step on the executor, or right away if this extraction is
+         * running on the calling thread anyway.
+         */
+        void resume(final Runnable step) {
+            if (Thread.currentThread() == stepThread) {
+                step.run();
+                return;
+            }
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runStep(step);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.d(LOG_TAG, "Executor rejected the extraction, continuing on this thread");
+                runStep(step);
+            }
+        }
+
+        private void runStep(Runnable step) {
+            Thread thread = Thread.currentThread();
+            stepThread = thread;
+            try {
+                step.run();
+            } finally {
+                if (stepThread == thread)
+                    stepThread = null;
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                transport.cancel();
+                Future<String> decipher = this.decipher;
+                if (decipher != null)
+                    decipher.cancel(false);
+            }
+            return cancelled;
+        }
+
+        @Override
+        protected void done() {
+            if (callback == null || isCancelled())
+                return;
+            try {
+                callback.onExtractionComplete(get());
+            } catch (InterruptedException | ExecutionException e) {
+                // Only completed with results and get() does not block once done
+                log.e(LOG_TAG, "Unexpected failure: " + e);
+            }
+        }
+    }
+
+    private ExtractionResult extract(String ytUrl, HttpTransport transport) {
+        ExtractionResult result = new ExtractionResult();
+        String videoID = null;
+        try {
+            if (ytUrl == null) {
+                result.errMsg = "Error-"+"Video Id Empty";
+                return result;
+            }
+            videoID = parseVideoID(ytUrl);
+            if (videoID != null) {
+                ExtractionMetrics metrics = new ExtractionMetrics(metricsListener, videoID);
+                long start = metrics.start();
+                try {
+                    result = extract(videoID, transport, metrics);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    result.errMsg = "Error-"+e.getMessage();
+                } finally {
+                    metrics.complete(start, result.errMsg);
+                }
+            } else {
+                log.e(LOG_TAG, "Wrong YouTube link format");
+                result.errMsg = "Error-"+"Wrong YouTube link format";
+            }
+        }catch (Exception e){
+            e.printStackTrace();
+            result.errMsg = "Error-"+e.getMessage();
+        }
+        return result;
+    }
+
+    private ExtractionResult extract(String videoID, HttpTransport transport, final ExtractionMetrics metrics)
+            throws Exception {
+        String key = cacheKey(videoID);
+        ExtractionResult cached = cached(key, videoID, metrics);
+        if (cached != null)
+            return cached;
+        ExtractionCoalescer coalescer = key != null ? this.coalescer : null;
+        if (coalescer == null)
+            return resolve(videoID, transport, metrics);
+        final String resolveID = videoID;
+        final HttpTransport resolveTransport = transport;
+        ExtractionResult result = new ExtractionResult();
+        try {
+            return coalescer.extract(key, new Callable<ExtractionResult>() {
+                @Override
+                public ExtractionResult call() {
+                    ExtractionResult resolved = resolve(resolveID, resolveTransport, metrics);
+                    if (isCancelled(resolveTransport))
+                        throw new CancellationException();
+                    return resolved;
+                }
+            });
+        } catch (CancellationException e) {
+            result.errMsg = "Error-"+"Extraction cancelled";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.errMsg = "Error-"+"Extraction cancelled";
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link #extract(String, HttpTransport, ExtractionMetrics)}, but the callback
+     * receives the result, now or from a later step of the extraction.
+     */
+    private void extractAsync(String videoID, AsyncExtraction extraction, ExtractionMetrics metrics,
+                              ExtractionCallback done) {
+        String key = cacheKey(videoID);
+        ExtractionResult cached = cached(key, videoID, metrics);
+        if (cached != null) {
+            done.onExtractionComplete(cached);
+            return;
+        }
+        ExtractionCoalescer coalescer = key != null ? this.coalescer : null;
+        if (coalescer == null)
+            resolveAsync(videoID, extraction, metrics, done);
+        else
+            coalesceAsync(coalescer, key, videoID, extraction, metrics, done);
+    }
+
+    private void coalesceAsync(final ExtractionCoalescer coalescer, final String key, final String videoID,
+                               final AsyncExtraction extraction, final ExtractionMetrics metrics,
+                               final ExtractionCallback done) {
+        coalescer.extractAsync(key, new ExtractionCoalescer.AsyncResolution() {
+            @Override
+            public void resolve(final ExtractionCallback resolved) {
+                resolveAsync(videoID, extraction, metrics, new ExtractionCallback() {
+                    @Override
+                    public void onExtractionComplete(ExtractionResult result) {
+                        resolved.onExtractionComplete(extraction.transport.isCancelled() ? null : result);
+                    }
+                });
+            }
+        }, new ExtractionCallback() {
+            @Override
+            public void onExtractionComplete(final ExtractionResult result) {
+                // Called on the thread of the extraction which resolved the video
+                extraction.resume(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (result != null) {
+                            done.onExtractionComplete(result);
+                        } else if (extraction.transport.isCancelled()) {
+                            ExtractionResult cancelled = new ExtractionResult();
+                            cancelled.errMsg = "Error-"+"Extraction cancelled";
+                            done.onExtractionComplete(cancelled);
+                        } else {
+                            // The extraction we joined was abandoned, try again
+                            coalesceAsync(coalescer, key, videoID, extraction, metrics, done);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * @return the result from the cache or null
+     */
+    private ExtractionResult cached(String key, String videoID, ExtractionMetrics metrics) {
+        ResultCache cache = key != null ? resultCache : null;
+        if (cache == null)
+            return null;
+        ExtractionResult cached = cache.get(key);
+        metrics.cacheLookup(MetricsListener.Cache.RESULT, cached != null);
+        if (cached != null)
+            log.d(LOG_TAG, "Result of " + videoID + " from cache");
+        return cached;
+    }
+
+    /**
+     * @return the video id of the link or null if it is not a youtube link
+     */
+    private static String parseVideoID(String ytUrl) {
+        Matcher mat = patYouTubePageLink.matcher(ytUrl);
+        if (mat.find())
+            return mat.group(3);
+        mat = patYouTubeShortLink.matcher(ytUrl);
+        if (mat.find())
+            return mat.group(3);
+        if (ytUrl.matches("\\p{Graph}+?"))
+            return ytUrl;
+        return null;
+    }
+
+    /**
+     * Get the metadata of a video without extracting its streams, from the
+     * {@link VideoMetaStore} if it has it.
+     *
+     * @param ytUrl the youtube page link or video id
+     * @return the metadata or null if it could not be loaded
+     */
+    public VideoMeta extractVideoMeta(String ytUrl) {
+        String videoID = ytUrl != null ? parseVideoID(ytUrl) : null;
+        if (videoID == null)
+            return null;
+        VideoMetaStore store = videoMetaStore;
+        VideoMeta videoMeta = store != null ? store.get(videoID) : null;
+        if (videoMeta != null)
+            return videoMeta;
+        BufferedReader reader = null;
+        try {
+            String ytInfoUrl = (useHttp) ? "http://" : "https://";
+            ytInfoUrl += "www.youtube.com/get_video_info?video_id=" + videoID + "&eurl="
+                    + URLEncoder.encode("https://youtube.googleapis.com/v/" + videoID, "UTF-8");
+            reader = new BufferedReader(new InputStreamReader(http.get(ytInfoUrl), "UTF-8"));
+            String getVideoInfo = reader.readLine();
+            if (getVideoInfo == null)
+                return null;
+            videoMeta = parseVideoInfo(videoID, getVideoInfo).videoMeta;
+            if (store != null)
+                store.put(videoMeta);
+            return videoMeta;
+        } catch (IOException e) {
+            log.e(LOG_TAG, "Could not load the metadata of " + videoID + ": " + e);
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private ExtractionResult resolve(String videoID, HttpTransport transport, ExtractionMetrics metrics) {
+        ExtractionResult result = new ExtractionResult();
+        try {
+            result.ytFiles = getStreamUrls(videoID, result, transport, metrics);
+        } catch (Exception e) {
+            e.printStackTrace();
+            result.errMsg = "Error-"+e.getMessage();
+        }
+        return resolved(videoID, transport, result);
+    }
+
+    /**
+     * Like {@link #resolve}, but instead of waiting for the js engine the extraction
+     * suspends, and the callback receives the result from the step resumed by the
+     * engine.
+     */
+    private void resolveAsync(final String videoID, final AsyncExtraction extraction,
+                              final ExtractionMetrics metrics, final ExtractionCallback done) {
+        final ExtractionResult result = new ExtractionResult();
+        final Streams streams = findStreams(videoID, result, extraction.transport, metrics);
+        if (streams == null || !streams.isEnciphered()) {
+            if (streams != null)
+                result.ytFiles = completeStreams(streams, null, result, extraction.transport, metrics);
+            done.onExtractionComplete(resolved(videoID, extraction.transport, result));
+            return;
+        }
+        log.d(LOG_TAG, "Decipher signatures");
+        try {
+            extraction.suspend(decipherer.decipherAsync(streams.jsFileName, streams.encSignatures,
+                    extraction.transport, metrics, new SignatureDecipherer.DecipherCallback() {
+                        @Override
+                        public void onDeciphered(final String signatures) {
+                            extraction.resume(new Runnable() {
+                                @Override
+                                public void run() {
+                                    result.ytFiles = completeStreams(streams, signatures, result,
+                                            extraction.transport, metrics);
+                                    done.onExtractionComplete(resolved(videoID, extraction.transport, result));
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void onDecipherFailed(final IOException e) {
+                            extraction.resume(new Runnable() {
+                                @Override
+                                public void run() {
+                                    result.ytFiles = decipherFailed(result, e);
+                                    done.onExtractionComplete(resolved(videoID, extraction.transport, result));
+                                }
+                            });
+                        }
+                    }));
+        } catch (Exception e) {
+            e.printStackTrace();
+            result.errMsg = "Error-"+e.getMessage();
+            done.onExtractionComplete(resolved(videoID, extraction.transport, result));
+        }
+    }
+
+    /**
+     * Cache the result of a resolution.
+     */
+    private ExtractionResult resolved(String videoID, HttpTransport transport, ExtractionResult result) {
+        // A cancelled extraction may look successful with streams missing
+        String key = cacheKey(videoID);
+        ResultCache cache = resultCache;
+        if (cache != null && key != null && !isCancelled(transport))
+            cache.put(key, result);
+        return result;
+    }
+
+    private static boolean isCancelled(HttpTransport transport) {
+        return transport instanceof CancellableTransport && ((CancellableTransport) transport).isCancelled();
+    }
+
+    /**
+     * The options change the result, so they are part of the key.
+     *
+     * @return null if the result must not be shared, because a format filter is set and
+     * nothing tells which formats it accepts
+     */
+    private String cacheKey(String videoID) {
+        if (formatFilter != null)
+            return null;
+        return videoID + (includeWebM ? "|webm" : "") + (parseDashManifest ? "|dash" : "")
+                + (useHttp ? "|http" : "");
+    }
+
+    /**
+     * Whether files of the format belong into the result.
+     */
+    private boolean isWanted(Format format) {
+        if (format == null || (!includeWebM && format.isWebm()))
+            return false;
+        FormatFilter filter = formatFilter;
+        return filter == null || filter.accept(format);
+    }
+
+    /**
+     * The dash manifest is not worth downloading if the filter rejects all its formats.
+     */
+    private boolean isAnyDashFormatWanted() {
+        for (Format format : FormatRegistry.table()) {
+            if (format != null && format.isDashContainer() && isWanted(format))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * The streams of a video before deciphering, see {@link #findStreams}.
+     */
+    private static final class Streams {
+        ItagArray<YtFile> ytFiles;
+        // get_video_info, the error message if no stream is left
+        String streamMap;
+        String jsFileName;
+        // The enciphered signatures by itag, the one of the dash manifest has itag 0
+        ItagArray<String> encSignatures;
+        String dashMpdUrl;
+        Future<List<DashManifestParser.Representation>> dashManifest;
+
+        boolean isEnciphered() {
+            return encSignatures != null && encSignatures.size() > 0;
+        }
+    }
+
+    private ItagArray<YtFile> getStreamUrls(String videoID, ExtractionResult result, HttpTransport transport,
+                                            ExtractionMetrics metrics) throws InterruptedException {
+        Streams streams = findStreams(videoID, result, transport, metrics);
+        if (streams == null)
+            return null;
+        String signatures = null;
+        if (streams.isEnciphered()) {
+            log.d(LOG_TAG, "Decipher signatures");
+            try {
+                signatures = decipherer.decipher(streams.jsFileName, streams.encSignatures, transport, metrics);
+            } catch (IOException e) {
+                return decipherFailed(result, e);
+            }
+        }
+        return completeStreams(streams, signatures, result, transport, metrics);
+    }
+
+    private ItagArray<YtFile> decipherFailed(ExtractionResult result, IOException e) {
+        log.d(LOG_TAG, "Decipher failed: " + e.getMessage());
+        result.errMsg = "Error-"+e.getMessage();
+        return null;
+    }
+
+    /**
+     * Everything up to deciphering: the streams of get_video_info or of the watch page
+     * and their enciphered signatures. Starts downloading the dash manifest if it is
+     * not enciphered.
+     *
+     * @return the streams or null if the extraction failed
+     */
+    private Streams findStreams(String videoID, ExtractionResult result, final HttpTransport transport,
+                                final ExtractionMetrics metrics) {
+        try {
+            String ytInfoUrl = (useHttp) ? "http://" : "https://";
+            ytInfoUrl += "www.youtube.com/get_video_info?video_id=" + videoID + "&eurl="
+                    + URLEncoder.encode("https://youtube.googleapis.com/v/" + videoID, "UTF-8");
+            String dashMpdUrl = null;
+            boolean parseDashManifest = this.parseDashManifest && isAnyDashFormatWanted();
+            Future<List<DashManifestParser.Representation>> dashManifest = null;
+            String streamMap = null;
+            BufferedReader reader = null;
+            try {
+                long start = metrics.start();
+                InputStream in = metrics.count(transport.get(ytInfoUrl));
+                reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+                streamMap = reader.readLine();
+                metrics.stage(MetricsListener.Stage.VIDEO_INFO, start, in);
+            }catch(Exception e){
+                result.errMsg = "Error-"+e.getMessage();
+            } finally {
+                if (reader != null)
+                    reader.close();
+            }
+            if (streamMap == null) {
+                if (result.errMsg == null)
+                    result.errMsg = "Error-"+"get_video_info is empty";
+                return null;
+            }
+            Matcher mat;
+            String curJsFileName = null;
+            ItagArray<String> encSignatures = null;
+            VideoInfo videoInfo = parseVideoInfo(videoID, streamMap);
+            result.videoMeta = videoInfo.videoMeta;
+            VideoMetaStore store = videoMetaStore;
+            if (store != null)
+                store.put(result.videoMeta);
+
+            if (result.videoMeta.isLiveStream()) {
+                if (videoInfo.hlsvp != null) {
+                    String hlsvp = videoInfo.hlsvp;
+                    ItagArray<YtFile> ytFiles = new ItagArray<>();
+
+                    try {
+                        long start = metrics.start();
+                        InputStream in = metrics.count(transport.get(hlsvp));
+                        reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+                        List<HlsPlaylistParser.Variant> variants = HlsPlaylistParser.parseMasterPlaylist(reader, hlsvp);
+                        metrics.stage(MetricsListener.Stage.HLS_PLAYLIST, start, in);
+                        for (HlsPlaylistParser.Variant variant : variants) {
+                            mat = patHlsItag.matcher(variant.url);
+                            if (mat.find()) {
+                                int itag = Integer.parseInt(mat.group(1));
+                                Format format = FormatRegistry.get(itag);
+                                // Unknown formats are kept unless a filter chooses
+                                if (format != null ? !isWanted(format) : formatFilter != null)
+                                    continue;
+                                YtFile newFile = new YtFile(format, variant.url, variant);
+                                ytFiles.put(itag, newFile);
+                            }
+                        }
+                    }catch(Exception e){
+                        result.errMsg = "Error-"+e.getMessage();
+                    }  finally {
+                        if (reader != null)
+                            reader.close();
+                    }
+
+                    if (ytFiles.size() == 0) {
+                        result.errMsg = "Error-"+streamMap;
+                        return null;
+                    }
+                    Streams streams = new Streams();
+                    streams.ytFiles = ytFiles;
+                    return streams;
+                }
+                return null;
+            }
+
+
+            // Some videos are using a ciphered signature we need to get the
+            // deciphering js-file from the youtubepage.
+            ItagArray<YtFile> ytFiles;
+            if (videoInfo.useCipherSignature) {
+                // Get the video directly from the youtubepage
+                decipherer.loadCachedFunctions();
+                // Most videos use the last known player, get its functions ready meanwhile,
+                // but only in parallel, the page may name another player
+                fork(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        decipherer.prefetch(transport, metrics);
+                        return null;
+                    }
+                }, true);
+                String watchUrl = "https://youtube.com/watch?v=" + videoID;
+                WatchPageScanner.Result watchPage;
+                InputStream in = null;
+                long start = metrics.start();
+                try {
+                    in = transport.get(watchUrl);
+                    watchPage = WatchPageScanner.scan(in, parseDashManifest);
+                } finally {
+                    if (in != null)
+                        in.close();
+                }
+                metrics.stage(MetricsListener.Stage.WATCH_PAGE, start, watchPage.bytesRead);
+                if (watchPage.streamMap == null) {
+                    result.errMsg = "Error-"+"stream map not found";
+                    return null;
+                }
+                encSignatures = new ItagArray<>();
+                if (watchPage.jsFileName != null) {
+                    curJsFileName = watchPage.jsFileName;
+                    decipherer.setPlayerJsFileName(curJsFileName);
+                }
+                if (parseDashManifest) {
+                    if (watchPage.dashMpdUrl != null) {
+                        dashMpdUrl = watchPage.dashMpdUrl.replace("\\/", "/").replace("\\u0026", "&");
+                        mat = patDashManifestEncSig.matcher(dashMpdUrl);
+                        if (mat.find()) {
+                            encSignatures.append(0, mat.group(1));
+                        } else {
+                            dashMpdUrl = null;
+                        }
+                    }
+                }
+                ytFiles = parseWatchPageStreams(watchPage.streamMap, watchPage.adaptiveFmts,
+                        curJsFileName != null ? encSignatures : null);
+            } else {
+                if (parseDashManifest) {
+                    dashMpdUrl = videoInfo.dashMpdUrl;
+                }
+                if (dashMpdUrl != null)
+                    dashManifest = fetchDashManifest(dashMpdUrl, transport, metrics);
+                ytFiles = parseStreams(videoInfo);
+            }
+            Streams streams = new Streams();
+            streams.ytFiles = ytFiles;
+            streams.streamMap = streamMap;
+            streams.jsFileName = curJsFileName;
+            streams.encSignatures = encSignatures;
+            streams.dashMpdUrl = dashMpdUrl;
+            streams.dashManifest = dashManifest;
+            return streams;
+        }catch (Exception e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Add the deciphered signatures to the urls and the files of the dash manifest.
+     *
+     * @param signature the deciphered signatures if the streams are enciphered
+     * @return the files or null if the extraction failed
+     */
+    private ItagArray<YtFile> completeStreams(Streams streams, String signature, ExtractionResult result,
+                                              HttpTransport transport, ExtractionMetrics metrics) {
+        try {
+            ItagArray<YtFile> ytFiles = streams.ytFiles;
+            ItagArray<String> encSignatures = streams.encSignatures;
+            String dashMpdUrl = streams.dashMpdUrl;
+            Future<List<DashManifestParser.Representation>> dashManifest = streams.dashManifest;
+            if (streams.isEnciphered()) {
+                if (signature == null) {
+                    result.errMsg = "Error-"+"signature is empty";
+                    return null;
+                } else {
+                    String[] sigs = signature.split("\n");
+                    if (dashMpdUrl != null && encSignatures.keyAt(0) == 0 && sigs.length > 0) {
+                        dashMpdUrl = dashMpdUrl.replace("/s/" + encSignatures.valueAt(0), "/signature/" + sigs[0]);
+                        dashManifest = fetchDashManifest(dashMpdUrl, transport, metrics);
+                    }
+                    for (int i = 0; i < encSignatures.size() && i < sigs.length; i++) {
+                        int key = encSignatures.keyAt(i);
+                        if (key != 0) {
+                            YtFile ytFile = ytFiles.get(key);
+                            String url = ytFile.getUrl() + "&signature=" + sigs[i];
+                            YtFile newFile = new YtFile(ytFile.getFormat(), url);
+                            ytFiles.put(key, newFile);
+                        }
+                    }
+                }
+            }
+
+            if (dashManifest != null) {
+                try {
+                    addDashFiles(dashManifest.get(), ytFiles);
+                } catch (ExecutionException e) {
+                    log.d(LOG_TAG, "Failed to parse dash manifest: " + e.getCause());
+                }
+            }
+
+            if (ytFiles.size() == 0) {
+                result.errMsg = "Error-"+streams.streamMap;
+                return null;
+            }
+            return ytFiles;
+
+        }catch (Exception e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Parse the streams of the stream maps in get_video_info.
+     */
+    ItagArray<YtFile> parseStreams(VideoInfo videoInfo) {
+        ItagArray<YtFile> ytFiles = new ItagArray<>();
+        String s = videoInfo.getVideoInfo;
+        // The stream maps are query strings escaped once more than the values of get_video_info
+        if (videoInfo.streamMapStart >= 0) {
+            parseStreams(new QueryStringTokenizer(s, videoInfo.streamMapStart, videoInfo.streamMapEnd,
+                    "%26", "%3D", "%2C"), 2, ytFiles, null);
+        }
+        if (videoInfo.adaptiveFmtsStart >= 0) {
+            parseStreams(new QueryStringTokenizer(s, videoInfo.adaptiveFmtsStart, videoInfo.adaptiveFmtsEnd,
+                    "%26", "%3D", "%2C"), 2, ytFiles, null);
+        }
+        return ytFiles;
+    }
+
+    /**
+     * Parse the streams of the stream maps in the player config of the watch page.
+     *
+     * @param encSignatures receives the enciphered signatures by itag, null if the
+     *                      streams are not enciphered
+     */
+    ItagArray<YtFile> parseWatchPageStreams(String streamMap, String adaptiveFmts,
+                                            ItagArray<String> encSignatures) {
+        ItagArray<YtFile> ytFiles = new ItagArray<>();
+        for (String value : new String[]{streamMap, adaptiveFmts}) {
+            if (value == null)
+                continue;
+            parseStreams(new QueryStringTokenizer(value, 0, value.length(), "\\u0026", "=", ","), 1,
+                    ytFiles, encSignatures);
+        }
+        return ytFiles;
+    }
+
+    private void parseStreams(QueryStringTokenizer tokenizer, int decodeCount, ItagArray<YtFile> ytFiles,
+                              ItagArray<String> encSignatures) {
+        int itag = -1;
+        int urlStart = -1, urlEnd = -1;
+        String sig = null;
+        while (tokenizer.next()) {
+            if (tokenizer.keyEquals("itag")) {
+                itag = (int) tokenizer.longValue(-1);
+            } else if (tokenizer.keyEquals("url")) {
+                urlStart = tokenizer.valueStart();
+                urlEnd = tokenizer.valueEnd();
+            } else if (encSignatures != null && tokenizer.keyEquals("s")) {
+                sig = tokenizer.rawValue();
+            }
+            if (!tokenizer.isEndOfRecord())
+                continue;
+
+            Format format = itag < 0 ? null : FormatRegistry.get(itag);
+            if (format == null) {
+                log.d(LOG_TAG, "Itag not in list:" + itag);
+            } else if (urlStart >= 0 && isWanted(format)) {
+                // Unwanted streams are neither decoded nor deciphered
+                String url = tokenizer.decodeRange(urlStart, urlEnd, decodeCount);
+                ytFiles.put(itag, new YtFile(format, url));
+                if (sig != null)
+                    encSignatures.append(itag, sig);
+            }
+            itag = -1;
+            urlStart = urlEnd = -1;
+            sig = null;
+        }
+    }
+
+    /**
+     * Start downloading and parsing the dash manifest, its files are added once the
+     * streams are known.
+     */
+    private Future<List<DashManifestParser.Representation>> fetchDashManifest(final String dashMpdUrl,
+                                                                             final HttpTransport transport,
+                                                                             final ExtractionMetrics metrics) {
+        return fork(new Callable<List<DashManifestParser.Representation>>() {
+            @Override
+            public List<DashManifestParser.Representation> call() throws Exception {
+                long start = metrics.start();
+                for (int i = 0; ; i++) {
+                    try {
+                        return readDashManifest(dashMpdUrl, transport, metrics, start);
+                    } catch (IOException e) {
+                        // It sometimes fails to connect for no apparent reason. We just retry.
+                        log.d(LOG_TAG, "Failed to parse dash manifest " + (i + 1));
+                        if (i + 1 == DASH_PARSE_RETRIES || isCancelled(transport))
+                            throw e;
+                        metrics.retry(MetricsListener.Stage.DASH_MANIFEST, i + 1, e);
+                        Thread.sleep(5);
+                    }
+                }
+            }
+        });
+    }
+
+    private List<DashManifestParser.Representation> readDashManifest(String dashMpdUrl, HttpTransport transport,
+                                                                     ExtractionMetrics metrics, long start)
+            throws IOException {
+        InputStream in = metrics.count(transport.get(dashMpdUrl));
+        try {
+            List<DashManifestParser.Representation> representations = DashManifestParser.parse(in);
+            metrics.stage(MetricsListener.Stage.DASH_MANIFEST, start, in);
+            return representations;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Run the task on the executor, or right away on the calling thread if there is none.
+     */
+    private <T> Future<T> fork(Callable<T> task) {
+        return fork(task, false);
+    }
+
+    /**
+     * Run the task on the executor, or right away on the calling thread if there is none.
+     *
+     * @param speculative whether the task only saves time if it runs in parallel, it is
+     *                    then dropped instead of running on the calling thread, also
+     *                    if the executor would run it there like with caller-runs policy
+     * @return the future of the task or null if it was dropped
+     */
+    private <T> Future<T> fork(final Callable<T> task, boolean speculative) {
+        Executor executor = this.executor;
+        if (executor == null && speculative)
+            return null;
+        FutureTask<T> future;
+        if (speculative) {
+            final Thread caller = Thread.currentThread();
+            future = new FutureTask<>(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+                    return Thread.currentThread() != caller ? task.call() : null;
+                }
+            });
+        } else {
+            future = new FutureTask<>(task);
+        }
+        if (executor != null) {
+            try {
+                executor.execute(future);
+                return future;
+            } catch (RejectedExecutionException e) {
+                if (speculative)
+                    return null;
+                log.d(LOG_TAG, "Executor rejected task, running it directly");
+            }
+        }
+        future.run();
+        return future;
+    }
+
+    void addDashFiles(List<DashManifestParser.Representation> representations, ItagArray<YtFile> ytFiles) {
+        for (DashManifestParser.Representation representation : representations) {
+            String url = representation.baseUrl;
+            int itag = representation.itag;
+            if (itag == -1) {
+                Matcher mat = patItag.matcher(url);
+                if (!mat.find())
+                    continue;
+                itag = Integer.parseInt(mat.group(1));
+            }
+            Format format = FormatRegistry.get(itag);
+            if (!isWanted(format))
+                continue;
+            url = url.replace(",", "%2C").
+                    replace("mime=audio/", "mime=audio%2F").
+                    replace("mime=video/", "mime=video%2F");
+            ytFiles.append(itag, new YtFile(format, url, representation));
+        }
+    }
+
+    /**
+     * Collect the fields of get_video_info in one pass.
+     */
+    static VideoInfo parseVideoInfo(String videoID, String getVideoInfo) {
+        VideoInfo info = new VideoInfo(getVideoInfo);
+        boolean isLiveStream = false;
+        String title = null, author = null, channelId = null;
+        long viewCount = 0, length = 0;
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer(getVideoInfo);
+        while (tokenizer.next()) {
+            if (tokenizer.keyEquals("url_encoded_fmt_stream_map")) {
+                info.streamMapStart = tokenizer.valueStart();
+                info.streamMapEnd = tokenizer.valueEnd();
+            } else if (tokenizer.keyEquals("adaptive_fmts")) {
+                info.adaptiveFmtsStart = tokenizer.valueStart();
+                info.adaptiveFmtsEnd = tokenizer.valueEnd();
+            } else if (tokenizer.keyEquals("title")) {
+                title = tokenizer.value(1);
+            } else if (tokenizer.keyEquals("author")) {
+                author = tokenizer.value(1);
+            } else if (tokenizer.keyEquals("ucid")) {
+                channelId = tokenizer.rawValue();
+            } else if (tokenizer.keyEquals("length_seconds")) {
+                length = tokenizer.longValue(0);
+            } else if (tokenizer.keyEquals("view_count")) {
+                viewCount = tokenizer.longValue(0);
+            } else if (tokenizer.keyEquals("hlsvp")) {
+                isLiveStream = true;
+                info.hlsvp = tokenizer.value(1);
+            } else if (tokenizer.keyEquals("dashmpd")) {
+                info.dashMpdUrl = tokenizer.value(1);
+            } else if (tokenizer.keyEquals("use_cipher_signature")) {
+                info.useCipherSignature = !"False".equals(tokenizer.rawValue());
+            }
+        }
+        info.videoMeta = new VideoMeta(videoID, title, author, channelId, length, viewCount, isLiveStream);
+        return info;
+    }
+
+    /**
+     * Parse the dash manifest for different dash streams and high quality audio. Default: false
+     */
+    public void setParseDashManifest(boolean parseDashManifest) {
+        this.parseDashManifest = parseDashManifest;
+    }
+
+
+    /**
+     * Include the webm format files into the result. Default: true
+     */
+    public void setIncludeWebM(boolean includeWebM) {
+        this.includeWebM = includeWebM;
+    }
+
+
+    /**
+     * Set default protocol of the returned urls to HTTP instead of HTTPS.
+     * HTTP may be blocked in some regions so HTTPS is the default value.
+     * <p/>
+     * Note: Enciphered videos require HTTPS so they are not affected by
+     * this.
+     */
+    public void setDefaultHttpProtocol(boolean useHttp) {
+        this.useHttp = useHttp;
+    }
+
+    /**
+     * Only extract the formats the filter accepts, the urls of the other formats are
+     * neither decoded nor their signatures deciphered. Filtered extractions are neither
+     * answered from the result cache nor coalesced with others.
+     * Default: null, all formats
+     */
+    public void setFormatFilter(FormatFilter formatFilter) {
+        this.formatFilter = formatFilter;
+    }
+
+    /**
+     * Answer repeated extractions of a video from the cache while its urls are valid.
+     * Default: null, no caching
+     */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Store the metadata of every extracted video, so lists can show it without
+     * extracting again, see {@link #extractVideoMeta(String)}. Default: null
+     */
+    public void setVideoMetaStore(VideoMetaStore videoMetaStore) {
+        this.videoMetaStore = videoMetaStore;
+    }
+
+    /**
+     * Report the stage timings, downloaded bytes, cache lookups and retries of the
+     * extractions. Default: {@link MetricsListener#NONE}, which null also sets, nothing
+     * is measured
+     */
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = metricsListener != null ? metricsListener : MetricsListener.NONE;
+    }
+
+    /**
+     * Let concurrent extractions of the same video and options share one resolution.
+     * Default: null, every extraction resolves its video
+     */
+    public void setCoalescer(ExtractionCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Run independent steps of an extraction in parallel on the executor, like loading
+     * the player functions while the watch page downloads and downloading the dash
+     * manifest while the streams are parsed. The executor should not queue tasks behind
+     * the extractions themselves, e.g. a thread pool with caller-runs policy. Loading
+     * the functions of the last known player is skipped if the executor does not run
+     * it on another thread, it would only delay the watch page.
+     * Default: null, everything runs on the extracting thread
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+}
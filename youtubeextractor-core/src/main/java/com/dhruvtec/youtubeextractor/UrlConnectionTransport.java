@@ -0,0 +1,136 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * {@link HttpTransport} based on {@link HttpURLConnection}.
+ * <p/>
+ * Connections are not disconnected after a request, so the platform keeps them alive
+ * and reuses them for the next request to the same host, which saves the TLS
+ * handshakes to www.youtube.com and s.ytimg.com when resolving many videos.
+ * Responses are requested gzip compressed.
+ */
+public class UrlConnectionTransport implements HttpTransport {
+
+    static final String USER_AGENT = "Mozilla/5.0 (Windows NT 6.1; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/40.0.2214.115 Safari/537.36";
+
+    private static final int DEFAULT_CONNECT_TIMEOUT_MS = 15000;
+    private static final int DEFAULT_READ_TIMEOUT_MS = 20000;
+    private static final int MAX_DISCARDED_ERROR_BYTES = 64 * 1024;
+
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+
+    public UrlConnectionTransport() {
+        this(DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_READ_TIMEOUT_MS);
+    }
+
+    /**
+     * @param connectTimeoutMs timeout for establishing a connection, 0 for none
+     * @param readTimeoutMs    timeout for every read of the response, 0 for none
+     */
+    public UrlConnectionTransport(int connectTimeoutMs, int readTimeoutMs) {
+        if (connectTimeoutMs < 0 || readTimeoutMs < 0)
+            throw new IllegalArgumentException("timeout < 0");
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    @Override
+    public InputStream get(String url) throws IOException {
+        HttpURLConnection urlConnection = (HttpURLConnection) new URL(url).openConnection();
+        urlConnection.setRequestProperty("User-Agent", USER_AGENT);
+        // Set explicitly, so the body has to be decompressed here on every platform
+        urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+        urlConnection.setConnectTimeout(connectTimeoutMs);
+        urlConnection.setReadTimeout(readTimeoutMs);
+        InputStream in;
+        try {
+            in = urlConnection.getInputStream();
+        } catch (IOException e) {
+            discardErrorStream(urlConnection);
+            throw e;
+        }
+        if ("gzip".equalsIgnoreCase(urlConnection.getContentEncoding())) {
+            try {
+                in = new GZIPInputStream(in);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+        return new ResponseStream(in, urlConnection);
+    }
+
+    /**
+     * Closing keeps the connection for reuse, aborting drops it. Disconnecting also
+     * unblocks a read running on another thread.
+     */
+    private static final class ResponseStream extends FilterInputStream
+            implements CancellableTransport.Abortable, CancellableTransport.Sized {
+
+        private final HttpURLConnection urlConnection;
+
+        ResponseStream(InputStream in, HttpURLConnection urlConnection) {
+            super(in);
+            this.urlConnection = urlConnection;
+        }
+
+        /**
+         * The Content-Length header, unless the body is decompressed.
+         */
+        @Override
+        public long contentLength() {
+            if (in instanceof GZIPInputStream)
+                return -1;
+            String contentLength = urlConnection.getHeaderField("Content-Length");
+            if (contentLength == null)
+                return -1;
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public void abort() {
+            urlConnection.disconnect();
+        }
+    }
+
+    /**
+     * Read and close the body of an error response, so the connection can be reused.
+     * Large bodies are not worth it, their connection is dropped.
+     */
+    private static void discardErrorStream(HttpURLConnection urlConnection) {
+        InputStream err = urlConnection.getErrorStream();
+        if (err == null)
+            return;
+        try {
+            byte[] buffer = new byte[1024];
+            int total = 0;
+            int n;
+            while ((n = err.read(buffer)) != -1) {
+                total += n;
+                if (total > MAX_DISCARDED_ERROR_BYTES) {
+                    urlConnection.disconnect();
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            urlConnection.disconnect();
+        } finally {
+            try {
+                err.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.dhruvtec.youtubeextractor;
+
+/**
+ * The fields of a get_video_info response used by the extractor, collected in one pass.
+ */
+class VideoInfo {
+
+    final String getVideoInfo;
+
+    VideoMeta videoMeta;
+    String hlsvp;
+    String dashMpdUrl;
+    boolean useCipherSignature = true;
+
+    // Ranges of the stream maps in getVideoInfo, still escaped
+    int streamMapStart = -1, streamMapEnd;
+    int adaptiveFmtsStart = -1, adaptiveFmtsEnd;
+
+    VideoInfo(String getVideoInfo) {
+        this.getVideoInfo = getVideoInfo;
+    }
+}
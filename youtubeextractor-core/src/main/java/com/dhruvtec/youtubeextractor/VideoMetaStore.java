@@ -0,0 +1,575 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the {@link VideoMeta} of extracted videos on disk, so lists of videos can
+ * show titles, authors and lengths without a request per video, also offline.
+ * <p/>
+ * The metadata is appended to a log file, the position of the latest record of
+ * every video is kept in memory. A record carries a CRC32, so a record torn by a
+ * crash is cut off when the file is opened instead of being used. The file is
+ * rewritten without the replaced and expired records once they take up more space
+ * than the current ones.
+ * <p/>
+ * View counts change, so records expire after {@link #setTimeToLive(long)}, records
+ * of live streams after a few minutes.
+ */
+public class VideoMetaStore implements Closeable {
+
+    private static final String LOG_TAG = "YouTubeExtractor";
+    private static final String DIR_NAME = "videometa";
+    private static final String FILE_NAME = "videometa.log";
+
+    private static final int MAGIC = 0x5954564d; // "YTVM"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 256 * 1024;
+
+    private static final long DEFAULT_TIME_TO_LIVE_MS = 24 * 60 * 60 * 1000;
+    private static final long LIVE_TIME_TO_LIVE_MS = 5 * 60 * 1000;
+    private static final int DEFAULT_MAX_ENTRIES = 5000;
+    private static final long MIN_COMPACT_BYTES = 64 * 1024;
+
+    private static final int FLAG_LIVE = 1;
+    private static final int FLAG_REMOVED = 1 << 1;
+    private static final int FLAG_TITLE = 1 << 2;
+    private static final int FLAG_AUTHOR = 1 << 3;
+    private static final int FLAG_CHANNEL_ID = 1 << 4;
+
+    /**
+     * Where the latest record of a video is in the file.
+     */
+    private static final class Slot {
+        final long offset;
+        final int size;
+        final long expiresAt;
+
+        Slot(long offset, int size, long expiresAt) {
+            this.offset = offset;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final CacheDirectory cacheDirectory;
+    private final ExtractorLog log;
+
+    // Guarded by this
+    private final LinkedHashMap<String, Slot> index = new LinkedHashMap<>();
+    private File path;
+    private RandomAccessFile file;
+    private boolean opened;
+    private long end;
+    private long garbageBytes;
+    private long timeToLiveMs = DEFAULT_TIME_TO_LIVE_MS;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private int hitCount;
+    private int missCount;
+
+    public VideoMetaStore(CacheDirectory cacheDirectory, ExtractorLog log) {
+        this.cacheDirectory = cacheDirectory;
+        this.log = log;
+    }
+
+    /**
+     * How long stored metadata is returned. Default: one day
+     */
+    public synchronized void setTimeToLive(long timeToLiveMs) {
+        if (timeToLiveMs <= 0)
+            throw new IllegalArgumentException("timeToLiveMs <= 0");
+        this.timeToLiveMs = timeToLiveMs;
+    }
+
+    /**
+     * The maximum number of stored videos, the ones stored first are dropped.
+     * Default: 5000
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
+        if (maxEntries < 1)
+            throw new IllegalArgumentException("maxEntries < 1");
+        this.maxEntries = maxEntries;
+        evict();
+    }
+
+    /**
+     * @return the stored metadata or null if there is none or it expired
+     */
+    public synchronized VideoMeta get(String videoId) {
+        VideoMeta videoMeta = open() ? read(videoId, System.currentTimeMillis()) : null;
+        if (videoMeta != null)
+            hitCount++;
+        else
+            missCount++;
+        return videoMeta;
+    }
+
+    /**
+     * Look up the metadata of many videos at once, e.g. for a feed.
+     *
+     * @return the stored metadata by video id in the order of the ids, without the
+     * videos which are not stored
+     */
+    public synchronized Map<String, VideoMeta> getAll(Collection<String> videoIds) {
+        Map<String, VideoMeta> videoMetas = new LinkedHashMap<>();
+        boolean open = open();
+        long now = System.currentTimeMillis();
+        for (String videoId : videoIds) {
+            VideoMeta videoMeta = open ? read(videoId, now) : null;
+            if (videoMeta != null) {
+                videoMetas.put(videoId, videoMeta);
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        return videoMetas;
+    }
+
+    /**
+     * Store the metadata, replacing the stored metadata of the video.
+     */
+    public synchronized void put(VideoMeta videoMeta) {
+        if (videoMeta == null || videoMeta.getVideoId() == null || !open())
+            return;
+        long lifetime = videoMeta.isLiveStream() ? Math.min(LIVE_TIME_TO_LIVE_MS, timeToLiveMs) : timeToLiveMs;
+        long expiresAt = System.currentTimeMillis() + lifetime;
+        byte[] record;
+        try {
+            record = encode(videoMeta, expiresAt);
+        } catch (IOException e) {
+            // A string longer than writeUTF allows
+            log.d(LOG_TAG, "Could not encode the metadata of " + videoMeta.getVideoId() + ": " + e);
+            return;
+        }
+        try {
+            append(videoMeta.getVideoId(), record, expiresAt);
+            evict();
+            compactIfWasteful();
+        } catch (IOException e) {
+            fail("Could not store the video metadata", e);
+        }
+    }
+
+    public synchronized void remove(String videoId) {
+        if (videoId == null || !open() || !index.containsKey(videoId))
+            return;
+        try {
+            byte[] record = encodeRemoved(videoId);
+            write(end, record);
+            garbageBytes += record.length;
+            drop(videoId);
+        } catch (IOException e) {
+            fail("Could not remove the video metadata", e);
+        }
+    }
+
+    /**
+     * Drop all stored metadata. The counters are kept.
+     */
+    public synchronized void clear() {
+        if (!open())
+            return;
+        index.clear();
+        garbageBytes = 0;
+        try {
+            file.setLength(HEADER_SIZE);
+            end = HEADER_SIZE;
+        } catch (IOException e) {
+            fail("Could not clear the video metadata", e);
+        }
+    }
+
+    /**
+     * The number of stored videos, including expired ones not dropped yet.
+     */
+    public synchronized int size() {
+        return open() ? index.size() : 0;
+    }
+
+    /**
+     * The number of lookups answered from the store.
+     */
+    public synchronized int hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of lookups of videos which were not stored or had expired.
+     */
+    public synchronized int missCount() {
+        return missCount;
+    }
+
+    /**
+     * Close the file. The store opens it again when it is used.
+     */
+    @Override
+    public synchronized void close() {
+        closeFile();
+        index.clear();
+        opened = false;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "VideoMetaStore[size=" + index.size() + ",hits=" + hitCount + ",misses=" + missCount + "]";
+    }
+
+    /**
+     * @return true if the file is open
+     */
+    private boolean open() {
+        if (opened)
+            return file != null;
+        opened = true;
+        File cacheDir = cacheDirectory != null ? cacheDirectory.getCacheDir() : null;
+        if (cacheDir == null)
+            return false;
+        File dir = new File(cacheDir, DIR_NAME);
+        if (!dir.isDirectory() && !dir.mkdirs())
+            return false;
+        try {
+            path = new File(dir, FILE_NAME);
+            file = new RandomAccessFile(path, "rw");
+            load();
+            return true;
+        } catch (IOException e) {
+            fail("Could not open the video metadata", e);
+            return false;
+        }
+    }
+
+    /**
+     * Build the index from the records in the file and cut off a torn record at the end.
+     */
+    private void load() throws IOException {
+        index.clear();
+        garbageBytes = 0;
+        end = HEADER_SIZE;
+        if (file.length() < HEADER_SIZE || file.readInt() != MAGIC || file.readInt() != VERSION) {
+            file.setLength(0);
+            file.seek(0);
+            file.writeInt(MAGIC);
+            file.writeInt(VERSION);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long length = file.length();
+        InputStream in = new BufferedInputStream(new FileInputStream(path), 16 * 1024);
+        try {
+            DataInputStream data = new DataInputStream(in);
+            if (data.skip(HEADER_SIZE) != HEADER_SIZE)
+                throw new EOFException();
+            while (end < length) {
+                byte[] record = readRecord(data, length - end);
+                if (record == null) {
+                    log.d(LOG_TAG, "Dropping " + (length - end) + " invalid bytes of the video metadata");
+                    file.setLength(end);
+                    break;
+                }
+                DataInputStream payload = payload(record);
+                int flags = payload.readByte();
+                String videoId = payload.readUTF();
+                long expiresAt = (flags & FLAG_REMOVED) != 0 ? 0 : readVarLong(payload);
+                garbageBytes += record.length;
+                drop(videoId);
+                if (expiresAt > now) {
+                    index.put(videoId, new Slot(end, record.length, expiresAt));
+                    garbageBytes -= record.length;
+                }
+                end += record.length;
+            }
+        } finally {
+            in.close();
+        }
+        evict();
+        compactIfWasteful();
+    }
+
+    /**
+     * @return the record or null if it is torn or corrupted
+     */
+    private static byte[] readRecord(DataInputStream in, long available) throws IOException {
+        if (available < RECORD_HEADER_SIZE)
+            return null;
+        int size = in.readInt();
+        if (size < 0 || size > MAX_RECORD_SIZE || size > available - RECORD_HEADER_SIZE)
+            return null;
+        byte[] record = new byte[RECORD_HEADER_SIZE + size];
+        record[0] = (byte) (size >>> 24);
+        record[1] = (byte) (size >>> 16);
+        record[2] = (byte) (size >>> 8);
+        record[3] = (byte) size;
+        in.readFully(record, 4, record.length - 4);
+        return isValid(record) ? record : null;
+    }
+
+    private VideoMeta read(String videoId, long now) {
+        Slot slot = videoId != null ? index.get(videoId) : null;
+        if (slot == null)
+            return null;
+        if (slot.expiresAt <= now) {
+            drop(videoId);
+            return null;
+        }
+        try {
+            byte[] record = new byte[slot.size];
+            file.seek(slot.offset);
+            file.readFully(record);
+            if (!isValid(record)) {
+                log.d(LOG_TAG, "Dropping invalid video metadata of " + videoId);
+                drop(videoId);
+                return null;
+            }
+            return decode(record);
+        } catch (IOException e) {
+            fail("Could not read the video metadata", e);
+            return null;
+        }
+    }
+
+    private void append(String videoId, byte[] record, long expiresAt) throws IOException {
+        long offset = end;
+        write(offset, record);
+        drop(videoId);
+        index.put(videoId, new Slot(offset, record.length, expiresAt));
+    }
+
+    private void write(long offset, byte[] record) throws IOException {
+        file.seek(offset);
+        file.write(record);
+        end = offset + record.length;
+    }
+
+    /**
+     * Forget the record of the video, its bytes stay in the file until it is compacted.
+     */
+    private void drop(String videoId) {
+        Slot slot = index.remove(videoId);
+        if (slot != null)
+            garbageBytes += slot.size;
+    }
+
+    private void evict() {
+        if (index.size() <= maxEntries)
+            return;
+        Iterator<Map.Entry<String, Slot>> it = index.entrySet().iterator();
+        while (index.size() > maxEntries) {
+            garbageBytes += it.next().getValue().size;
+            it.remove();
+        }
+    }
+
+    private void compactIfWasteful() throws IOException {
+        if (garbageBytes < MIN_COMPACT_BYTES || garbageBytes < end - HEADER_SIZE - garbageBytes)
+            return;
+        compact();
+    }
+
+    /**
+     * Write the current records to a new file and replace the old one with it.
+     */
+    private void compact() throws IOException {
+        File tmpFile = File.createTempFile("videometa", ".tmp", path.getParentFile());
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(tmpFile);
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 16 * 1024));
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            long now = System.currentTimeMillis();
+            long offset = HEADER_SIZE;
+            LinkedHashMap<String, Slot> compacted = new LinkedHashMap<>();
+            for (Map.Entry<String, Slot> entry : index.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.expiresAt <= now)
+                    continue;
+                byte[] record = new byte[slot.size];
+                file.seek(slot.offset);
+                file.readFully(record);
+                data.write(record);
+                compacted.put(entry.getKey(), new Slot(offset, slot.size, slot.expiresAt));
+                offset += slot.size;
+            }
+            data.flush();
+            out.getFD().sync();
+            out.close();
+            out = null;
+            closeFile();
+            if (!tmpFile.renameTo(path)) {
+                // renameTo does not replace existing files on every platform
+                path.delete();
+                if (!tmpFile.renameTo(path))
+                    throw new IOException("Could not rename " + tmpFile + " to " + path);
+            }
+            tmpFile = null;
+            file = new RandomAccessFile(path, "rw");
+            index.clear();
+            index.putAll(compacted);
+            end = offset;
+            garbageBytes = 0;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            if (tmpFile != null)
+                tmpFile.delete();
+        }
+    }
+
+    /**
+     * Stop using the file after an error, the store then works without it until it is
+     * closed and opened again.
+     */
+    private void fail(String message, IOException e) {
+        log.e(LOG_TAG, message + ": " + e);
+        closeFile();
+        index.clear();
+    }
+
+    private void closeFile() {
+        if (file == null)
+            return;
+        try {
+            file.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        file = null;
+    }
+
+    /**
+     * Layout of a record: payload length, crc32 of the payload, payload. The payload
+     * holds flags, the video id, the expiry time and the fields of the metadata, the
+     * numbers as variable length integers and the strings only if they are not null.
+     */
+    static byte[] encode(VideoMeta videoMeta, long expiresAt) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        int flags = (videoMeta.isLiveStream() ? FLAG_LIVE : 0)
+                | (videoMeta.getTitle() != null ? FLAG_TITLE : 0)
+                | (videoMeta.getAuthor() != null ? FLAG_AUTHOR : 0)
+                | (videoMeta.getChannelId() != null ? FLAG_CHANNEL_ID : 0);
+        out.writeByte(flags);
+        out.writeUTF(videoMeta.getVideoId());
+        writeVarLong(out, expiresAt);
+        if (videoMeta.getTitle() != null)
+            out.writeUTF(videoMeta.getTitle());
+        if (videoMeta.getAuthor() != null)
+            out.writeUTF(videoMeta.getAuthor());
+        if (videoMeta.getChannelId() != null)
+            out.writeUTF(videoMeta.getChannelId());
+        writeVarLong(out, videoMeta.getVideoLength());
+        writeVarLong(out, videoMeta.getViewCount());
+        out.flush();
+        return seal(bytes.toByteArray());
+    }
+
+    private static byte[] encodeRemoved(String videoId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeByte(FLAG_REMOVED);
+        out.writeUTF(videoId);
+        out.flush();
+        return seal(bytes.toByteArray());
+    }
+
+    /**
+     * Fill in the length and crc32 of the record.
+     */
+    private static byte[] seal(byte[] record) {
+        int size = record.length - RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_SIZE, size);
+        writeInt(record, 0, size);
+        writeInt(record, 4, (int) crc.getValue());
+        return record;
+    }
+
+    private static boolean isValid(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_SIZE, record.length - RECORD_HEADER_SIZE);
+        int checksum = ((record[4] & 0xff) << 24) | ((record[5] & 0xff) << 16)
+                | ((record[6] & 0xff) << 8) | (record[7] & 0xff);
+        return checksum == (int) crc.getValue();
+    }
+
+    static VideoMeta decode(byte[] record) throws IOException {
+        DataInputStream in = payload(record);
+        int flags = in.readByte();
+        if ((flags & FLAG_REMOVED) != 0)
+            return null;
+        String videoId = in.readUTF();
+        readVarLong(in);
+        String title = (flags & FLAG_TITLE) != 0 ? in.readUTF() : null;
+        String author = (flags & FLAG_AUTHOR) != 0 ? in.readUTF() : null;
+        String channelId = (flags & FLAG_CHANNEL_ID) != 0 ? in.readUTF() : null;
+        long videoLength = readVarLong(in);
+        long viewCount = readVarLong(in);
+        return new VideoMeta(videoId, title, author, channelId, videoLength, viewCount,
+                (flags & FLAG_LIVE) != 0);
+    }
+
+    private static DataInputStream payload(byte[] record) {
+        return new DataInputStream(new ByteArrayInputStream(record, RECORD_HEADER_SIZE,
+                record.length - RECORD_HEADER_SIZE));
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Seven bits per byte, the high bit marks that more bytes follow. Negative values
+     * take ten bytes, they do not occur.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) (value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("Invalid variable length integer");
+    }
+}
@@ -0,0 +1,225 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Finds the fields of the player config in the raw bytes of a watch page.
+ * <p/>
+ * The page is read in small chunks and only the values of the wanted fields are
+ * kept, each up to a fixed size. Scanning stops as soon as all fields are found or
+ * the line holding the stream map ends, so the rest of the page is never downloaded.
+ * The values are returned as they are in the page, still json escaped.
+ */
+final class WatchPageScanner {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_STREAM_MAP_LENGTH = 2 * 1024 * 1024;
+    private static final int MAX_URL_LENGTH = 16 * 1024;
+    private static final int MAX_JS_FILE_NAME_LENGTH = 512;
+
+    private static final int STREAM_MAP = 0;
+    private static final int ADAPTIVE_FMTS = 1;
+    private static final int DASH_MPD = 2;
+    private static final int JS_FILE = 3;
+
+    private static final String[] KEYS = {
+            "\"url_encoded_fmt_stream_map\":\"",
+            "\"adaptive_fmts\":\"",
+            "\"dashmpd\":\"",
+            "jsbin\\/player-"
+    };
+    private static final int[] MAX_LENGTHS = {
+            MAX_STREAM_MAP_LENGTH, MAX_STREAM_MAP_LENGTH, MAX_URL_LENGTH, MAX_JS_FILE_NAME_LENGTH
+    };
+
+    static final class Result {
+        /**
+         * The player js like "player-vflUUKg8C/en_US/base.js" or null.
+         */
+        String jsFileName;
+        String streamMap;
+        String adaptiveFmts;
+        String dashMpdUrl;
+        long bytesRead;
+    }
+
+    private final byte[][] keys = new byte[KEYS.length][];
+    private final int[][] failures = new int[KEYS.length][];
+    private final int[] matched = new int[KEYS.length];
+    private final boolean[] firstBytes = new boolean[256];
+    private int partialMatches;
+    private final String[] values = new String[KEYS.length];
+    private final boolean wantDashMpd;
+    private final boolean playerOnly;
+
+    // The value being captured
+    private int field = -1;
+    private byte[] value = new byte[256];
+    private int valueLength;
+    private boolean escaped;
+
+    private WatchPageScanner(boolean wantDashMpd, boolean playerOnly) {
+        this.wantDashMpd = wantDashMpd;
+        this.playerOnly = playerOnly;
+        for (int i = 0; i < KEYS.length; i++) {
+            keys[i] = KEYS[i].getBytes(UTF_8);
+            failures[i] = failureTable(keys[i]);
+            firstBytes[keys[i][0] & 0xff] = true;
+        }
+    }
+
+    /**
+     * Scan the page. The stream is not closed.
+     *
+     * @param wantDashMpd false if scanning may stop without the dash manifest url
+     */
+    static Result scan(InputStream in, boolean wantDashMpd) throws IOException {
+        WatchPageScanner scanner = new WatchPageScanner(wantDashMpd, false);
+        Result result = new Result();
+        scanner.read(in, result);
+        result.streamMap = scanner.values[STREAM_MAP];
+        result.adaptiveFmts = scanner.values[ADAPTIVE_FMTS];
+        result.dashMpdUrl = scanner.values[DASH_MPD];
+        String jsFile = scanner.values[JS_FILE];
+        result.jsFileName = jsFile != null ? "player-" + jsFile.replace("\\/", "/") : null;
+        return result;
+    }
+
+    /**
+     * Scan the page only for the player js, which is named before the stream map, so
+     * a fraction of the page is read. The stream is not closed.
+     *
+     * @return the player js like "player-vflUUKg8C/en_US/base.js" or null
+     */
+    static String scanPlayer(InputStream in) throws IOException {
+        WatchPageScanner scanner = new WatchPageScanner(false, true);
+        scanner.read(in, new Result());
+        String jsFile = scanner.values[JS_FILE];
+        return jsFile != null ? "player-" + jsFile.replace("\\/", "/") : null;
+    }
+
+    private void read(InputStream in, Result result) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            result.bytesRead += n;
+            for (int i = 0; i < n; i++) {
+                if (accept(buffer[i]))
+                    return;
+            }
+        }
+    }
+
+    /**
+     * @return true if scanning is done
+     */
+    private boolean accept(byte b) {
+        if (field >= 0) {
+            capture(b);
+            return field < 0 && isComplete();
+        }
+        if (b == '\n' && values[STREAM_MAP] != null) {
+            // All fields of the player config are on the line of the stream map
+            return true;
+        }
+        if (partialMatches == 0 && !firstBytes[b & 0xff])
+            return false;
+        partialMatches = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null || (playerOnly && i != JS_FILE))
+                continue;
+            byte[] key = keys[i];
+            int m = matched[i];
+            while (m > 0 && key[m] != b) {
+                m = failures[i][m - 1];
+            }
+            if (key[m] == b)
+                m++;
+            if (m == key.length) {
+                matched[i] = 0;
+                startCapture(i);
+                return false;
+            }
+            matched[i] = m;
+            if (m > 0)
+                partialMatches++;
+        }
+        return false;
+    }
+
+    private void startCapture(int field) {
+        this.field = field;
+        valueLength = 0;
+        escaped = false;
+        partialMatches = 0;
+        for (int i = 0; i < matched.length; i++) {
+            matched[i] = 0;
+        }
+    }
+
+    private void capture(byte b) {
+        if (field == JS_FILE) {
+            append(b);
+            // Like the pattern "player-(.+?).js": at least two characters before "js"
+            if (field == JS_FILE && valueLength >= 4
+                    && value[valueLength - 2] == 'j' && value[valueLength - 1] == 's')
+                endCapture(true);
+            return;
+        }
+        if (escaped) {
+            escaped = false;
+        } else if (b == '\\') {
+            escaped = true;
+        } else if (b == '"') {
+            endCapture(true);
+            return;
+        }
+        append(b);
+    }
+
+    private void append(byte b) {
+        if (field < 0)
+            return;
+        if (valueLength == MAX_LENGTHS[field]) {
+            // Too long to be the real value, keep looking
+            endCapture(false);
+            return;
+        }
+        if (valueLength == value.length) {
+            byte[] grown = new byte[Math.min(value.length * 2, MAX_LENGTHS[field])];
+            System.arraycopy(value, 0, grown, 0, valueLength);
+            value = grown;
+        }
+        value[valueLength++] = b;
+    }
+
+    private void endCapture(boolean found) {
+        if (found)
+            values[field] = new String(value, 0, valueLength, UTF_8);
+        field = -1;
+    }
+
+    private boolean isComplete() {
+        if (playerOnly)
+            return values[JS_FILE] != null;
+        return values[STREAM_MAP] != null && values[ADAPTIVE_FMTS] != null && values[JS_FILE] != null
+                && (!wantDashMpd || values[DASH_MPD] != null);
+    }
+
+    private static int[] failureTable(byte[] key) {
+        int[] failure = new int[key.length];
+        for (int i = 1, k = 0; i < key.length; i++) {
+            while (k > 0 && key[i] != key[k]) {
+                k = failure[k - 1];
+            }
+            if (key[i] == key[k])
+                k++;
+            failure[i] = k;
+        }
+        return failure;
+    }
+}
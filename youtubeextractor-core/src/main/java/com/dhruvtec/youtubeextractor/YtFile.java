@@ -0,0 +1,162 @@
+package com.dhruvtec.youtubeextractor;
+
+public class YtFile {
+
+    private Format format;
+    private String url = "";
+
+    // Only known for files from the dash manifest or a live playlist
+    private int bitrate = -1;
+    private String codecs;
+    private int width = -1;
+    private int height = -1;
+    private int fps = -1;
+    private long contentLength = -1;
+    private ByteRange initRange;
+    private ByteRange indexRange;
+
+    YtFile(Format format, String url) {
+        this.format = format;
+        this.url = url;
+    }
+
+    YtFile(Format format, String url, DashManifestParser.Representation representation) {
+        this(format, url, representation.bandwidth, representation.codecs, representation.width,
+                representation.height, representation.fps, representation.contentLength,
+                representation.initRange, representation.indexRange);
+    }
+
+    YtFile(Format format, String url, HlsPlaylistParser.Variant variant) {
+        this(format, url, variant.bandwidth, variant.codecs, variant.width, variant.height, variant.fps,
+                -1, null, null);
+    }
+
+    private YtFile(Format format, String url, int bitrate, String codecs, int width, int height, int fps,
+                   long contentLength, ByteRange initRange, ByteRange indexRange) {
+        this(format, url);
+        this.bitrate = bitrate;
+        this.codecs = codecs;
+        this.width = width;
+        this.height = height;
+        this.fps = fps;
+        this.contentLength = contentLength;
+        this.initRange = initRange;
+        this.indexRange = indexRange;
+    }
+
+    /**
+     * The url to download the file.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Format data for the specific file.
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Format data for the specific file.
+     */
+    @Deprecated
+    public Format getMeta() {
+        return format;
+    }
+
+    /**
+     * The bitrate of the file in bits per second as announced by the dash manifest
+     * or the live playlist, -1 if unknown.
+     */
+    public int getBitrate() {
+        return bitrate;
+    }
+
+    /**
+     * The codecs string of the dash manifest or the live playlist like "avc1.4d401e",
+     * null if unknown.
+     */
+    public String getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * The video width in pixels, -1 if unknown.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * The video height in pixels, -1 if unknown. {@link Format#getHeight()} holds
+     * the nominal height of the format.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * The frames per second, -1 if unknown.
+     */
+    public int getFps() {
+        return fps;
+    }
+
+    /**
+     * The size of the file in bytes, -1 if unknown.
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * The bytes of the initialization segment, null if unknown.
+     */
+    public ByteRange getInitRange() {
+        return initRange;
+    }
+
+    /**
+     * The bytes of the segment index, null if unknown.
+     */
+    public ByteRange getIndexRange() {
+        return indexRange;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        YtFile ytFile = (YtFile) o;
+
+        if (bitrate != ytFile.bitrate) return false;
+        if (contentLength != ytFile.contentLength) return false;
+        if (format != null ? !format.equals(ytFile.format) : ytFile.format != null) return false;
+        return url != null ? url.equals(ytFile.url) : ytFile.url == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = format != null ? format.hashCode() : 0;
+        result = 31 * result + (url != null ? url.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "YtFile{" +
+                "format=" + format +
+                ", url='" + url + '\'' +
+                (bitrate != -1 ? ", bitrate=" + bitrate : "") +
+                (codecs != null ? ", codecs='" + codecs + '\'' : "") +
+                (width != -1 ? ", width=" + width + ", height=" + height : "") +
+                (fps != -1 ? ", fps=" + fps : "") +
+                (contentLength != -1 ? ", contentLength=" + contentLength : "") +
+                (initRange != null ? ", initRange=" + initRange : "") +
+                (indexRange != null ? ", indexRange=" + indexRange : "") +
+                '}';
+    }
+}
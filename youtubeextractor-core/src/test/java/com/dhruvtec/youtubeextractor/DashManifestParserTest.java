@@ -0,0 +1,133 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DashManifestParserTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void fixtureManifest() throws Exception {
+        List<DashManifestParser.Representation> representations = DashManifestParser.parse(
+                new ByteArrayInputStream(Fixtures.bytes(Fixtures.DASH_MANIFEST)));
+        assertEquals(28, representations.size());
+
+        DashManifestParser.Representation audio = find(representations, 140);
+        // The mime type is only on the adaptation set
+        assertEquals("audio/mp4", audio.mimeType);
+        assertEquals("mp4a.40.2", audio.codecs);
+        assertEquals(130000, audio.bandwidth);
+        assertEquals(-1, audio.width);
+        assertEquals(-1, audio.height);
+        assertEquals(-1, audio.fps);
+        assertEquals(43465147, audio.contentLength);
+        assertTrue(audio.baseUrl, audio.baseUrl.startsWith("https://r3---sn-4g5e6nsz.googlevideo.com/videoplayback?"));
+        assertTrue("entities are decoded", audio.baseUrl.contains("&itag=140&"));
+        assertEquals(new ByteRange(0, 699), audio.initRange);
+        assertEquals(new ByteRange(700, 1900), audio.indexRange);
+
+        DashManifestParser.Representation video = find(representations, 299);
+        assertEquals("video/mp4", video.mimeType);
+        assertEquals("avc1.4d401f", video.codecs);
+        assertEquals(1920, video.width);
+        assertEquals(1080, video.height);
+        assertEquals(60, video.fps);
+
+        assertEquals("video/webm", find(representations, 315).mimeType);
+        assertEquals("audio/webm", find(representations, 251).mimeType);
+    }
+
+    @Test
+    public void adaptationSetDefaults() throws Exception {
+        String mpd = "<MPD><Period>"
+                + "<AdaptationSet mimeType=\"video/mp4\" codecs=\"avc1\" width=\"640\" height=\"360\" frameRate=\"30\">"
+                + "<Representation id=\"134\" bandwidth=\"1000\"><BaseURL>https://a/134</BaseURL>"
+                + "<SegmentBase indexRange=\"10-20\"><Initialization range=\"0-9\"/></SegmentBase></Representation>"
+                + "<Representation id=\"298\" codecs=\"avc1.4d\" width=\"1280\" height=\"720\" frameRate=\"60\" "
+                + "mimeType=\"video/x\"><BaseURL> https://a/298 </BaseURL></Representation>"
+                + "<Representation id=\"999\"/>"
+                + "</AdaptationSet>"
+                + "<AdaptationSet mimeType=\"audio/mp4\">"
+                + "<Representation id=\"140\" codecs=\"mp4a\"><BaseURL>https://a/140</BaseURL></Representation>"
+                + "</AdaptationSet>"
+                + "</Period></MPD>";
+        List<DashManifestParser.Representation> representations = DashManifestParser.parse(
+                new ByteArrayInputStream(mpd.getBytes("UTF-8")));
+        // Representations without a url are left out
+        assertEquals(3, representations.size());
+
+        DashManifestParser.Representation inherited = find(representations, 134);
+        assertEquals("video/mp4", inherited.mimeType);
+        assertEquals("avc1", inherited.codecs);
+        assertEquals(640, inherited.width);
+        assertEquals(360, inherited.height);
+        assertEquals(30, inherited.fps);
+        assertEquals(new ByteRange(0, 9), inherited.initRange);
+        assertEquals(new ByteRange(10, 20), inherited.indexRange);
+        assertEquals(-1, inherited.contentLength);
+
+        DashManifestParser.Representation overridden = find(representations, 298);
+        assertEquals("video/x", overridden.mimeType);
+        assertEquals("avc1.4d", overridden.codecs);
+        assertEquals(1280, overridden.width);
+        assertEquals(720, overridden.height);
+        assertEquals(60, overridden.fps);
+        assertEquals("https://a/298", overridden.baseUrl);
+        assertNull(overridden.initRange);
+
+        // The defaults end with their adaptation set
+        DashManifestParser.Representation audio = find(representations, 140);
+        assertEquals("audio/mp4", audio.mimeType);
+        assertEquals(-1, audio.width);
+        assertEquals(-1, audio.fps);
+    }
+
+    @Test
+    public void externalEntitiesNotResolved() throws Exception {
+        File secret = folder.newFile("secret.txt");
+        FileOutputStream out = new FileOutputStream(secret);
+        try {
+            out.write("secret-content".getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        String mpd = "<?xml version=\"1.0\"?><!DOCTYPE MPD [<!ENTITY xxe SYSTEM \"" + secret.toURI() + "\">]>"
+                + "<MPD><AdaptationSet mimeType=\"audio/mp4\"><Representation id=\"140\">"
+                + "<BaseURL>https://a/&xxe;</BaseURL></Representation></AdaptationSet></MPD>";
+        List<DashManifestParser.Representation> representations;
+        try {
+            representations = DashManifestParser.parse(new ByteArrayInputStream(mpd.getBytes("UTF-8")));
+        } catch (IOException e) {
+            // Rejecting the manifest is fine too
+            return;
+        }
+        for (DashManifestParser.Representation representation : representations) {
+            assertFalse(representation.baseUrl, representation.baseUrl.contains("secret-content"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void malformedManifest() throws Exception {
+        DashManifestParser.parse(new ByteArrayInputStream("<MPD><Period>".getBytes("UTF-8")));
+    }
+
+    private static DashManifestParser.Representation find(List<DashManifestParser.Representation> representations,
+                                                          int itag) {
+        for (DashManifestParser.Representation representation : representations) {
+            if (representation.itag == itag)
+                return representation;
+        }
+        throw new AssertionError("itag " + itag + " not found");
+    }
+}
@@ -0,0 +1,138 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+public class DecipherCacheTest {
+
+    private static final String FUNCTIONS = "var Ix=function(a){a=a.split(\"\");Xy.VG(a,3);return a.join(\"\")};"
+            + "var Xy={VG:function(a,b){a.splice(0,b)}};";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File cacheDir;
+    private DecipherCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        cacheDir = folder.newFolder("cache");
+        cache = new DecipherCache(new CacheDirectory() {
+            @Override
+            public File getCacheDir() {
+                return cacheDir;
+            }
+        }, ExtractorLog.NONE);
+    }
+
+    @Test
+    public void roundTrip() {
+        DecipherProgram program = new DecipherProgram(new int[]{DecipherProgram.OP_SPLICE}, new int[]{3});
+        cache.write(new DecipherCache.Entry("player-vflA/en_US/base.js", "Ix", FUNCTIONS, program));
+        cache.write(new DecipherCache.Entry("player-vflB/en_US/base.js", "Ix", FUNCTIONS + "// \u00e9", null));
+
+        DecipherCache.Entry entry = cache.read("player-vflA/en_US/base.js");
+        assertNotNull(entry);
+        assertEquals("player-vflA/en_US/base.js", entry.jsFileName);
+        assertEquals("Ix", entry.functionName);
+        assertEquals(FUNCTIONS, entry.functions);
+        assertEquals(program, entry.program);
+
+        entry = cache.read("player-vflB/en_US/base.js");
+        assertEquals(FUNCTIONS + "// \u00e9", entry.functions);
+        assertNull(entry.program);
+        assertNull(cache.read("player-vflC/en_US/base.js"));
+    }
+
+    @Test
+    public void crcMismatchRejected() throws Exception {
+        write("player-vflA/en_US/base.js");
+        File file = file("player-vflA/en_US/base.js");
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            // Flip a byte of the javascript, behind the 20 byte header
+            raf.seek(file.length() - 10);
+            int b = raf.read();
+            raf.seek(file.length() - 10);
+            raf.write(b ^ 0x01);
+        } finally {
+            raf.close();
+        }
+        assertNull(cache.read("player-vflA/en_US/base.js"));
+        assertFalse("corrupt entry is deleted", file.exists());
+    }
+
+    @Test
+    public void tornFileRejected() throws Exception {
+        write("player-vflA/en_US/base.js");
+        File file = file("player-vflA/en_US/base.js");
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(file.length() / 2);
+        } finally {
+            raf.close();
+        }
+        assertNull(cache.read("player-vflA/en_US/base.js"));
+        assertNull(cache.readLatest());
+    }
+
+    @Test
+    public void otherVersionRejected() throws Exception {
+        byte[] bytes = DecipherCache.encode(new DecipherCache.Entry("player-vflA/en_US/base.js", "Ix", FUNCTIONS, null));
+        assertNotNull(DecipherCache.decode(bytes));
+        bytes[7]++;
+        assertNull(DecipherCache.decode(bytes));
+        assertNull(DecipherCache.decode(new byte[0]));
+    }
+
+    @Test
+    public void leastRecentlyUsedPruned() throws Exception {
+        long base = System.currentTimeMillis() - 24 * 60 * 60 * 1000;
+        for (int i = 0; i < DecipherCache.MAX_ENTRIES; i++) {
+            write(player(i));
+            assertTrue(file(player(i)).setLastModified(base + i * 1000));
+        }
+        // Using the oldest entry makes it the most recently used
+        assertNotNull(cache.read(player(0)));
+        write(player(DecipherCache.MAX_ENTRIES));
+
+        assertEquals(DecipherCache.MAX_ENTRIES, new File(cacheDir, "decipher").list().length);
+        assertNull(cache.read(player(1)));
+        assertNotNull(cache.read(player(0)));
+        for (int i = 2; i <= DecipherCache.MAX_ENTRIES; i++) {
+            assertNotNull(player(i), cache.read(player(i)));
+        }
+    }
+
+    @Test
+    public void readLatestIsTheMostRecentlyUsed() throws Exception {
+        long base = System.currentTimeMillis() - 24 * 60 * 60 * 1000;
+        for (int i = 0; i < 3; i++) {
+            write(player(i));
+            assertTrue(file(player(i)).setLastModified(base + i * 1000));
+        }
+        assertEquals(player(2), cache.readLatest().jsFileName);
+        cache.read(player(1));
+        assertEquals(player(1), cache.readLatest().jsFileName);
+    }
+
+    private static String player(int i) {
+        return "player-vfl" + i + "/en_US/base.js";
+    }
+
+    private void write(String jsFileName) {
+        cache.write(new DecipherCache.Entry(jsFileName, "Ix", FUNCTIONS, null));
+        assertTrue(file(jsFileName).isFile());
+    }
+
+    private File file(String jsFileName) {
+        return new File(new File(cacheDir, "decipher"), DecipherCache.fileName(jsFileName));
+    }
+}
@@ -0,0 +1,85 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DecipherCompilerTest {
+
+    private static final String HELPERS = "var Xy={Lo:function(a){a.reverse()},VG:function(a,b){a.splice(0,b)},"
+            + "ip:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c}};";
+
+    /**
+     * Signatures and what the functions of the fixture player return for them,
+     * recorded by evaluating the extracted javascript.
+     */
+    private static final String[][] PLAYER_SIGNATURES = {
+            {"5AB3C1F0E2D94A8C7B6E5F40312AB9C8D7E6F5A4B3C2.D1E0F9A8B7C6D5E4F3A2B1C0D9E8F7A6B5C4D3E2F1A0B9C8D",
+                    "EC1F0E2D94A8C7B6E5F40312AB9C8D7D6F5A4B3C2.D130F9A8B7C6D5E4F3A2B1C0D9E8F7A6B5C4D3E2F1A0B9C"},
+            {"0123456789ABCDEF.0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF0123456789ABC",
+                    "E456789ABCDEF.0C23456789ABCDEF0123456789ABCD3F0123456789ABCDEF0123456789A"},
+            {"A1B2C3D4E5F6A7B8C9D0E1F2A3B4C5D6E7F8A9B0C1D2E3F4A5.B6C7D8E9F0A1B2C3D4E5F6A7B8C9D0",
+                    "4C3D4E5F6A7B8C9D0E0F2A3B4C5D6E7F8A9B0C1D2E3F2A5.B6C7D8E9F0A1B2C3D4E5F6A7B8C9"},
+            {"ABCDEFGHIJ", "FEDJH"},
+    };
+
+    @Test
+    public void fixturePlayerLikeJavascript() throws Exception {
+        String[] extracted = DecipherFunctionExtractor.extract(Fixtures.joinedLines(Fixtures.PLAYER_JS));
+        assertNotNull(extracted);
+        DecipherProgram program = DecipherCompiler.compile(extracted[0], extracted[1]);
+        assertNotNull(program);
+        assertEquals(new DecipherProgram(
+                new int[]{DecipherProgram.OP_SPLICE, DecipherProgram.OP_SWAP, DecipherProgram.OP_REVERSE,
+                        DecipherProgram.OP_SWAP, DecipherProgram.OP_SPLICE, DecipherProgram.OP_REVERSE},
+                new int[]{3, 44, 45, 59, 2, 1}), program);
+
+        ItagArray<String> encSignatures = new ItagArray<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < PLAYER_SIGNATURES.length; i++) {
+            assertEquals(PLAYER_SIGNATURES[i][1], program.decipher(PLAYER_SIGNATURES[i][0]));
+            encSignatures.append(i, PLAYER_SIGNATURES[i][0]);
+            expected.append(i > 0 ? "\n" : "").append(PLAYER_SIGNATURES[i][1]);
+        }
+        assertEquals(expected.toString(), program.decipher(encSignatures));
+    }
+
+    @Test
+    public void functionDeclarationAndQuotedMethods() {
+        String functions = "function Ix(a){a=a.split(\"\");Xy[\"Lo\"](a,7);Xy.VG(a,2);return a.join(\"\")};"
+                + HELPERS;
+        DecipherProgram program = DecipherCompiler.compile("Ix", functions);
+        assertEquals(new DecipherProgram(new int[]{DecipherProgram.OP_REVERSE, DecipherProgram.OP_SPLICE},
+                new int[]{7, 2}), program);
+        assertEquals("EDCBA", program.decipher("ABCDEFG"));
+    }
+
+    @Test
+    public void unrecognizedShapesAreLeftToTheJsEngine() {
+        String[] shapes = {
+                // Unknown helper method
+                "var Ix=function(a){a=a.split(\"\");Xy.Zz(a,3);return a.join(\"\")};" + HELPERS,
+                // Helper doing something else than reverse, splice or swap
+                "var Ix=function(a){a=a.split(\"\");Xy.Lo(a,3);return a.join(\"\")};"
+                        + "var Xy={Lo:function(a){a.sort()}};",
+                // Two helper objects
+                "var Ix=function(a){a=a.split(\"\");Xy.Lo(a,3);Yz.Lo(a,1);return a.join(\"\")};" + HELPERS
+                        + "var Yz={Lo:function(a){a.reverse()}};",
+                // Argument which is not a literal
+                "var Ix=function(a){a=a.split(\"\");Xy.VG(a,b);return a.join(\"\")};" + HELPERS,
+                // Statement which is not a helper call
+                "var Ix=function(a){a=a.split(\"\");a=a.slice(1);return a.join(\"\")};" + HELPERS,
+                // Not joined again
+                "var Ix=function(a){a=a.split(\"\");Xy.VG(a,3);return a};" + HELPERS,
+                // Missing helper object
+                "var Ix=function(a){a=a.split(\"\");Xy.VG(a,3);return a.join(\"\")};",
+                // Missing function
+                HELPERS,
+        };
+        for (String functions : shapes) {
+            assertNull(functions, DecipherCompiler.compile("Ix", functions));
+        }
+        assertNull(DecipherCompiler.compile(null, HELPERS));
+        assertNull(DecipherCompiler.compile("Ix", null));
+    }
+}
@@ -0,0 +1,54 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DecipherFunctionExtractorTest {
+
+    private static final String MAIN = "var Ix=function(a){a=a.split(\"\");Xy.Lo(a,1);return a.join(\"\")};";
+    private static final String HELPERS = "var Xy={Lo:function(a){a.reverse()}};";
+
+    private static String player(String code) {
+        return "var _yt_player={};(function(g){var window=this;" + code
+                + "g.set(\"signature\",Ix(c));})(_yt_player);";
+    }
+
+    @Test
+    public void fixturePlayer() throws Exception {
+        String[] extracted = DecipherFunctionExtractor.extract(Fixtures.joinedLines(Fixtures.PLAYER_JS));
+        assertNotNull(extracted);
+        assertNotNull(DecipherCompiler.compile(extracted[0], extracted[1]));
+    }
+
+    @Test
+    public void helpersFound() {
+        String[] extracted = DecipherFunctionExtractor.extract(player(MAIN + HELPERS));
+        assertEquals("Ix", extracted[0]);
+        assertEquals(MAIN + HELPERS, extracted[1]);
+    }
+
+    @Test
+    public void localDefinitionsNotIndexed() {
+        // A function defining its own Xy and Ix before the top-level ones
+        String local = "function Qr(b){var Xy={Lo:function(a){a.sort()}};var Ix=function(a){return a};"
+                + "if(b){function Ix(a){return a}}return Xy.Lo(Ix(b))}";
+        String[] extracted = DecipherFunctionExtractor.extract(player(local + MAIN + HELPERS));
+        assertEquals(MAIN + HELPERS, extracted[1]);
+    }
+
+    @Test
+    public void templateLiteralsSkipped() {
+        // Braces and backticks in the expressions must not end the helpers early
+        String helpers = "var Xy={Lo:function(a){a.reverse()},Tp:function(){return `${`}`}`},"
+                + "Tq:function(b){return `a${{b:`}${\"}\"}`}.b}c{`+`${'{'}`+`\\${`}};";
+        String[] extracted = DecipherFunctionExtractor.extract(player(MAIN + helpers));
+        assertEquals(MAIN + helpers, extracted[1]);
+    }
+
+    @Test
+    public void functionNotFound() {
+        assertNull(DecipherFunctionExtractor.extract(player(HELPERS)));
+        assertNull(DecipherFunctionExtractor.extract(HELPERS));
+    }
+}
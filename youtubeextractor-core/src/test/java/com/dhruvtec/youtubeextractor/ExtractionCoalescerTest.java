@@ -0,0 +1,79 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class ExtractionCoalescerTest {
+
+    @Test
+    public void joinedExtractionsReceiveCopies() throws Exception {
+        final ExtractionCoalescer coalescer = new ExtractionCoalescer();
+        final CountDownLatch resolving = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<ExtractionResult> ownerResult = new AtomicReference<>();
+        Thread owner = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    ownerResult.set(coalescer.extract("a", new Callable<ExtractionResult>() {
+                        @Override
+                        public ExtractionResult call() throws Exception {
+                            resolving.countDown();
+                            release.await();
+                            ExtractionResult result = new ExtractionResult();
+                            result.ytFiles = new ItagArray<>();
+                            result.ytFiles.append(18, new YtFile(FormatRegistry.get(18), "https://a/18"));
+                            result.ytFiles.append(22, new YtFile(FormatRegistry.get(22), "https://a/22"));
+                            return result;
+                        }
+                    }));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        owner.start();
+        assertTrue(resolving.await(5, TimeUnit.SECONDS));
+
+        final AtomicReference<ExtractionResult> joinedResult = new AtomicReference<>();
+        Thread joined = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    joinedResult.set(coalescer.extract("a", new Callable<ExtractionResult>() {
+                        @Override
+                        public ExtractionResult call() {
+                            throw new AssertionError("resolved twice");
+                        }
+                    }));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        joined.start();
+        // The second extraction has to join before the first one completes
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coalescer.joinedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        owner.join(5000);
+        joined.join(5000);
+
+        assertEquals(1, coalescer.resolvedCount());
+        assertEquals(1, coalescer.joinedCount());
+        ItagArray<YtFile> ownerFiles = ownerResult.get().getYtFiles();
+        ItagArray<YtFile> joinedFiles = joinedResult.get().getYtFiles();
+        assertNotSame(ownerFiles, joinedFiles);
+        ownerFiles.remove(18);
+        assertEquals(2, joinedFiles.size());
+        assertSame(ownerFiles.get(22), joinedFiles.get(22));
+    }
+}
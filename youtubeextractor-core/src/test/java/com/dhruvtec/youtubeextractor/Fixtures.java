@@ -0,0 +1,80 @@
+package com.dhruvtec.youtubeextractor;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the recorded responses of the benchmark module, see build.gradle.
+ */
+final class Fixtures {
+
+    static final String VIDEO_INFO = "get_video_info.txt";
+    static final String VIDEO_INFO_CIPHERED = "get_video_info_ciphered.txt";
+    static final String WATCH_PAGE = "watch_page.html";
+    static final String PLAYER_JS = "player-vflUUKg8C.js";
+    static final String DASH_MANIFEST = "dash_manifest.mpd";
+
+    private Fixtures() {
+    }
+
+    static byte[] bytes(String name) throws IOException {
+        InputStream in = open(name);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    static List<String> lines(String name) throws IOException {
+        InputStream in = open(name);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        try {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * The fixture as the player js is read by the extractor, lines joined by spaces.
+     */
+    static String joinedLines(String name) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines(name)) {
+            sb.append(line).append(' ');
+        }
+        return sb.toString();
+    }
+
+    static String lineContaining(String name, String marker) throws IOException {
+        for (String line : lines(name)) {
+            if (line.contains(marker))
+                return line;
+        }
+        throw new IOException(marker + " not found in " + name);
+    }
+
+    private static InputStream open(String name) throws IOException {
+        InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null)
+            throw new IOException("Missing fixture " + name);
+        return in;
+    }
+}
@@ -0,0 +1,272 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class Mp4MuxerTest {
+
+    private static final int MOVIE_TIMESCALE = 1000;
+    private static final int VIDEO_TIMESCALE = 90000;
+    private static final int AUDIO_TIMESCALE = 44100;
+
+    private static final int TFHD_BASE_DATA_OFFSET = 0x000001;
+    private static final int TFHD_DEFAULT_BASE_IS_MOOF = 0x020000;
+    private static final int TRUN_DATA_OFFSET = 0x000001;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File videoFile;
+    private File audioFile;
+    private File output;
+
+    @Before
+    public void setUp() throws Exception {
+        videoFile = folder.newFile("video.mp4");
+        audioFile = folder.newFile("audio.m4a");
+        output = new File(folder.getRoot(), "muxed.mp4");
+        // The video fragments state explicit base offsets, the audio ones are relative
+        // to their moof box like the ones of youtube
+        write(videoFile, file(1, VIDEO_TIMESCALE, TFHD_BASE_DATA_OFFSET, 'v', 0, 2, 4));
+        write(audioFile, file(1, AUDIO_TIMESCALE, TFHD_DEFAULT_BASE_IS_MOOF, 'a', 0.5, 1.5, 2.5, 3.5));
+    }
+
+    @Test
+    public void headerHoldsBothTracks() throws Exception {
+        Mp4Muxer.mux(videoFile, audioFile, output);
+        byte[] muxed = read(output);
+
+        List<Integer> topLevel = children(muxed, 0, muxed.length);
+        assertEquals("ftyp", type(muxed, topLevel.get(0)));
+        assertEquals("moov", type(muxed, topLevel.get(1)));
+        for (int box : topLevel) {
+            assertNotEquals("sidx", type(muxed, box));
+        }
+
+        int moov = topLevel.get(1);
+        List<Integer> traks = childrenOfType(muxed, moov, "trak");
+        assertEquals(2, traks.size());
+        int[] trackIds = new int[2];
+        for (int i = 0; i < 2; i++) {
+            int tkhd = childrenOfType(muxed, traks.get(i), "tkhd").get(0);
+            trackIds[i] = getInt(muxed, tkhd + 20);
+        }
+        assertArrayEquals(new int[]{1, 2}, trackIds);
+
+        List<Integer> mvex = childrenOfType(muxed, moov, "mvex");
+        assertEquals(1, mvex.size());
+        List<Integer> trexs = childrenOfType(muxed, mvex.get(0), "trex");
+        assertEquals(2, trexs.size());
+        assertEquals(1, getInt(muxed, trexs.get(0) + 12));
+        assertEquals(2, getInt(muxed, trexs.get(1) + 12));
+
+        // next_track_ID of the movie header
+        int mvhd = childrenOfType(muxed, moov, "mvhd").get(0);
+        assertEquals(3, getInt(muxed, mvhd + getInt(muxed, mvhd) - 4));
+    }
+
+    @Test
+    public void fragmentsInterleavedByDecodeTime() throws Exception {
+        Mp4Muxer.mux(videoFile, audioFile, output);
+        byte[] muxed = read(output);
+
+        List<String> order = new ArrayList<>();
+        int lastSequenceNumber = 0;
+        double lastTime = -1;
+        for (int moof : childrenOfType(muxed, 0, "moof")) {
+            int mfhd = childrenOfType(muxed, moof, "mfhd").get(0);
+            int sequenceNumber = getInt(muxed, mfhd + 12);
+            assertEquals(lastSequenceNumber + 1, sequenceNumber);
+            lastSequenceNumber = sequenceNumber;
+
+            int traf = childrenOfType(muxed, moof, "traf").get(0);
+            int tfhd = childrenOfType(muxed, traf, "tfhd").get(0);
+            int trackId = getInt(muxed, tfhd + 12);
+            int tfdt = childrenOfType(muxed, traf, "tfdt").get(0);
+            double time = (double) getLong(muxed, tfdt + 12) / (trackId == 1 ? VIDEO_TIMESCALE : AUDIO_TIMESCALE);
+            assertTrue(time + " after " + lastTime, time >= lastTime);
+            lastTime = time;
+            String name = (trackId == 1 ? "v" : "a") + time;
+            order.add(name);
+
+            // The sample data the fragment points at is the payload of the fragment
+            int flags = getInt(muxed, tfhd + 8) & 0xffffff;
+            long base = (flags & TFHD_BASE_DATA_OFFSET) != 0 ? getLong(muxed, tfhd + 16) : moof;
+            int trun = childrenOfType(muxed, traf, "trun").get(0);
+            int dataStart = (int) (base + getInt(muxed, trun + 16));
+            byte[] payload = payload(trackId == 1 ? 'v' : 'a', time);
+            assertEquals(name, "mdat", type(muxed, dataStart - 8));
+            assertEquals(name, new String(payload, "US-ASCII"),
+                    new String(Arrays.copyOfRange(muxed, dataStart, dataStart + payload.length), "US-ASCII"));
+        }
+        assertEquals(Arrays.asList("v0.0", "a0.5", "a1.5", "v2.0", "a2.5", "a3.5", "v4.0"), order);
+    }
+
+    @Test
+    public void unfragmentedFileRejected() throws Exception {
+        write(audioFile, concat(box("ftyp", ascii("dash")), box("moov", mvhd(), trak(AUDIO_TIMESCALE))));
+        try {
+            Mp4Muxer.mux(videoFile, audioFile, output);
+            fail("muxed");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Not a fragmented mp4 file"));
+        }
+    }
+
+    /**
+     * A fragmented mp4 file with one track, a segment index and one fragment per time.
+     */
+    private static byte[] file(int trackId, int timescale, int tfhdFlags, char track, double... times)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(box("ftyp", ascii("dash"), new byte[4], ascii("iso6")));
+        out.write(box("moov", mvhd(), trak(timescale),
+                box("mvex", fullBox("mehd", 0, 0, ints(10 * MOVIE_TIMESCALE)),
+                        fullBox("trex", 0, 0, ints(trackId, 1, 0, 0, 0)))));
+        out.write(fullBox("sidx", 1, 0, new byte[32]));
+        for (int i = 0; i < times.length; i++) {
+            byte[] payload = payload(track, times[i]);
+            long decodeTime = Math.round(times[i] * timescale);
+            // The size of the moof box does not depend on the offsets
+            byte[] moof = moof(trackId, i + 1, tfhdFlags, 0, decodeTime, 0);
+            long base = (tfhdFlags & TFHD_BASE_DATA_OFFSET) != 0 ? out.size() : 0;
+            out.write(moof(trackId, i + 1, tfhdFlags, base, decodeTime, moof.length + 8));
+            out.write(box("mdat", payload));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] payload(char track, double time) {
+        return ascii(track + "-samples-at-" + time);
+    }
+
+    private static byte[] mvhd() {
+        byte[] body = new byte[96];
+        ByteBuffer.wrap(body).putInt(8, MOVIE_TIMESCALE).putInt(92, 2);
+        return fullBox("mvhd", 0, 0, body);
+    }
+
+    private static byte[] trak(int timescale) {
+        byte[] tkhd = new byte[80];
+        ByteBuffer.wrap(tkhd).putInt(8, 1).putInt(16, 10 * MOVIE_TIMESCALE);
+        byte[] mdhd = new byte[20];
+        ByteBuffer.wrap(mdhd).putInt(8, timescale);
+        return box("trak", fullBox("tkhd", 0, 3, tkhd), box("mdia", fullBox("mdhd", 0, 0, mdhd)));
+    }
+
+    private static byte[] moof(int trackId, int sequenceNumber, int tfhdFlags, long base, long decodeTime,
+                               int dataOffset) {
+        byte[] tfhd = (tfhdFlags & TFHD_BASE_DATA_OFFSET) != 0
+                ? ByteBuffer.allocate(12).putInt(trackId).putLong(base).array()
+                : ints(trackId);
+        byte[] tfdt = ByteBuffer.allocate(8).putLong(decodeTime).array();
+        return box("moof", fullBox("mfhd", 0, 0, ints(sequenceNumber)),
+                box("traf", fullBox("tfhd", 0, tfhdFlags, tfhd), fullBox("tfdt", 1, 0, tfdt),
+                        fullBox("trun", 0, TRUN_DATA_OFFSET, ints(1, dataOffset))));
+    }
+
+    private static byte[] box(String type, byte[]... children) {
+        byte[] body = concat(children);
+        return ByteBuffer.allocate(8 + body.length).putInt(8 + body.length).put(ascii(type)).put(body).array();
+    }
+
+    private static byte[] fullBox(String type, int version, int flags, byte[] body) {
+        return box(type, ints(version << 24 | flags), body);
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * values.length);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String s) {
+        byte[] bytes = new byte[s.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) s.charAt(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * The offsets of the boxes between start and end.
+     */
+    private static List<Integer> children(byte[] buf, int start, int end) {
+        List<Integer> boxes = new ArrayList<>();
+        for (int offset = start; offset + 8 <= end; offset += getInt(buf, offset)) {
+            boxes.add(offset);
+        }
+        return boxes;
+    }
+
+    /**
+     * The offsets of the child boxes of the type, at the top level if box is 0.
+     */
+    private static List<Integer> childrenOfType(byte[] buf, int box, String type) {
+        List<Integer> boxes = new ArrayList<>();
+        List<Integer> children = box == 0
+                ? children(buf, 0, buf.length) : children(buf, box + 8, box + getInt(buf, box));
+        for (int child : children) {
+            if (type(buf, child).equals(type))
+                boxes.add(child);
+        }
+        return boxes;
+    }
+
+    private static String type(byte[] buf, int box) {
+        return new String(new char[]{(char) buf[box + 4], (char) buf[box + 5], (char) buf[box + 6],
+                (char) buf[box + 7]});
+    }
+
+    private static int getInt(byte[] buf, int offset) {
+        return ByteBuffer.wrap(buf).getInt(offset);
+    }
+
+    private static long getLong(byte[] buf, int offset) {
+        return ByteBuffer.wrap(buf).getLong(offset);
+    }
+
+    private static byte[] read(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return bytes;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+}
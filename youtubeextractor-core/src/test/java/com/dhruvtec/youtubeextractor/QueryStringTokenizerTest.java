@@ -0,0 +1,97 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class QueryStringTokenizerTest {
+
+    @Test
+    public void topLevelFields() {
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer("a=1&title=Never+Gonna%20Give&empty=&flag");
+        assertTrue(tokenizer.next());
+        assertEquals("a", tokenizer.key());
+        assertEquals(1, tokenizer.longValue(-1));
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.keyEquals("title"));
+        assertEquals("Never+Gonna%20Give", tokenizer.rawValue());
+        assertEquals("Never Gonna Give", tokenizer.value(1));
+        assertTrue(tokenizer.next());
+        assertEquals("empty", tokenizer.key());
+        assertEquals("", tokenizer.value(1));
+        assertEquals(-1, tokenizer.longValue(-1));
+        assertTrue(tokenizer.next());
+        assertEquals("flag", tokenizer.key());
+        assertEquals("", tokenizer.rawValue());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void nestedRecords() {
+        // A stream map as it is in get_video_info: two records of two fields
+        String s = "map=itag%3D22%26url%3Dhttps%253A%252F%252Fa%252Fb%253Fx%253D1%252C2%2Citag%3D18&next=1";
+        int start = s.indexOf('=') + 1;
+        int end = s.indexOf("&next");
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer(s, start, end, "%26", "%3D", "%2C");
+
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.keyEquals("itag"));
+        assertEquals(22, tokenizer.longValue(-1));
+        assertFalse(tokenizer.isEndOfRecord());
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.keyEquals("url"));
+        assertTrue(tokenizer.isEndOfRecord());
+        assertEquals("https%3A%2F%2Fa%2Fb%3Fx%3D1%2C2", tokenizer.value(1));
+        assertEquals("https://a/b?x=1,2", tokenizer.value(2));
+        assertEquals("https://a/b?x=1,2",
+                tokenizer.decodeRange(tokenizer.valueStart(), tokenizer.valueEnd(), 2));
+
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.keyEquals("itag"));
+        assertEquals(18, tokenizer.longValue(-1));
+        assertTrue(tokenizer.isEndOfRecord());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void watchPageSeparators() {
+        String s = "itag=22\\u0026url=https%3A%2F%2Fa%2Fb%3Fx%3D1,itag=18";
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer(s, 0, s.length(), "\\u0026", "=", ",");
+        assertTrue(tokenizer.next());
+        assertEquals(22, tokenizer.longValue(-1));
+        assertTrue(tokenizer.next());
+        assertEquals("url", tokenizer.key());
+        assertTrue(tokenizer.isEndOfRecord());
+        assertEquals("https://a/b?x=1", tokenizer.value(1));
+        assertTrue(tokenizer.next());
+        assertEquals(18, tokenizer.longValue(-1));
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void separatorCutByTheEnd() {
+        // "%26" does not fit before the end of the range, so it is part of the value
+        String s = "a%3D1%2";
+        QueryStringTokenizer tokenizer = new QueryStringTokenizer(s, 0, s.length(), "%26", "%3D", "%2C");
+        assertTrue(tokenizer.next());
+        assertEquals("1%2", tokenizer.rawValue());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    public void decodeLikeUrlDecoder() throws Exception {
+        String[] values = {"plain", "a+b", "%E2%82%AC%20", "%C3%A4%2Fx", "100%", "%zz", "%4", ""};
+        String[] expected = {"plain", "a b", "\u20ac ", "\u00e4/x", "100%", "%zz", "%4", ""};
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], expected[i], QueryStringTokenizer.decode(values[i], 0, values[i].length()));
+        }
+        assertEquals("a%20b", QueryStringTokenizer.decode("a%2520b", 0, 7, 1));
+        assertEquals("a b", QueryStringTokenizer.decode("a%2520b", 0, 7, 2));
+    }
+
+    @Test
+    public void decodeWithoutEscapesReturnsTheRange() {
+        String s = "xx-value-yy";
+        assertEquals("value", QueryStringTokenizer.decode(s, 3, 8));
+    }
+}
@@ -0,0 +1,259 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RangedDownloaderTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int LENGTH = 5 * CHUNK_SIZE + 1000;
+    private static final String URL = "https://r1.googlevideo.com/videoplayback?id=abc&itag=18&clen=" + LENGTH;
+
+    // How the fake server answers the requests for one chunk
+    private static final int HONOURED = 0;
+    private static final int SHORT = 1;
+    private static final int WHOLE_FILE = 2;
+    private static final int WHOLE_FILE_SIZED = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final byte[] content = new byte[LENGTH];
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+    private final YtFile ytFile = new YtFile(FormatRegistry.get(18), URL);
+    private volatile int failingChunk = -1;
+    private volatile int failure = HONOURED;
+    private File target;
+    private File stateFile;
+    private RangedDownloader downloader;
+
+    @Before
+    public void setUp() throws Exception {
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31 + i / 251);
+        }
+        target = new File(folder.getRoot(), "video.mp4");
+        stateFile = new File(target.getPath() + ".ytdl");
+        downloader = new RangedDownloader(new HttpTransport() {
+            @Override
+            public InputStream get(String url) throws IOException {
+                requests.add(url);
+                return serve(url);
+            }
+        }, null, ExtractorLog.NONE);
+        downloader.setChunkSize(CHUNK_SIZE);
+    }
+
+    /**
+     * Serves the requested range of the content, or fails the way the test asks for.
+     */
+    private InputStream serve(String url) {
+        String range = url.substring(url.indexOf("&range=") + 7);
+        int start = Integer.parseInt(range.substring(0, range.indexOf('-')));
+        int end = Integer.parseInt(range.substring(range.indexOf('-') + 1)) + 1;
+        if (start / CHUNK_SIZE == failingChunk) {
+            switch (failure) {
+                case SHORT:
+                    return new ByteArrayInputStream(content, start, (end - start) / 2);
+                case WHOLE_FILE:
+                    return new ByteArrayInputStream(content);
+                case WHOLE_FILE_SIZED:
+                    return new SizedStream(content);
+            }
+        }
+        return new ByteArrayInputStream(content, start, end - start);
+    }
+
+    private static final class SizedStream extends ByteArrayInputStream implements CancellableTransport.Sized {
+
+        SizedStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public long contentLength() {
+            return count;
+        }
+    }
+
+    @Test
+    public void downloadInChunks() throws Exception {
+        final List<Long> progress = new ArrayList<>();
+        downloader.download(ytFile, target, new RangedDownloader.ProgressListener() {
+            @Override
+            public void onProgress(long downloadedBytes, long totalBytes) {
+                assertEquals(LENGTH, totalBytes);
+                progress.add(downloadedBytes);
+            }
+        });
+        assertArrayEquals(content, read(target));
+        assertFalse(stateFile.exists());
+        assertEquals(6, requests.size());
+        assertTrue(requests.get(0), requests.get(0).endsWith("&range=0-65535"));
+        assertTrue(requests.get(5), requests.get(5).endsWith("&range=327680-328679"));
+        assertEquals(Long.valueOf(LENGTH), progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void resumeWithTheMissingChunks() throws Exception {
+        byte[] partial = new byte[LENGTH];
+        System.arraycopy(content, 0, partial, 0, CHUNK_SIZE);
+        System.arraycopy(content, 3 * CHUNK_SIZE, partial, 3 * CHUNK_SIZE, CHUNK_SIZE);
+        write(target, partial);
+        boolean[] done = {true, false, false, true, false, false};
+        write(stateFile, RangedDownloader.encodeState(key(), LENGTH, CHUNK_SIZE, done));
+
+        downloader.download(ytFile, target, null);
+        assertArrayEquals(content, read(target));
+        assertFalse(stateFile.exists());
+        assertEquals(4, requests.size());
+        assertTrue(requests.get(0), requests.get(0).endsWith("&range=65536-131071"));
+        assertTrue(requests.get(1), requests.get(1).endsWith("&range=131072-196607"));
+        assertTrue(requests.get(2), requests.get(2).endsWith("&range=262144-327679"));
+        assertTrue(requests.get(3), requests.get(3).endsWith("&range=327680-328679"));
+    }
+
+    @Test
+    public void stateOfAnotherFileIgnored() throws Exception {
+        write(target, new byte[LENGTH]);
+        boolean[] done = {true, true, true, true, true, true};
+        write(stateFile, RangedDownloader.encodeState("other/18/" + LENGTH, LENGTH, CHUNK_SIZE, done));
+
+        downloader.download(ytFile, target, null);
+        assertArrayEquals(content, read(target));
+        assertEquals(6, requests.size());
+    }
+
+    @Test
+    public void shortReadFails() throws Exception {
+        assertChunkFails(SHORT, "ended after");
+    }
+
+    @Test
+    public void ignoredRangeFails() throws Exception {
+        assertChunkFails(WHOLE_FILE, "not honoured");
+    }
+
+    @Test
+    public void ignoredRangeWithLengthFailsBeforeWriting() throws Exception {
+        byte[] bytes = assertChunkFails(WHOLE_FILE_SIZED, "not honoured");
+        // Nothing of the whole file landed in the chunk
+        assertArrayEquals(new byte[CHUNK_SIZE], Arrays.copyOfRange(bytes, 2 * CHUNK_SIZE, 3 * CHUNK_SIZE));
+    }
+
+    /**
+     * Let the third chunk fail on every attempt and check that the state keeps the chunks
+     * before it, then resume.
+     *
+     * @return the target after the failure
+     */
+    private byte[] assertChunkFails(int failure, String reason) throws Exception {
+        this.failure = failure;
+        failingChunk = 2;
+        try {
+            downloader.download(ytFile, target, null);
+            fail("downloaded");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(reason));
+        }
+        // Every attempt for the chunk was made
+        assertEquals(5, requests.size());
+        boolean[] done = RangedDownloader.decodeState(read(stateFile), key(), LENGTH, CHUNK_SIZE, 6);
+        assertNotNull(done);
+        assertTrue(Arrays.equals(new boolean[]{true, true, false, false, false, false}, done));
+        assertEquals(LENGTH, target.length());
+        byte[] bytes = read(target);
+
+        failingChunk = -1;
+        requests.clear();
+        downloader.download(ytFile, target, null);
+        assertArrayEquals(content, read(target));
+        assertEquals(4, requests.size());
+        return bytes;
+    }
+
+    @Test
+    public void stateRoundTrip() {
+        boolean[] done = new boolean[19];
+        done[0] = true;
+        done[7] = true;
+        done[8] = true;
+        done[18] = true;
+        byte[] bytes = encode(done);
+        assertTrue(Arrays.equals(done, RangedDownloader.decodeState(bytes, "abc/18/1000", 1000, CHUNK_SIZE, 19)));
+        assertTrue(Arrays.equals(new boolean[0],
+                RangedDownloader.decodeState(encode(new boolean[0]), "abc/18/1000", 1000, CHUNK_SIZE, 0)));
+    }
+
+    @Test
+    public void corruptStateRejected() {
+        boolean[] done = {true, false, true};
+        byte[] bytes = encode(done);
+        assertNotNull(RangedDownloader.decodeState(bytes, "abc/18/1000", 1000, CHUNK_SIZE, 3));
+
+        // Flip a bit of the chunks, behind the 20 byte header
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 1] ^= 2;
+        assertNull(RangedDownloader.decodeState(flipped, "abc/18/1000", 1000, CHUNK_SIZE, 3));
+        byte[] magic = bytes.clone();
+        magic[0] = 0;
+        assertNull(RangedDownloader.decodeState(magic, "abc/18/1000", 1000, CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(Arrays.copyOf(bytes, bytes.length - 1), "abc/18/1000", 1000,
+                CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(Arrays.copyOf(bytes, 10), "abc/18/1000", 1000, CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(new byte[0], "abc/18/1000", 1000, CHUNK_SIZE, 3));
+
+        // A valid state of another download
+        assertNull(RangedDownloader.decodeState(bytes, "abc/22/1000", 1000, CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(bytes, "abc/18/1000", 1001, CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(bytes, "abc/18/1000", 1000, 2 * CHUNK_SIZE, 3));
+        assertNull(RangedDownloader.decodeState(bytes, "abc/18/1000", 1000, CHUNK_SIZE, 4));
+    }
+
+    private static byte[] encode(boolean[] done) {
+        try {
+            return RangedDownloader.encodeState("abc/18/1000", 1000, CHUNK_SIZE, done);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private String key() {
+        return RangedDownloader.key(ytFile, LENGTH);
+    }
+
+    private static byte[] read(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return bytes;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ResultCacheTest {
+
+    private static ExtractionResult result(int... itags) {
+        long expire = System.currentTimeMillis() / 1000 + 6 * 60 * 60;
+        ExtractionResult result = new ExtractionResult();
+        result.ytFiles = new ItagArray<>();
+        for (int itag : itags) {
+            result.ytFiles.append(itag, new YtFile(FormatRegistry.get(itag),
+                    "https://r1.googlevideo.com/videoplayback?expire=" + expire + "&itag=" + itag));
+        }
+        return result;
+    }
+
+    @Test
+    public void callersReceiveCopies() {
+        ResultCache cache = new ResultCache(4);
+        ExtractionResult result = result(18, 22);
+        cache.put("a", result);
+        // Neither the extracting caller nor the ones answered from the cache change it
+        result.getYtFiles().remove(18);
+        ExtractionResult cached = cache.get("a");
+        assertEquals(2, cached.getYtFiles().size());
+        cached.getYtFiles().remove(22);
+        cached.getYtFiles().put(43, null);
+
+        ExtractionResult again = cache.get("a");
+        assertNotSame(cached, again);
+        assertEquals(2, again.getYtFiles().size());
+        assertEquals(18, again.getYtFiles().keyAt(0));
+        assertEquals(22, again.getYtFiles().keyAt(1));
+    }
+
+    @Test
+    public void failedResultsNotCached() {
+        ResultCache cache = new ResultCache(4);
+        ExtractionResult result = result(18);
+        result.errMsg = "Error-failed";
+        cache.put("a", result);
+        cache.put("b", new ExtractionResult());
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,253 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class SignatureDeciphererTest {
+
+    private static final String JSBIN = "https://s.ytimg.com/yts/jsbin/";
+    private static final String FIXTURE_PLAYER = "player-vflUUKg8C/en_US/base.js";
+    private static final String REVERSING_PLAYER = "player-vflReverse/en_US/base.js";
+    private static final String SORTING_PLAYER = "player-vflSort/en_US/base.js";
+
+    private final Map<String, String> responses = new HashMap<>();
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> scripts = new ArrayList<>();
+    private final AtomicReference<Object> ownerOutcome = new AtomicReference<>();
+    private final AtomicReference<Object> waiterOutcome = new AtomicReference<>();
+    private HttpTransport http;
+    private JsEngine jsEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        responses.put(JSBIN + FIXTURE_PLAYER, new String(Fixtures.bytes(Fixtures.PLAYER_JS), "UTF-8"));
+        responses.put(JSBIN + REVERSING_PLAYER, player("a.reverse()"));
+        responses.put(JSBIN + SORTING_PLAYER, player("a.sort()"));
+        http = new HttpTransport() {
+            @Override
+            public InputStream get(String url) throws IOException {
+                requests.add(url);
+                String response = responses.get(url);
+                if (response == null)
+                    throw new FileNotFoundException(url);
+                return new ByteArrayInputStream(response.getBytes("UTF-8"));
+            }
+        };
+        jsEngine = new JsEngine() {
+            @Override
+            public void evaluate(String script, Callback callback) {
+                scripts.add(script);
+                callback.onResult("from-js-engine");
+            }
+        };
+    }
+
+    /**
+     * A player whose deciphering function applies one helper method.
+     */
+    private static String player(String helperCode) {
+        return "var _yt_player={};(function(g){var window=this;"
+                + "var Xy={Lo:function(a){" + helperCode + "}};"
+                + "var Ix=function(a){a=a.split(\"\");Xy.Lo(a,1);return a.join(\"\")};"
+                + "g.set(\"signature\",Ix(c));})(_yt_player);";
+    }
+
+    @Test
+    public void decipherWithThePlayerOfThePage() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        // Another extraction found another player meanwhile
+        decipherer.setPlayerJsFileName(REVERSING_PLAYER);
+        assertEquals("FEDJH", decipherer.decipher(FIXTURE_PLAYER, signatures("ABCDEFGHIJ"), http,
+                ExtractionMetrics.NONE));
+        assertEquals("JIHGFEDCBA", decipherer.decipher(REVERSING_PLAYER, signatures("ABCDEFGHIJ"), http,
+                ExtractionMetrics.NONE));
+        assertEquals(REVERSING_PLAYER, decipherer.getPlayerJsFileName());
+    }
+
+    @Test
+    public void currentPlayerKeptInMemory() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        decipherer.setPlayerJsFileName(REVERSING_PLAYER);
+        decipherer.decipher(REVERSING_PLAYER, signatures("AB"), http, ExtractionMetrics.NONE);
+        decipherer.decipher(REVERSING_PLAYER, signatures("CD"), http, ExtractionMetrics.NONE);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void warmUpKeepsTheCurrentPlayer() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        decipherer.setPlayerJsFileName(REVERSING_PLAYER);
+        decipherer.decipher(REVERSING_PLAYER, signatures("AB"), http, ExtractionMetrics.NONE);
+
+        assertTrue(decipherer.warmUp(FIXTURE_PLAYER, http, ExtractionMetrics.NONE));
+        assertFalse(decipherer.warmUp(FIXTURE_PLAYER, http, ExtractionMetrics.NONE));
+        assertEquals(REVERSING_PLAYER, decipherer.getPlayerJsFileName());
+        assertEquals("BA", decipherer.decipher(REVERSING_PLAYER, signatures("AB"), http, ExtractionMetrics.NONE));
+        assertEquals("FEDJH", decipherer.decipher(FIXTURE_PLAYER, signatures("ABCDEFGHIJ"), http,
+                ExtractionMetrics.NONE));
+
+        // A page naming the warmed up player makes it the current one
+        decipherer.setPlayerJsFileName(FIXTURE_PLAYER);
+        decipherer.prefetch(http, ExtractionMetrics.NONE);
+        assertEquals("FEDJH", decipherer.decipher(FIXTURE_PLAYER, signatures("ABCDEFGHIJ"), http,
+                ExtractionMetrics.NONE));
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void uncompiledFunctionsRunOnTheJsEngine() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, jsEngine, ExtractorLog.NONE);
+        assertEquals("from-js-engine", decipherer.decipher(SORTING_PLAYER, signatures("BA"), http,
+                ExtractionMetrics.NONE));
+        assertEquals(1, scripts.size());
+        assertTrue(scripts.get(0), scripts.get(0).contains("a.sort()"));
+        assertTrue(scripts.get(0), scripts.get(0).contains("Ix('BA')"));
+
+        // Compiled functions do not need the engine
+        decipherer.decipher(REVERSING_PLAYER, signatures("BA"), http, ExtractionMetrics.NONE);
+        assertEquals(1, scripts.size());
+    }
+
+    @Test
+    public void cancellingTheDownloadingExtractionAbortsIt() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        BlockingTransport blocking = new BlockingTransport();
+        CancellableTransport owner = new CancellableTransport(blocking);
+        Thread ownerThread = decipherInBackground(decipherer, owner, ownerOutcome);
+        assertTrue(blocking.requested.await(5, TimeUnit.SECONDS));
+        // Joins the download of the owner
+        Thread waiterThread = decipherInBackground(decipherer, new CancellableTransport(http), waiterOutcome);
+        Thread.sleep(200);
+
+        owner.cancel();
+        ownerThread.join(5000);
+        waiterThread.join(5000);
+        assertTrue(String.valueOf(ownerOutcome.get()), ownerOutcome.get() instanceof InterruptedIOException);
+        // The waiter downloads the player js itself instead of failing
+        assertEquals("FEDJH", waiterOutcome.get());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void cancelledWaiterStopsWaiting() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        BlockingTransport blocking = new BlockingTransport();
+        Thread ownerThread = decipherInBackground(decipherer, new CancellableTransport(blocking), ownerOutcome);
+        assertTrue(blocking.requested.await(5, TimeUnit.SECONDS));
+        CancellableTransport waiter = new CancellableTransport(http);
+        Thread waiterThread = decipherInBackground(decipherer, waiter, waiterOutcome);
+        Thread.sleep(200);
+
+        waiter.cancel();
+        waiterThread.join(5000);
+        assertTrue(String.valueOf(waiterOutcome.get()), waiterOutcome.get() instanceof InterruptedIOException);
+        // The shared download goes on
+        assertTrue(ownerThread.isAlive());
+        blocking.release.countDown();
+        ownerThread.join(5000);
+        assertEquals("FEDJH", ownerOutcome.get());
+        assertEquals(0, requests.size());
+    }
+
+    private static Thread decipherInBackground(final SignatureDecipherer decipherer, final HttpTransport transport,
+                                               final AtomicReference<Object> outcome) {
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    outcome.set(decipherer.decipher(FIXTURE_PLAYER, signatures("ABCDEFGHIJ"), transport,
+                            ExtractionMetrics.NONE));
+                } catch (Exception e) {
+                    outcome.set(e);
+                }
+            }
+        };
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Serves the fixture player once released, reading blocks until then or until the
+     * response is closed.
+     */
+    private static final class BlockingTransport implements HttpTransport {
+        final CountDownLatch requested = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public InputStream get(String url) throws IOException {
+            final InputStream in = new ByteArrayInputStream(Fixtures.bytes(Fixtures.PLAYER_JS));
+            requested.countDown();
+            return new InputStream() {
+                private volatile boolean closed;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] b = new byte[1];
+                    return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    try {
+                        while (!release.await(10, TimeUnit.MILLISECONDS)) {
+                            if (closed)
+                                throw new IOException("Socket closed");
+                        }
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public void close() {
+                    closed = true;
+                }
+            };
+        }
+    }
+
+    @Test
+    public void failuresReported() throws Exception {
+        SignatureDecipherer decipherer = new SignatureDecipherer(http, null, null, ExtractorLog.NONE);
+        assertDecipherFails(decipherer, null, "Player js not found");
+        assertDecipherFails(decipherer, "player-vflMissing/en_US/base.js", "not found");
+        assertDecipherFails(decipherer, SORTING_PLAYER, "no js engine");
+    }
+
+    private static void assertDecipherFails(SignatureDecipherer decipherer, String jsFileName, String reason)
+            throws InterruptedException {
+        try {
+            // The transport of the decipherer
+            decipherer.decipher(jsFileName, signatures("AB"), null, ExtractionMetrics.NONE);
+            fail("deciphered with " + jsFileName);
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(reason));
+        }
+    }
+
+    private static ItagArray<String> signatures(String... signatures) {
+        ItagArray<String> encSignatures = new ItagArray<>();
+        for (int i = 0; i < signatures.length; i++) {
+            encSignatures.append(i, signatures[i]);
+        }
+        return encSignatures;
+    }
+}
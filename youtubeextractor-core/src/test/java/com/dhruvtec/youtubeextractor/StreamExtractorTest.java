@@ -0,0 +1,181 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class StreamExtractorTest {
+
+    // The deciphering function sorts, which is not compiled, so the js engine runs it
+    private static final String PLAYER = "var _yt_player={};(function(g){var window=this;"
+            + "var Xy={Lo:function(a){a.sort()}};"
+            + "var Ix=function(a){a=a.split(\"\");Xy.Lo(a,1);return a.join(\"\")};"
+            + "g.set(\"signature\",Ix(c));})(_yt_player);";
+
+    private final BlockingQueue<Evaluation> evaluations = new LinkedBlockingQueue<>();
+    private ExecutorService executor;
+    private SignatureDecipherer decipherer;
+    private StreamExtractor extractor;
+
+    private static final class Evaluation {
+        final String script;
+        final JsEngine.Callback callback;
+
+        Evaluation(String script, JsEngine.Callback callback) {
+            this.script = script;
+            this.callback = callback;
+        }
+
+        /**
+         * Answer with one signature per deciphered signature of the script.
+         */
+        void answer() {
+            int count = script.split("\\+\"\\\\n\"\\+", -1).length;
+            StringBuilder signatures = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                if (i > 0)
+                    signatures.append('\n');
+                signatures.append("SIG").append(i);
+            }
+            callback.onResult(signatures.toString());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        HttpTransport http = new HttpTransport() {
+            @Override
+            public InputStream get(String url) throws IOException {
+                if (url.contains("get_video_info"))
+                    return new ByteArrayInputStream(Fixtures.bytes(Fixtures.VIDEO_INFO_CIPHERED));
+                if (url.contains("/watch?v="))
+                    return new ByteArrayInputStream(Fixtures.bytes(Fixtures.WATCH_PAGE));
+                if (url.contains("s.ytimg.com"))
+                    return new ByteArrayInputStream(PLAYER.getBytes("UTF-8"));
+                throw new FileNotFoundException(url);
+            }
+        };
+        JsEngine jsEngine = new JsEngine() {
+            @Override
+            public void evaluate(String script, Callback callback) {
+                evaluations.add(new Evaluation(script, callback));
+            }
+        };
+        decipherer = new SignatureDecipherer(http, null, jsEngine, ExtractorLog.NONE);
+        extractor = new StreamExtractor(http, decipherer, ExtractorLog.NONE);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void extractionWaitingForTheJsEngineFreesItsThread() throws Exception {
+        final AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        Future<ExtractionResult> future = extractor.extractAsync("dQw4w9WgXcQ", executor, new ExtractionCallback() {
+            @Override
+            public void onExtractionComplete(ExtractionResult result) {
+                callbackThread.set(Thread.currentThread());
+            }
+        });
+        Evaluation evaluation = evaluations.poll(5, TimeUnit.SECONDS);
+        assertNotNull(evaluation);
+
+        // The only thread of the executor is free while the engine works
+        final CountDownLatch ran = new CountDownLatch(1);
+        final AtomicReference<Thread> executorThread = new AtomicReference<>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                executorThread.set(Thread.currentThread());
+                ran.countDown();
+            }
+        });
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+
+        evaluation.answer();
+        ExtractionResult result = future.get(5, TimeUnit.SECONDS);
+        assertNull(result.getErrMsg(), result.getErrMsg());
+        ItagArray<YtFile> ytFiles = result.getYtFiles();
+        assertTrue(ytFiles.size() > 0);
+        for (int i = 0; i < ytFiles.size(); i++) {
+            assertTrue(ytFiles.valueAt(i).getUrl(), ytFiles.valueAt(i).getUrl().contains("&signature=SIG"));
+        }
+        // The rest of the extraction ran on the executor, not on the thread of the engine
+        assertSame(executorThread.get(), callbackThread.get());
+    }
+
+    @Test
+    public void unansweredEvaluationTimesOut() throws Exception {
+        decipherer.setDecipherTimeout(100);
+        Future<ExtractionResult> future = extractor.extractAsync("dQw4w9WgXcQ", executor, null);
+        ExtractionResult result = future.get(5, TimeUnit.SECONDS);
+        assertNull(result.getYtFiles());
+        assertTrue(result.getErrMsg(), result.getErrMsg().contains("timed out"));
+        assertEquals(1, evaluations.size());
+    }
+
+    @Test
+    public void cancellingDropsTheEvaluation() throws Exception {
+        Future<ExtractionResult> cancelled = extractor.extractAsync("dQw4w9WgXcQ", executor,
+                new ExtractionCallback() {
+                    @Override
+                    public void onExtractionComplete(ExtractionResult result) {
+                        fail("cancelled extraction completed");
+                    }
+                });
+        Evaluation evaluation = evaluations.poll(5, TimeUnit.SECONDS);
+        assertNotNull(evaluation);
+        assertTrue(cancelled.cancel(false));
+
+        // The queue moved on without waiting for the engine
+        Future<ExtractionResult> next = extractor.extractAsync("dQw4w9WgXcQ", executor, null);
+        Evaluation nextEvaluation = evaluations.poll(5, TimeUnit.SECONDS);
+        assertNotNull(nextEvaluation);
+        evaluation.answer();
+        nextEvaluation.answer();
+        assertNull(next.get(5, TimeUnit.SECONDS).getErrMsg());
+    }
+
+    @Test
+    public void joinedExtractionsDoNotWaitEither() throws Exception {
+        ExtractionCoalescer coalescer = new ExtractionCoalescer();
+        extractor.setCoalescer(coalescer);
+        Future<ExtractionResult> first = extractor.extractAsync("dQw4w9WgXcQ", executor, null);
+        Evaluation evaluation = evaluations.poll(5, TimeUnit.SECONDS);
+        assertNotNull(evaluation);
+        Future<ExtractionResult> second = extractor.extractAsync("dQw4w9WgXcQ", executor, null);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coalescer.joinedCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, coalescer.joinedCount());
+
+        evaluation.answer();
+        ExtractionResult firstResult = first.get(5, TimeUnit.SECONDS);
+        ExtractionResult secondResult = second.get(5, TimeUnit.SECONDS);
+        assertNull(secondResult.getErrMsg(), secondResult.getErrMsg());
+        assertNotSame(firstResult.getYtFiles(), secondResult.getYtFiles());
+        assertEquals(firstResult.getYtFiles().size(), secondResult.getYtFiles().size());
+        assertEquals(1, coalescer.resolvedCount());
+        assertTrue(evaluations.isEmpty());
+    }
+}
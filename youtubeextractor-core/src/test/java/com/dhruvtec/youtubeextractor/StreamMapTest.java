@@ -0,0 +1,134 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URLDecoder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * The stream maps parsed with {@link QueryStringTokenizer} compared with the regex
+ * parsing the tokenizer replaced.
+ */
+public class StreamMapTest {
+
+    private static final Pattern patItag = Pattern.compile("itag=([0-9]+?)(&|,)");
+    private static final Pattern patEncSig = Pattern.compile("s=([0-9A-F|\\.]{10,}?)(&|,|\")");
+    private static final Pattern patUrl = Pattern.compile("url=(.+?)(&|,)");
+
+    private StreamExtractor extractor;
+
+    @Before
+    public void setUp() {
+        extractor = new StreamExtractor(null, null, ExtractorLog.NONE);
+    }
+
+    @Test
+    public void videoInfoLikeRegex() throws Exception {
+        String videoInfo = Fixtures.lines(Fixtures.VIDEO_INFO).get(0);
+        ItagArray<YtFile> expected = new ItagArray<>();
+        regexParseStreams(URLDecoder.decode(videoInfo, "UTF-8"), expected, null);
+
+        ItagArray<YtFile> ytFiles = extractor.parseStreams(StreamExtractor.parseVideoInfo("dQw4w9WgXcQ", videoInfo));
+        assertTrue(ytFiles.size() > 0);
+        assertSameFiles(expected, ytFiles);
+    }
+
+    @Test
+    public void cipheredWatchPageLikeRegex() throws Exception {
+        String line = Fixtures.lineContaining(Fixtures.WATCH_PAGE, "url_encoded_fmt_stream_map");
+        ItagArray<YtFile> expected = new ItagArray<>();
+        ItagArray<String> expectedSignatures = new ItagArray<>();
+        regexParseStreams(line.replace("\\u0026", "&"), expected, expectedSignatures);
+
+        WatchPageScanner.Result watchPage = WatchPageScanner.scan(
+                new ByteArrayInputStream(Fixtures.bytes(Fixtures.WATCH_PAGE)), true);
+        ItagArray<String> encSignatures = new ItagArray<>();
+        ItagArray<YtFile> ytFiles = extractor.parseWatchPageStreams(watchPage.streamMap, watchPage.adaptiveFmts,
+                encSignatures);
+        assertTrue(ytFiles.size() > 0);
+        assertSameFiles(expected, ytFiles);
+        assertTrue(encSignatures.size() > 0);
+        assertEquals(expectedSignatures.toString(), encSignatures.toString());
+    }
+
+    @Test
+    public void urlBeforeAndAfterItag() {
+        String streamMap = "url=https%3A%2F%2Fa%2Fv%3Fitag%3D22%26x%3D1\\u0026s=AAAAAAAAAA.BBBB\\u0026itag=22,"
+                + "itag=18\\u0026type=video%2Fmp4\\u0026s=CCCCCCCCCC.DDDD\\u0026url=https%3A%2F%2Fa%2Fv%3Fitag%3D18,"
+                + "itag=43\\u0026s=EEEEEEEEEE.FFFF";
+        ItagArray<String> encSignatures = new ItagArray<>();
+        ItagArray<YtFile> ytFiles = extractor.parseWatchPageStreams(streamMap, null, encSignatures);
+
+        assertEquals(2, ytFiles.size());
+        assertEquals("https://a/v?itag=22&x=1", ytFiles.get(22).getUrl());
+        assertEquals(22, ytFiles.get(22).getFormat().getItag());
+        assertEquals("https://a/v?itag=18", ytFiles.get(18).getUrl());
+        // No url, no signature
+        assertNull(ytFiles.get(43));
+        assertEquals(2, encSignatures.size());
+        assertEquals("AAAAAAAAAA.BBBB", encSignatures.get(22));
+        assertEquals("CCCCCCCCCC.DDDD", encSignatures.get(18));
+    }
+
+    @Test
+    public void signaturesIgnoredWhenNotCiphered() {
+        String streamMap = "itag=22\\u0026s=AAAAAAAAAA.BBBB\\u0026url=https%3A%2F%2Fa%2Fv";
+        ItagArray<YtFile> ytFiles = extractor.parseWatchPageStreams(streamMap, null, null);
+        assertEquals("https://a/v", ytFiles.get(22).getUrl());
+    }
+
+    @Test
+    public void unknownItagsAndWebmFiltered() {
+        String streamMap = "itag=9999\\u0026url=https%3A%2F%2Fa%2Fx,itag=43\\u0026url=https%3A%2F%2Fa%2Fw,"
+                + "itag=18\\u0026url=https%3A%2F%2Fa%2Fm";
+        extractor.setIncludeWebM(false);
+        ItagArray<YtFile> ytFiles = extractor.parseWatchPageStreams(streamMap, null, null);
+        assertEquals(1, ytFiles.size());
+        assertNotNull(ytFiles.get(18));
+    }
+
+    private static void assertSameFiles(ItagArray<YtFile> expected, ItagArray<YtFile> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            int itag = expected.keyAt(i);
+            YtFile ytFile = actual.get(itag);
+            assertNotNull("itag " + itag, ytFile);
+            assertEquals("itag " + itag, expected.valueAt(i).getUrl(), ytFile.getUrl());
+            assertSame(expected.valueAt(i).getFormat(), ytFile.getFormat());
+        }
+    }
+
+    /**
+     * The regex parsing of the stream maps the tokenizer replaced.
+     */
+    private static void regexParseStreams(String streamMap, ItagArray<YtFile> ytFiles,
+                                          ItagArray<String> encSignatures) throws Exception {
+        for (String encStream : streamMap.split(",|url_encoded_fmt_stream_map|&adaptive_fmts=")) {
+            encStream = encStream + ",";
+            if (!encStream.contains("itag%3D"))
+                continue;
+            String stream = URLDecoder.decode(encStream, "UTF-8");
+            Matcher mat = patItag.matcher(stream);
+            if (!mat.find())
+                continue;
+            int itag = Integer.parseInt(mat.group(1));
+            Format format = FormatRegistry.get(itag);
+            if (format == null)
+                continue;
+            mat = patUrl.matcher(encStream);
+            if (!mat.find())
+                continue;
+            ytFiles.put(itag, new YtFile(format, URLDecoder.decode(mat.group(1), "UTF-8")));
+            if (encSignatures != null) {
+                mat = patEncSig.matcher(stream);
+                if (mat.find())
+                    encSignatures.append(itag, mat.group(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.dhruvtec.youtubeextractor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class VideoMetaStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CacheDirectory cacheDirectory;
+    private File logFile;
+    private VideoMetaStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        final File cacheDir = folder.newFolder("cache");
+        cacheDirectory = new CacheDirectory() {
+            @Override
+            public File getCacheDir() {
+                return cacheDir;
+            }
+        };
+        logFile = new File(new File(cacheDir, "videometa"), "videometa.log");
+        store = new VideoMetaStore(cacheDirectory, ExtractorLog.NONE);
+    }
+
+    @After
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void storedAcrossOpens() {
+        VideoMeta first = videoMeta("aaaaaaaaaaa", "First");
+        VideoMeta second = new VideoMeta("bbbbbbbbbbb", null, "Author \u00e9", null, 0, 7, false);
+        store.put(first);
+        store.put(second);
+        store.remove("bbbbbbbbbbb");
+        store.put(second);
+        reopen();
+
+        assertEquals(2, store.size());
+        assertEquals(first, store.get("aaaaaaaaaaa"));
+        assertEquals(second, store.get("bbbbbbbbbbb"));
+        assertNull(store.get("ccccccccccc"));
+        Map<String, VideoMeta> all = store.getAll(Arrays.asList("ccccccccccc", "bbbbbbbbbbb", "aaaaaaaaaaa"));
+        assertEquals(Arrays.asList("bbbbbbbbbbb", "aaaaaaaaaaa"), Arrays.asList(all.keySet().toArray()));
+    }
+
+    @Test
+    public void tornTailTruncatedOnLoad() throws Exception {
+        store.put(videoMeta("aaaaaaaaaaa", "First"));
+        long intact = logFile.length();
+        store.put(videoMeta("bbbbbbbbbbb", "Second"));
+        store.close();
+        // A crash while the second record was written
+        setLength(logFile.length() - 3);
+
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+        assertNull(store.get("bbbbbbbbbbb"));
+        assertEquals(intact, logFile.length());
+
+        // Appending goes on behind the intact records
+        store.put(videoMeta("ccccccccccc", "Third"));
+        reopen();
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+        assertEquals(videoMeta("ccccccccccc", "Third"), store.get("ccccccccccc"));
+    }
+
+    @Test
+    public void crcMismatchRejected() throws Exception {
+        store.put(videoMeta("aaaaaaaaaaa", "First"));
+        long intact = logFile.length();
+        store.put(videoMeta("bbbbbbbbbbb", "Second"));
+        store.close();
+        // Flip a bit in the payload of the second record, its length is still right
+        flipBit(logFile.length() - 2);
+
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+        assertNull(store.get("bbbbbbbbbbb"));
+        assertEquals(intact, logFile.length());
+    }
+
+    @Test
+    public void crcMismatchRejectedWhileOpen() throws Exception {
+        store.put(videoMeta("aaaaaaaaaaa", "First"));
+        store.put(videoMeta("bbbbbbbbbbb", "Second"));
+        flipBit(logFile.length() - 2);
+
+        assertNull(store.get("bbbbbbbbbbb"));
+        assertEquals(1, store.size());
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+    }
+
+    @Test
+    public void compactionKeepsLiveRecords() throws Exception {
+        store.put(videoMeta("aaaaaaaaaaa", "First"));
+        store.put(videoMeta("bbbbbbbbbbb", "Second"));
+        store.put(videoMeta("ccccccccccc", "Removed"));
+        store.remove("ccccccccccc");
+        char[] padding = new char[1000];
+        Arrays.fill(padding, 'x');
+        long largest = 0;
+        for (int i = 0; i < 100; i++) {
+            store.put(videoMeta("ddddddddddd", "Version " + i + new String(padding)));
+            largest = Math.max(largest, logFile.length());
+        }
+        // 100 KB were written, the replaced versions were dropped on the way
+        assertTrue("compacted: " + largest, largest < 80 * 1024);
+        assertTrue("compacted: " + logFile.length(), logFile.length() < 64 * 1024);
+
+        assertEquals(3, store.size());
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+        assertEquals(videoMeta("bbbbbbbbbbb", "Second"), store.get("bbbbbbbbbbb"));
+        assertNull(store.get("ccccccccccc"));
+        assertEquals(videoMeta("ddddddddddd", "Version 99" + new String(padding)), store.get("ddddddddddd"));
+
+        reopen();
+        assertEquals(3, store.size());
+        assertEquals(videoMeta("aaaaaaaaaaa", "First"), store.get("aaaaaaaaaaa"));
+        assertEquals(videoMeta("bbbbbbbbbbb", "Second"), store.get("bbbbbbbbbbb"));
+        assertNull(store.get("ccccccccccc"));
+        assertEquals(videoMeta("ddddddddddd", "Version 99" + new String(padding)), store.get("ddddddddddd"));
+    }
+
+    @Test
+    public void firstStoredEvicted() {
+        store.setMaxEntries(2);
+        store.put(videoMeta("aaaaaaaaaaa", "First"));
+        store.put(videoMeta("bbbbbbbbbbb", "Second"));
+        store.put(videoMeta("ccccccccccc", "Third"));
+        reopen();
+        store.setMaxEntries(2);
+        assertNull(store.get("aaaaaaaaaaa"));
+        assertNotNull(store.get("bbbbbbbbbbb"));
+        assertNotNull(store.get("ccccccccccc"));
+    }
+
+    private static VideoMeta videoMeta(String videoId, String title) {
+        return new VideoMeta(videoId, title, "Author", "UC" + videoId, 212, 1000000, false);
+    }
+
+    private void reopen() {
+        store.close();
+        store = new VideoMetaStore(cacheDirectory, ExtractorLog.NONE);
+    }
+
+    private void setLength(long length) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(logFile, "rw");
+        try {
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void flipBit(long offset) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(logFile, "rw");
+        try {
+            raf.seek(offset);
+            int b = raf.read();
+            raf.seek(offset);
+            raf.write(b ^ 0x01);
+        } finally {
+            raf.close();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.dhruvtec.youtubeextractor;
+
+import android.util.Log;
+
+/**
+ * Routes the extractor log to logcat. Debug output is only written if
+ * {@link YouTubeExtractor#LOGGING} is enabled.
+ */
+class AndroidLog implements ExtractorLog {
+
+    @Override
+    public void d(String tag, String msg) {
+        if (YouTubeExtractor.LOGGING)
+            Log.d(tag, String.valueOf(msg));
+    }
+
+    @Override
+    public void e(String tag, String msg) {
+        Log.e(tag, String.valueOf(msg));
+    }
+}
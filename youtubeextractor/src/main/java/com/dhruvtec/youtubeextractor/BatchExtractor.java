@@ -0,0 +1,236 @@
+package com.dhruvtec.youtubeextractor;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves many youtube links or video ids concurrently on a bounded thread pool.
+ * <p/>
+ * Results are delivered on the main thread through {@link Callback} as soon as each
+ * video is resolved, so the order of the callbacks is not the order of the input.
+ * All extractions of a batch share the deciphering state of the player js, so it is
+ * downloaded and parsed at most once per player version. A video waiting for the
+ * WebView to decipher its signatures does not occupy a thread of the pool meanwhile.
+ */
+public class BatchExtractor {
+
+    public interface Callback {
+
+        /**
+         * Called once for every link of the batch.
+         *
+         * @param youtubeLink the link or video id as passed to {@link BatchExtractor#extract(Collection, Callback)}
+         * @param ytFiles     the extracted files or null if the extraction failed
+         * @param videoMeta   the meta data of the video, may be null on errors
+         * @param errMsg      the error message or null, "cancelled" if the link was
+         *                    cancelled before it was resolved
+         */
+        void onVideoExtracted(String youtubeLink, SparseArray<YtFile> ytFiles, VideoMeta videoMeta, String errMsg);
+
+        /**
+         * Called after the last video of the batch has been delivered.
+         */
+        void onBatchComplete();
+    }
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final Context context;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final List<Extraction> pending = new ArrayList<>();
+
+    private boolean includeWebM = true;
+    private FormatFilter formatFilter;
+    private boolean useHttp = false;
+    private boolean parseDashManifest = false;
+
+    public BatchExtractor(Context con) {
+        this(con, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * @param parallelism the maximum number of videos resolved at the same time
+     */
+    public BatchExtractor(Context con, int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism < 1");
+        context = con;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "BatchExtractor #" + count.incrementAndGet());
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            }
+        });
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+        ownsExecutor = true;
+    }
+
+    /**
+     * Run the batch on the given executor. The executor is not shut down by {@link #shutdown()}.
+     */
+    public BatchExtractor(Context con, ExecutorService executor) {
+        context = con;
+        this.executor = executor;
+        ownsExecutor = false;
+    }
+
+    /**
+     * One link of a batch. Cancelling its task delivers the link as cancelled instead.
+     */
+    private final class Extraction implements ExtractionCallback {
+        Future<ExtractionResult> task;
+        private final String link;
+        private final StreamExtractor extractor;
+        private final Callback callback;
+        private final AtomicInteger remaining;
+
+        Extraction(String link, StreamExtractor extractor, Callback callback, AtomicInteger remaining) {
+            this.link = link;
+            this.extractor = extractor;
+            this.callback = callback;
+            this.remaining = remaining;
+        }
+
+        void start() {
+            task = extractor.extractAsync(link, executor, this);
+        }
+
+        @Override
+        public void onExtractionComplete(ExtractionResult result) {
+            deliver(YouTubeExtractor.toSparseArray(result.getYtFiles()), result.getVideoMeta(), result.getErrMsg());
+        }
+
+        void deliver(final SparseArray<YtFile> ytFiles, final VideoMeta videoMeta, final String errMsg) {
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    callback.onVideoExtracted(link, ytFiles, videoMeta, errMsg);
+                    if (remaining.decrementAndGet() == 0)
+                        callback.onBatchComplete();
+                }
+            });
+        }
+    }
+
+    /**
+     * Start resolving all links. May be called several times, the batches run on the same pool.
+     * Links of a batch started after {@link #shutdown()} are delivered as failed.
+     *
+     * @param youtubeLinks the youtube page links or video ids
+     */
+    public void extract(Collection<String> youtubeLinks, final Callback callback) {
+        final AtomicInteger remaining = new AtomicInteger(youtubeLinks.size());
+        if (youtubeLinks.isEmpty()) {
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    callback.onBatchComplete();
+                }
+            });
+            return;
+        }
+        final StreamExtractor extractor = YouTubeExtractor.newStreamExtractor(context);
+        extractor.setIncludeWebM(includeWebM);
+        extractor.setFormatFilter(formatFilter);
+        extractor.setParseDashManifest(parseDashManifest);
+        extractor.setDefaultHttpProtocol(useHttp);
+        boolean rejected = false;
+        for (String link : youtubeLinks) {
+            Extraction extraction = new Extraction(link, extractor, callback, remaining);
+            if (!rejected) {
+                try {
+                    extraction.start();
+                } catch (RejectedExecutionException e) {
+                    rejected = true;
+                }
+            }
+            if (rejected) {
+                extraction.deliver(null, null, "Error-executor shut down");
+                continue;
+            }
+            synchronized (pending) {
+                for (Iterator<Extraction> it = pending.iterator(); it.hasNext(); ) {
+                    if (it.next().task.isDone())
+                        it.remove();
+                }
+                pending.add(extraction);
+            }
+        }
+    }
+
+    /**
+     * Cancel all videos which are not resolved yet, the running ones stop their
+     * downloads. They are delivered with the error "cancelled", so
+     * {@link Callback#onBatchComplete()} is still called.
+     */
+    public void cancel() {
+        synchronized (pending) {
+            for (Extraction extraction : pending) {
+                if (extraction.task.cancel(false))
+                    extraction.deliver(null, null, "cancelled");
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Cancel pending videos and release the thread pool.
+     */
+    public void shutdown() {
+        cancel();
+        if (ownsExecutor)
+            executor.shutdown();
+    }
+
+    /**
+     * Parse the dash manifest for different dash streams and high quality audio. Default: false
+     */
+    public void setParseDashManifest(boolean parseDashManifest) {
+        this.parseDashManifest = parseDashManifest;
+    }
+
+    /**
+     * Include the webm format files into the result. Default: true
+     */
+    public void setIncludeWebM(boolean includeWebM) {
+        this.includeWebM = includeWebM;
+    }
+
+    /**
+     * Only extract the formats the filter accepts, e.g. a {@link FormatSelector}, which
+     * saves deciphering the signatures of the others. Default: null, all formats
+     */
+    public void setFormatFilter(FormatFilter formatFilter) {
+        this.formatFilter = formatFilter;
+    }
+
+    /**
+     * Set default protocol of the returned urls to HTTP instead of HTTPS.
+     */
+    public void setDefaultHttpProtocol(boolean useHttp) {
+        this.useHttp = useHttp;
+    }
+}
@@ -0,0 +1,159 @@
+package com.dhruvtec.youtubeextractor;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extracts youtube videos without {@link android.os.AsyncTask}. Every call of
+ * {@link #extract(String, Callback)} returns a {@link Future} which can be waited on
+ * or cancelled.
+ * <p/>
+ * An extraction waiting for the WebView to decipher its signatures does not occupy a
+ * thread of the executor meanwhile. Cancelling aborts the downloads of the extraction
+ * and drops its signatures from the WebView, so videos the user scrolled past stop
+ * using bandwidth and threads. The callback of a cancelled extraction is not called.
+ */
+public class FutureExtractor {
+
+    public interface Callback {
+
+        /**
+         * Called on the main thread.
+         *
+         * @param youtubeLink the link or video id as passed to {@link FutureExtractor#extract(String, Callback)}
+         * @param ytFiles     the extracted files or null if the extraction failed
+         * @param videoMeta   the meta data of the video, may be null on errors
+         * @param errMsg      the error message or null
+         */
+        void onExtractionComplete(String youtubeLink, SparseArray<YtFile> ytFiles, VideoMeta videoMeta,
+                                  String errMsg);
+    }
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private static Executor defaultExecutor;
+
+    private final Context context;
+    private final Executor executor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private boolean includeWebM = true;
+    private FormatFilter formatFilter;
+    private boolean useHttp = false;
+    private boolean parseDashManifest = false;
+
+    /**
+     * Run the extractions on a pool shared by all instances.
+     */
+    public FutureExtractor(Context con) {
+        this(con, getDefaultExecutor());
+    }
+
+    public FutureExtractor(Context con, Executor executor) {
+        if (executor == null)
+            throw new NullPointerException("executor");
+        context = con;
+        this.executor = executor;
+    }
+
+    private static synchronized Executor getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(DEFAULT_PARALLELISM, DEFAULT_PARALLELISM,
+                    30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "FutureExtractor #" + count.incrementAndGet());
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                }
+            });
+            pool.allowCoreThreadTimeOut(true);
+            defaultExecutor = pool;
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Start the extraction.
+     *
+     * @param youtubeLink the youtube page link or video id
+     * @param callback    receives the result on the main thread, may be null if the
+     *                    future is used instead
+     * @return the running extraction, cancel it to abort it
+     */
+    public Future<ExtractionResult> extract(final String youtubeLink, final Callback callback) {
+        StreamExtractor extractor = YouTubeExtractor.newStreamExtractor(context);
+        extractor.setIncludeWebM(includeWebM);
+        extractor.setFormatFilter(formatFilter);
+        extractor.setParseDashManifest(parseDashManifest);
+        extractor.setDefaultHttpProtocol(useHttp);
+        final Future<?>[] future = new Future<?>[1];
+        ExtractionCallback extractionCallback = null;
+        if (callback != null) {
+            extractionCallback = new ExtractionCallback() {
+                @Override
+                public void onExtractionComplete(final ExtractionResult result) {
+                    final SparseArray<YtFile> ytFiles = YouTubeExtractor.toSparseArray(result.getYtFiles());
+                    mainHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            // It may have been cancelled after it completed
+                            synchronized (future) {
+                                if (future[0] != null && future[0].isCancelled())
+                                    return;
+                            }
+                            callback.onExtractionComplete(youtubeLink, ytFiles, result.getVideoMeta(),
+                                    result.getErrMsg());
+                        }
+                    });
+                }
+            };
+        }
+        Future<ExtractionResult> result = extractor.extractAsync(youtubeLink, executor, extractionCallback);
+        synchronized (future) {
+            future[0] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Parse the dash manifest for different dash streams and high quality audio. Default: false
+     */
+    public void setParseDashManifest(boolean parseDashManifest) {
+        this.parseDashManifest = parseDashManifest;
+    }
+
+    /**
+     * Include the webm format files into the result. Default: true
+     */
+    public void setIncludeWebM(boolean includeWebM) {
+        this.includeWebM = includeWebM;
+    }
+
+    /**
+     * Only extract the formats the filter accepts, e.g. a {@link FormatSelector}, which
+     * saves deciphering the signatures of the others. Default: null, all formats
+     */
+    public void setFormatFilter(FormatFilter formatFilter) {
+        this.formatFilter = formatFilter;
+    }
+
+    /**
+     * Set default protocol of the returned urls to HTTP instead of HTTPS.
+     */
+    public void setDefaultHttpProtocol(boolean useHttp) {
+        this.useHttp = useHttp;
+    }
+}
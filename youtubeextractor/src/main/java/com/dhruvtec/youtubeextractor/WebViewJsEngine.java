@@ -0,0 +1,53 @@
+package com.dhruvtec.youtubeextractor;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.evgenii.jsevaluator.JsEvaluator;
+import com.evgenii.jsevaluator.interfaces.JsCallback;
+
+/**
+ * Evaluates javascript in a WebView through {@link JsEvaluator}. The WebView has to be
+ * used from the main thread, so evaluations are posted to the main looper.
+ * <p/>
+ * The evaluator is created on the first evaluation and kept for the following ones,
+ * so only the first deciphering pays for starting the WebView.
+ */
+class WebViewJsEngine implements JsEngine {
+
+    private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    // Only used on the main thread
+    private JsEvaluator jsEvaluator;
+
+    WebViewJsEngine(Context context) {
+        this.context = context;
+    }
+
+    @Override
+    public void evaluate(final String script, final Callback callback) {
+        mainHandler.post(new Runnable() {
+
+            @Override
+            public void run() {
+                if (jsEvaluator == null)
+                    jsEvaluator = new JsEvaluator(context);
+                jsEvaluator.evaluate(script,
+                        new JsCallback() {
+                            @Override
+                            public void onResult(final String result) {
+                                callback.onResult(result);
+                            }
+
+                            @Override
+                            public void onError(String s) {
+                                callback.onError(s);
+                            }
+
+                        });
+            }
+        });
+    }
+}